@@ -0,0 +1,118 @@
+plugins {
+	id("jadx-java")
+}
+
+dependencies {
+	implementation(project(":jadx-core"))
+	implementation(project(":jadx-plugins:jadx-dex-input"))
+	implementation(testFixtures(project(":jadx-plugins:jadx-dex-input")))
+	implementation("io.github.yricky.oh:abcde-jvm:0.1.0-main-c3269ac")
+
+	implementation("org.openjdk.jmh:jmh-core:1.37")
+	annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+
+	runtimeOnly("ch.qos.logback:logback-classic:1.5.7")
+}
+
+// logging config for benchmarks and generator runs (kept out of jar resources)
+tasks.withType<JavaExec>().configureEach {
+	systemProperty("logback.configurationFile", file("config/logback.xml").absolutePath)
+}
+
+// Baseline build: modules jars built from another git revision (in separate worktree),
+// benchmarks classes stay the same, so only API available in both revisions can be used.
+val baselineModules = listOf("jadx-core", "jadx-plugins/jadx-input-api", "jadx-plugins/jadx-dex-input")
+val baselineRev = project.findProperty("jmh.baseline")?.toString()
+val baselineDir = layout.buildDirectory.dir("baseline/${baselineRev ?: "none"}").get().asFile
+
+val baselineWorktree by tasks.registering(Exec::class) {
+	group = "benchmark"
+	description = "Checkout baseline revision into worktree"
+	onlyIf { baselineRev != null && !baselineDir.exists() }
+	workingDir = rootDir
+	commandLine("git", "worktree", "add", "--force", "--detach", baselineDir.absolutePath, baselineRev ?: "HEAD")
+}
+
+val baselineJars by tasks.registering(Exec::class) {
+	group = "benchmark"
+	description = "Build modules jars for baseline revision"
+	dependsOn(baselineWorktree)
+	onlyIf { baselineRev != null }
+	workingDir = baselineDir
+	val gradlew = if (System.getProperty("os.name").startsWith("Windows")) "gradlew.bat" else "./gradlew"
+	val jarTasks = baselineModules.map { ":" + it.replace('/', ':') + ":jar" }
+	commandLine(listOf(gradlew, "-q") + jarTasks)
+}
+
+// Usage:
+//   ./gradlew :jadx-benchmarks:jmh
+//   ./gradlew :jadx-benchmarks:jmh -Pjmh.include=InsnDecode -Pjmh.input=/path/to/modules.abc
+//   ./gradlew :jadx-benchmarks:jmh -Pjmh.methods=100000 (use generated synthetic input)
+//   ./gradlew :jadx-benchmarks:jmh -Pjmh.include=InsnDecode -Pjmh.baseline=<git revision> (run with baseline build)
+// Results saved as JSON into 'build/reports/jmh' (one file per run) for comparing between runs.
+val jmh by tasks.registering(JavaExec::class) {
+	group = "benchmark"
+	description = "Run JMH benchmarks"
+	mainClass.set("org.openjdk.jmh.Main")
+	val runtimeClasspath = sourceSets.main.get().runtimeClasspath
+	if (baselineRev == null) {
+		classpath = runtimeClasspath
+	} else {
+		dependsOn(baselineJars)
+		val projectBuildDirs = baselineModules.map { rootDir.resolve(it).resolve("build") }
+		val baselineLibs = baselineModules.map { module ->
+			fileTree(baselineDir.resolve(module).resolve("build/libs")) {
+				include("*.jar")
+				exclude("*-sources.jar", "*-javadoc.jar")
+			}
+		}
+		// keep synthetic abc generator from test fixtures
+		classpath = files(baselineLibs) + runtimeClasspath.filter { file ->
+			file.name.endsWith("-test-fixtures.jar") || projectBuildDirs.none { file.startsWith(it) }
+		}
+	}
+
+	val resultsDir = layout.buildDirectory.dir("reports/jmh").get().asFile
+	val include = project.findProperty("jmh.include")?.toString()
+	val input = project.findProperty("jmh.input")?.toString()
+	val methods = project.findProperty("jmh.methods")?.toString()
+	val extraArgs = project.findProperty("jmh.args")?.toString()
+	doFirst {
+		resultsDir.mkdirs()
+		val resultFile = resultsDir.resolve("jmh-result-${System.currentTimeMillis()}.json")
+		val jmhArgs = mutableListOf("-rf", "json", "-rff", resultFile.absolutePath)
+		if (input != null) {
+			jmhArgs += listOf("-jvmArgsAppend", "-Djadx.bench.input=$input")
+		}
+		if (methods != null) {
+			jmhArgs += listOf("-jvmArgsAppend", "-Djadx.bench.methods=$methods")
+		}
+		if (extraArgs != null) {
+			jmhArgs += extraArgs.split(' ').filter { it.isNotBlank() }
+		}
+		if (include != null) {
+			jmhArgs += include
+		}
+		args = jmhArgs
+	}
+}
+
+// Generate synthetic abc file, for example:
+//   ./gradlew :jadx-benchmarks:generateAbc -Pgen.args="-o build/abc/1m.abc --classes 20000 --methods 50"
+val generateAbc by tasks.registering(JavaExec::class) {
+	group = "benchmark"
+	description = "Generate synthetic abc file"
+	classpath = sourceSets.main.get().runtimeClasspath
+	mainClass.set("jadx.plugins.input.dex.gen.AbcCorpusGenerator")
+	workingDir = projectDir
+	args = project.findProperty("gen.args")?.toString()?.split(' ')?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+val generateFixture by tasks.registering(JavaExec::class) {
+	group = "benchmark"
+	description = "Regenerate synthetic abc fixture used by benchmarks by default"
+	classpath = sourceSets.main.get().runtimeClasspath
+	mainClass.set("jadx.plugins.input.dex.gen.AbcCorpusGenerator")
+	workingDir = projectDir
+	args("-o", "src/main/resources/fixtures/synthetic.abc", "--seed", "1", "--classes", "50", "--methods", "8", "--insns", "30")
+}
@@ -0,0 +1,74 @@
+package jadx.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jadx.api.JadxDecompiler;
+import jadx.plugins.input.dex.DexFileLoader;
+import jadx.plugins.input.dex.DexInputOptions;
+import jadx.plugins.input.dex.DexReader;
+
+/**
+ * Input loading: file mapping, abc classes enumeration and class nodes creation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbcLoadBenchmark {
+
+	private File input;
+
+	@Setup
+	public void setup() {
+		input = BenchInput.getInputFile();
+	}
+
+	@Benchmark
+	public void loadAbc(Blackhole bh) throws IOException {
+		for (DexReader reader : loadReaders()) {
+			bh.consume(reader.getAbc().getClasses().size());
+			reader.close();
+		}
+	}
+
+	@Benchmark
+	public void enumerateClasses(Blackhole bh) throws IOException {
+		for (DexReader reader : loadReaders()) {
+			reader.visitClasses(cls -> {
+				bh.consume(cls.getType());
+				bh.consume(cls.getSuperType());
+			});
+			reader.close();
+		}
+	}
+
+	@Benchmark
+	public void loadClassNodes(Blackhole bh) {
+		try (JadxDecompiler decompiler = BenchInput.load(input)) {
+			bh.consume(decompiler.getRoot().getClasses().size());
+		}
+	}
+
+	private List<DexReader> loadReaders() {
+		DexFileLoader loader = new DexFileLoader(new DexInputOptions());
+		return loader.collectDexFiles(Collections.singletonList(input.toPath()));
+	}
+}
@@ -0,0 +1,134 @@
+package jadx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jadx.api.JadxArgs;
+import jadx.core.dex.info.ArkInfoStorage;
+import jadx.core.dex.info.ClassInfo;
+import jadx.core.dex.info.FieldInfo;
+import jadx.core.dex.info.MethodInfo;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.RootNode;
+
+/**
+ * Method and field infos lookup for Ark pseudo instructions at 1, 8 and 32 threads:
+ * <ul>
+ * <li>'ark' - {@link ArkInfoStorage} tables (current path)</li>
+ * <li>'infoStorage' - new info with new args list interned through {@code InfoStorage} (previous path)</li>
+ * </ul>
+ * One operation is a lookup of all helpers and properties from the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArkInfoBenchmark {
+
+	private static final String[] HELPERS = {
+			"callthis0", "callthis1", "callthis2", "callthis3", "callthisrange",
+			"callarg0", "callarg1", "callargs2", "callargs3", "callrange",
+			"newobjrange", "definefunc", "createarraywithbuffer", "createobjectwithbuffer",
+			"ldobjbyvalue", "stobjbyvalue", "trystglobalbyname", "typeof", "isIn", "throw"
+	};
+
+	private static final String[] PROPERTIES = {
+			"length", "push", "pop", "map", "filter", "value", "name", "id", "data", "text",
+			"width", "height", "color", "onClick", "build", "state", "items", "count", "index", "key",
+			"console", "log", "Math", "floor", "JSON", "stringify", "then", "catch", "resolve", "reject"
+	};
+
+	private static final int MAX_ARGC = 4;
+
+	private RootNode root;
+	private ArkInfoStorage arkInfoStorage;
+
+	@Setup
+	public void setup() {
+		root = new RootNode(new JadxArgs());
+		arkInfoStorage = root.getArkInfoStorage();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void ark1(Blackhole bh) {
+		arkLookup(bh);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void ark8(Blackhole bh) {
+		arkLookup(bh);
+	}
+
+	@Benchmark
+	@Threads(32)
+	public void ark32(Blackhole bh) {
+		arkLookup(bh);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void infoStorage1(Blackhole bh) {
+		infoStorageLookup(bh);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void infoStorage8(Blackhole bh) {
+		infoStorageLookup(bh);
+	}
+
+	@Benchmark
+	@Threads(32)
+	public void infoStorage32(Blackhole bh) {
+		infoStorageLookup(bh);
+	}
+
+	private void arkLookup(Blackhole bh) {
+		for (String helper : HELPERS) {
+			for (int argc = 0; argc <= MAX_ARGC; argc++) {
+				bh.consume(arkInfoStorage.getMethod(helper, argc));
+			}
+		}
+		for (String prop : PROPERTIES) {
+			bh.consume(arkInfoStorage.getField(prop));
+		}
+	}
+
+	/**
+	 * Same steps as {@code MethodInfo.fromAsm} and {@code FieldInfo.fromAsm} before {@link ArkInfoStorage}
+	 */
+	private void infoStorageLookup(Blackhole bh) {
+		for (String helper : HELPERS) {
+			for (int argc = 0; argc <= MAX_ARGC; argc++) {
+				ClassInfo declClass = ClassInfo.fromType(root, ArgType.parse("Object"));
+				List<ArgType> args = new ArrayList<>();
+				for (int i = 0; i < argc; i++) {
+					args.add(ArgType.parse("Object"));
+				}
+				bh.consume(MethodInfo.fromDetails(root, declClass, helper, args, ArgType.parse("Object")));
+			}
+		}
+		for (String prop : PROPERTIES) {
+			ClassInfo declClass = ClassInfo.fromName(root, "Object");
+			bh.consume(FieldInfo.from(root, declClass, prop, ArgType.parse("Object")));
+		}
+	}
+}
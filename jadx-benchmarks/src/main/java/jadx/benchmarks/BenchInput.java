@@ -0,0 +1,99 @@
+package jadx.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.plugins.input.dex.gen.AbcCorpusGenerator;
+import jadx.plugins.input.dex.gen.AbcGenOptions;
+
+/**
+ * Input for benchmarks:
+ * <ul>
+ * <li>file from {@code jadx.bench.input} system property (real {@code modules.abc})</li>
+ * <li>synthetic abc generated with methods count from {@code jadx.bench.methods} system property</li>
+ * <li>small synthetic fixture bundled into resources</li>
+ * </ul>
+ */
+public final class BenchInput {
+	public static final String INPUT_PROP = "jadx.bench.input";
+	public static final String METHODS_PROP = "jadx.bench.methods";
+
+	private static final int GEN_METHODS_PER_CLASS = 10;
+
+	private static final String FIXTURE_RES = "/fixtures/synthetic.abc";
+
+	public static File getInputFile() {
+		String input = System.getProperty(INPUT_PROP);
+		if (input != null && !input.isEmpty()) {
+			File file = new File(input);
+			if (!file.isFile()) {
+				throw new JadxRuntimeException("Benchmark input file not found: " + file.getAbsolutePath());
+			}
+			return file;
+		}
+		String methods = System.getProperty(METHODS_PROP);
+		if (methods != null && !methods.isEmpty()) {
+			return generate(Integer.parseInt(methods));
+		}
+		return extractFixture();
+	}
+
+	private static File generate(int methodsCount) {
+		AbcGenOptions opts = new AbcGenOptions();
+		opts.setMethodsPerClass(GEN_METHODS_PER_CLASS);
+		opts.setClassesCount(Math.max(1, methodsCount / GEN_METHODS_PER_CLASS));
+		try {
+			Path tmpFile = Files.createTempFile("jadx-bench-gen-", ".abc");
+			tmpFile.toFile().deleteOnExit();
+			new AbcCorpusGenerator(opts).writeTo(tmpFile);
+			return tmpFile.toFile();
+		} catch (IOException e) {
+			throw new JadxRuntimeException("Failed to generate benchmark input", e);
+		}
+	}
+
+	private static File extractFixture() {
+		try (InputStream in = BenchInput.class.getResourceAsStream(FIXTURE_RES)) {
+			if (in == null) {
+				throw new JadxRuntimeException("Fixture resource not found: " + FIXTURE_RES
+						+ ", set input file using '-D" + INPUT_PROP + "=<path>'");
+			}
+			Path tmpFile = Files.createTempFile("jadx-bench-", ".abc");
+			tmpFile.toFile().deleteOnExit();
+			Files.copy(in, tmpFile, StandardCopyOption.REPLACE_EXISTING);
+			return tmpFile.toFile();
+		} catch (IOException e) {
+			throw new JadxRuntimeException("Failed to extract benchmark fixture", e);
+		}
+	}
+
+	/**
+	 * Args for single threaded in-memory processing (no output, no caches)
+	 */
+	public static JadxArgs buildArgs(File input) {
+		JadxArgs args = new JadxArgs();
+		args.setInputFile(input);
+		args.setThreadsCount(1);
+		args.setSkipResources(true);
+		args.setFuseMethodPasses(false);
+		args.setDecodeCacheMemLimit(0);
+		args.setShowInconsistentCode(true);
+		return args;
+	}
+
+	public static JadxDecompiler load(File input) {
+		JadxDecompiler decompiler = new JadxDecompiler(buildArgs(input));
+		decompiler.load();
+		return decompiler;
+	}
+
+	private BenchInput() {
+	}
+}
@@ -0,0 +1,59 @@
+package jadx.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jadx.api.JadxDecompiler;
+import jadx.core.ProcessClass;
+import jadx.core.codegen.CodeGen;
+import jadx.core.dex.nodes.ClassNode;
+
+/**
+ * Code generation for already processed classes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodegenBenchmark {
+
+	private JadxDecompiler decompiler;
+	private List<ClassNode> classes;
+
+	@Setup
+	public void setup() {
+		decompiler = BenchInput.load(BenchInput.getInputFile());
+		classes = decompiler.getRoot().getClassesWithoutInner();
+		ProcessClass processClass = decompiler.getRoot().getProcessClasses();
+		for (ClassNode cls : classes) {
+			processClass.forceProcess(cls);
+		}
+	}
+
+	@TearDown
+	public void close() {
+		decompiler.close();
+	}
+
+	@Benchmark
+	public void generateCode(Blackhole bh) {
+		for (ClassNode cls : classes) {
+			bh.consume(CodeGen.generate(cls));
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package jadx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.core.dex.info.ClassInfo;
+import jadx.core.dex.info.FieldInfo;
+import jadx.core.dex.info.InfoStorage;
+import jadx.core.dex.info.MethodInfo;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.tasks.TaskExecutor;
+
+/**
+ * Contention on {@link InfoStorage}: all threads intern class, method and field infos of input classes
+ * (mostly already stored, as in decompilation passes).
+ * Threads count set through {@link JadxArgs#setThreadsCount(int)}, 'max' - available processors count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InfoStorageBenchmark {
+
+	/**
+	 * Classes processed by one task
+	 */
+	private static final int BATCH_SIZE = 16;
+
+	@Param({ "1", "4", "16", "max" })
+	public String threads;
+
+	private JadxDecompiler decompiler;
+	private RootNode root;
+	private List<List<ClassNode>> batches;
+
+	@Setup
+	public void setup() {
+		decompiler = BenchInput.load(BenchInput.getInputFile());
+		root = decompiler.getRoot();
+		int threadsCount = threads.equals("max") ? Runtime.getRuntime().availableProcessors() : Integer.parseInt(threads);
+		decompiler.getArgs().setThreadsCount(threadsCount);
+
+		List<ClassNode> classes = root.getClasses();
+		batches = new ArrayList<>();
+		for (int i = 0; i < classes.size(); i += BATCH_SIZE) {
+			batches.add(classes.subList(i, Math.min(classes.size(), i + BATCH_SIZE)));
+		}
+	}
+
+	@TearDown
+	public void close() {
+		decompiler.close();
+	}
+
+	@Benchmark
+	public void internInfos() {
+		List<Runnable> tasks = new ArrayList<>(batches.size());
+		for (List<ClassNode> batch : batches) {
+			tasks.add(() -> batch.forEach(this::internClassInfos));
+		}
+		TaskExecutor executor = new TaskExecutor();
+		executor.setThreadsCount(decompiler.getArgs().getThreadsCount());
+		executor.addParallelTasks(tasks);
+		executor.execute();
+		executor.awaitTermination();
+	}
+
+	private void internClassInfos(ClassNode cls) {
+		ClassInfo clsInfo = ClassInfo.fromType(root, cls.getType());
+		ClassInfo objCls = ClassInfo.fromType(root, ArgType.OBJECT);
+		for (MethodNode mth : cls.getMethods()) {
+			MethodInfo mthInfo = mth.getMethodInfo();
+			MethodInfo.fromDetails(root, clsInfo, mthInfo.getName(), mthInfo.getArgumentsTypes(), mthInfo.getReturnType());
+			// property access by method name
+			FieldInfo.from(root, objCls, mthInfo.getName(), ArgType.OBJECT);
+		}
+		for (FieldNode fld : cls.getFields()) {
+			FieldInfo.from(root, clsInfo, fld.getName(), fld.getType());
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package jadx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jadx.api.JadxDecompiler;
+import jadx.api.plugins.input.data.ICodeReader;
+import jadx.core.dex.instructions.InsnDecoder;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.InsnNode;
+import jadx.core.dex.nodes.MethodNode;
+
+/**
+ * Instructions decoding ({@link InsnDecoder#process(ICodeReader)}) for all methods of input.
+ * Score is decode of all methods per second, 'insns' counter - decoded instructions per second.
+ * <br>
+ * To compare with previous decoder run with baseline build: {@code -Pjmh.baseline=<git revision>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsnDecodeBenchmark {
+
+	private JadxDecompiler decompiler;
+	private List<MethodNode> methods;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class DecodedInsns {
+		public long insns;
+	}
+
+	@Setup
+	public void setup() {
+		decompiler = BenchInput.load(BenchInput.getInputFile());
+		methods = new ArrayList<>();
+		for (ClassNode cls : decompiler.getRoot().getClasses()) {
+			for (MethodNode mth : cls.getMethods()) {
+				if (mth.getCodeReader() != null) {
+					methods.add(mth);
+				}
+			}
+		}
+	}
+
+	@TearDown
+	public void close() {
+		decompiler.close();
+	}
+
+	@Benchmark
+	public void decodeMethods(DecodedInsns counter, Blackhole bh) {
+		long count = 0;
+		for (MethodNode mth : methods) {
+			ICodeReader codeReader = mth.getCodeReader();
+			InsnNode[] insns = new InsnDecoder(mth).process(codeReader);
+			for (InsnNode insn : insns) {
+				if (insn != null) {
+					count++;
+				}
+			}
+			bh.consume(insns);
+		}
+		counter.insns += count;
+	}
+}
@@ -0,0 +1,86 @@
+package jadx.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jadx.api.JadxDecompiler;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.visitors.DepthTraversal;
+import jadx.core.dex.visitors.IDexTreeVisitor;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Run one decompilation pass for all classes.
+ * Classes reloaded and all previous passes applied before each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PassesBenchmark {
+
+	@Param({ "BlockSplitter", "SSATransform", "RegionMakerVisitor" })
+	public String pass;
+
+	private JadxDecompiler decompiler;
+	private List<ClassNode> classes;
+	private List<IDexTreeVisitor> passes;
+	private int passIndex;
+
+	@Setup
+	public void setup() {
+		decompiler = BenchInput.load(BenchInput.getInputFile());
+		classes = decompiler.getRoot().getClassesWithoutInner();
+		passes = decompiler.getRoot().getPasses();
+		passIndex = -1;
+		for (int i = 0; i < passes.size(); i++) {
+			if (passes.get(i).getClass().getSimpleName().equals(pass)) {
+				passIndex = i;
+				break;
+			}
+		}
+		if (passIndex == -1) {
+			throw new JadxRuntimeException("Pass not found: " + pass + ", available: " + passes);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void prepareClasses() {
+		for (ClassNode cls : classes) {
+			cls.unload();
+			cls.load();
+			for (int i = 0; i < passIndex; i++) {
+				DepthTraversal.visit(passes.get(i), cls);
+			}
+		}
+	}
+
+	@TearDown
+	public void close() {
+		decompiler.close();
+	}
+
+	@Benchmark
+	public void runPass() {
+		IDexTreeVisitor visitor = passes.get(passIndex);
+		for (ClassNode cls : classes) {
+			DepthTraversal.visit(visitor, cls);
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package jadx.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jadx.api.utils.tasks.ITaskExecutor;
+import jadx.core.utils.tasks.TaskExecutor;
+import jadx.core.utils.tasks.VirtualThreads;
+
+/**
+ * Task executor stages:
+ * <ul>
+ * <li>'platform' - executor with platform threads only</li>
+ * <li>'virtual' - executor with I/O stages on virtual threads (used only on JDK 21+)</li>
+ * </ul>
+ * Only 'platform' is available in baseline build ({@code -Pjmh.baseline=<git revision>}),
+ * use it to compare with previous executor.
+ * I/O stage: each task writes small file, similar to resources save.
+ * CPU stage: tasks with uneven cost ordered from the most expensive, similar to decompilation batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskExecutorBenchmark {
+
+	@Param({ "platform", "virtual" })
+	public String executor;
+
+	@Param({ "1000" })
+	public int tasksCount;
+
+	@Param({ "16384" })
+	public int fileSize;
+
+	private Path tmpDir;
+	private byte[] data;
+	private int[] cpuCosts;
+
+	@Setup
+	public void setup() throws IOException {
+		if (useVirtualThreads() && !VirtualThreads.isSupported()) {
+			throw new IllegalStateException("Virtual threads not supported by current JVM");
+		}
+		tmpDir = Files.createTempDirectory("jadx-bench-io");
+		data = new byte[fileSize];
+		// few heavy tasks and many light, sorted by cost as in decompile scheduler
+		SplittableRandom rnd = new SplittableRandom(1);
+		cpuCosts = rnd.ints(tasksCount, 0, 100)
+				.map(v -> v < 5 ? 20_000 + v * 4_000 : 500 + v * 20)
+				.boxed()
+				.sorted(Comparator.reverseOrder())
+				.mapToInt(Integer::intValue)
+				.toArray();
+	}
+
+	@TearDown
+	public void cleanup() throws IOException {
+		try (Stream<Path> files = Files.list(tmpDir)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(tmpDir);
+	}
+
+	@Benchmark
+	public void runIoStage() {
+		List<Runnable> tasks = new ArrayList<>(tasksCount);
+		for (int i = 0; i < tasksCount; i++) {
+			Path file = tmpDir.resolve("file-" + i);
+			tasks.add(() -> {
+				try {
+					Files.write(file, data);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+		ITaskExecutor taskExecutor = buildExecutor();
+		if (useVirtualThreads()) {
+			taskExecutor.addParallelIoTasks(tasks);
+		} else {
+			taskExecutor.addParallelTasks(tasks);
+		}
+		taskExecutor.execute();
+		taskExecutor.awaitTermination();
+	}
+
+	@Benchmark
+	public void runCpuStage(Blackhole bh) {
+		List<Runnable> tasks = new ArrayList<>(tasksCount);
+		for (int cost : cpuCosts) {
+			tasks.add(() -> Blackhole.consumeCPU(cost));
+		}
+		ITaskExecutor taskExecutor = buildExecutor();
+		taskExecutor.addParallelTasks(tasks);
+		taskExecutor.execute();
+		taskExecutor.awaitTermination();
+		bh.consume(taskExecutor.getProgress());
+	}
+
+	private boolean useVirtualThreads() {
+		return executor.equals("virtual");
+	}
+
+	/**
+	 * Virtual threads API used only if requested, so benchmark also works with baseline build
+	 */
+	private ITaskExecutor buildExecutor() {
+		TaskExecutor taskExecutor = new TaskExecutor();
+		taskExecutor.setThreadsCount(Runtime.getRuntime().availableProcessors());
+		if (useVirtualThreads()) {
+			taskExecutor.setUseVirtualThreads(true);
+		}
+		return taskExecutor;
+	}
+}
@@ -0,0 +1,108 @@
+package jadx.benchmarks;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.api.JadxDecompiler;
+import jadx.api.plugins.input.data.ICodeReader;
+import jadx.core.dex.instructions.InsnDecoder;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.InsnNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.plugins.input.dex.gen.AbcCorpusGenerator;
+import jadx.plugins.input.dex.gen.AbcGenOptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbcCorpusGeneratorTest {
+
+	@TempDir
+	Path tmpDir;
+
+	@Test
+	public void loadGenerated() throws Exception {
+		AbcGenOptions opts = new AbcGenOptions();
+		opts.setClassesCount(20);
+		opts.setMethodsPerClass(6);
+		opts.setInsnsPerMethod(25);
+		opts.setTryCatchRate(0.5);
+		AbcCorpusGenerator generator = new AbcCorpusGenerator(opts);
+		Path abcFile = tmpDir.resolve("gen.abc");
+		generator.writeTo(abcFile);
+
+		Stats stats = loadAndDecode(abcFile.toFile());
+		assertThat(stats.classes).isEqualTo(20);
+		assertThat(stats.methods).isEqualTo(20 * 6);
+		assertThat(stats.insns).isEqualTo(generator.getInsnsCount());
+		assertThat(stats.decodedInsns).isEqualTo(generator.getInsnsCount());
+		assertThat(stats.errors).isZero();
+	}
+
+	@Test
+	public void sameOutputForSameOptions() throws Exception {
+		AbcGenOptions opts = new AbcGenOptions();
+		opts.setClassesCount(10);
+		Path first = tmpDir.resolve("first.abc");
+		Path second = tmpDir.resolve("second.abc");
+		new AbcCorpusGenerator(opts).writeTo(first);
+		new AbcCorpusGenerator(opts).writeTo(second);
+		assertThat(Files.readAllBytes(first)).isEqualTo(Files.readAllBytes(second));
+	}
+
+	/**
+	 * Checked-in fixture used by benchmarks by default (see 'generateFixture' task)
+	 */
+	@Test
+	public void loadFixture() throws Exception {
+		Path fixture = tmpDir.resolve("synthetic.abc");
+		try (InputStream in = AbcCorpusGeneratorTest.class.getResourceAsStream("/fixtures/synthetic.abc")) {
+			assertThat(in).isNotNull();
+			Files.copy(in, fixture);
+		}
+		Stats stats = loadAndDecode(fixture.toFile());
+		assertThat(stats.classes).isEqualTo(50);
+		assertThat(stats.methods).isEqualTo(50 * 8);
+		assertThat(stats.decodedInsns).isEqualTo(stats.insns);
+		assertThat(stats.errors).isZero();
+	}
+
+	private static Stats loadAndDecode(File input) {
+		Stats stats = new Stats();
+		try (JadxDecompiler decompiler = BenchInput.load(input)) {
+			for (ClassNode cls : decompiler.getRoot().getClasses()) {
+				stats.classes++;
+				for (MethodNode mth : cls.getMethods()) {
+					stats.methods++;
+					ICodeReader codeReader = mth.getCodeReader();
+					if (codeReader == null) {
+						continue;
+					}
+					AtomicLong count = new AtomicLong();
+					codeReader.visitInstructions(insn -> count.incrementAndGet());
+					stats.insns += count.get();
+					for (InsnNode insn : new InsnDecoder(mth).process(codeReader)) {
+						if (insn != null) {
+							stats.decodedInsns++;
+						}
+					}
+				}
+			}
+			stats.errors = decompiler.getErrorsCount();
+		}
+		return stats;
+	}
+
+	private static final class Stats {
+		long classes;
+		long methods;
+		long insns;
+		long decodedInsns;
+		long errors;
+	}
+}
@@ -21,7 +21,11 @@
 	runtimeOnly(project(":jadx-plugins:jadx-aab-input"))
 
 	implementation("org.jcommander:jcommander:1.84")
+	implementation("com.google.code.gson:gson:2.11.0")
 	implementation("ch.qos.logback:logback-classic:1.5.7")
+
+	// synthetic abc generator
+	testImplementation(testFixtures(project(":jadx-plugins:jadx-dex-input")))
 }
 
 application {
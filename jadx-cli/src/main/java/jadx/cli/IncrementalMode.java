@@ -0,0 +1,47 @@
+package jadx.cli;
+
+import java.io.File;
+import java.util.Collections;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.api.impl.NoOpCodeCache;
+import jadx.core.utils.diff.ChangesManifest;
+import jadx.core.utils.diff.IncrementalSave;
+import jadx.core.utils.exceptions.JadxArgsValidateException;
+import jadx.core.utils.files.FileUtils;
+import jadx.plugins.tools.JadxExternalPluginsLoader;
+
+public class IncrementalMode {
+	private static final Logger LOG = LoggerFactory.getLogger(IncrementalMode.class);
+
+	public static boolean process(JadxDecompiler jadx, JadxCLIArgs cliArgs) {
+		String diffBase = cliArgs.getDiffBase();
+		if (diffBase == null) {
+			return false;
+		}
+		String diffBaseSrc = cliArgs.getDiffBaseSrc();
+		if (diffBaseSrc == null) {
+			throw new JadxArgsValidateException("Option '--diff-base-src' required for '--diff-base'");
+		}
+		File baseSrcDir = FileUtils.toFile(diffBaseSrc);
+		if (!baseSrcDir.isDirectory()) {
+			throw new JadxArgsValidateException("Base sources dir not found: " + diffBaseSrc);
+		}
+		JadxArgs baseArgs = cliArgs.toJadxArgs();
+		baseArgs.setInputFiles(Collections.singletonList(FileUtils.toFile(diffBase)));
+		baseArgs.setSkipResources(true);
+		baseArgs.setCodeCache(new NoOpCodeCache());
+		baseArgs.setPluginLoader(new JadxExternalPluginsLoader());
+		try (JadxDecompiler base = new JadxDecompiler(baseArgs)) {
+			LOG.info("loading base version ...");
+			base.load();
+			ChangesManifest manifest = new IncrementalSave(jadx, baseSrcDir).process(base, () -> JadxCLI.save(jadx));
+			LOG.info("Reused code for {} unchanged classes", manifest.getReused());
+		}
+		return true;
+	}
+}
@@ -1,5 +1,6 @@
 package jadx.cli;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -9,8 +10,12 @@
 import jadx.api.impl.NoOpCodeCache;
 import jadx.api.impl.SimpleCodeWriter;
 import jadx.cli.LogHelper.LogLevelEnum;
+import jadx.cli.cache.ClassHashCodeCache;
+import jadx.core.utils.PassesFusionStats;
+import jadx.core.utils.diff.IncrementalSave;
 import jadx.core.utils.exceptions.JadxArgsValidateException;
 import jadx.core.utils.files.FileUtils;
+import jadx.core.utils.profile.PassesProfiler;
 import jadx.plugins.tools.JadxExternalPluginsLoader;
 
 public class JadxCLI {
@@ -53,8 +58,22 @@ private static int processAndSave(JadxCLIArgs cliArgs) {
 				return 1;
 			}
 			LogHelper.setLogLevelsForDecompileStage();
-			if (!SingleClassMode.process(jadx, cliArgs)) {
+			ClassHashCodeCache codeCache = initCodeCache(jadx, cliArgs);
+			if (!SingleClassMode.process(jadx, cliArgs) && !IncrementalMode.process(jadx, cliArgs)) {
 				save(jadx);
+				if (!jadxArgs.isSkipSources()) {
+					// allow to use output as base for incremental mode
+					IncrementalSave.saveCodeArgs(jadx);
+				}
+			}
+			if (codeCache != null) {
+				codeCache.printReport();
+			}
+			saveProfile(jadx, cliArgs);
+			if (jadx.getArgs().isFuseMethodPasses()) {
+				PassesFusionStats fusionStats = jadx.getRoot().getProcessClasses().getFusionStats();
+				fusionStats.stop();
+				LOG.info("Fused method passes: {}", fusionStats);
 			}
 			int errorsCount = jadx.getErrorsCount();
 			if (errorsCount != 0) {
@@ -67,6 +86,28 @@ private static int processAndSave(JadxCLIArgs cliArgs) {
 		return 0;
 	}
 
+	private static @Nullable ClassHashCodeCache initCodeCache(JadxDecompiler jadx, JadxCLIArgs cliArgs) {
+		String cacheDir = cliArgs.getCodeCacheDir();
+		if (cacheDir == null) {
+			return null;
+		}
+		JadxArgs jadxArgs = jadx.getArgs();
+		if (jadxArgs.getOutputFormat() != JadxArgs.OutputFormatEnum.JAVA) {
+			LOG.warn("Code cache supported only for java output format, ignoring option: --code-cache-dir");
+			return null;
+		}
+		ClassHashCodeCache codeCache = new ClassHashCodeCache(jadx.getRoot(), FileUtils.toPathWithTrim(cacheDir));
+		jadxArgs.setCodeCache(codeCache);
+		return codeCache;
+	}
+
+	private static void saveProfile(JadxDecompiler jadx, JadxCLIArgs cliArgs) {
+		PassesProfiler profiler = jadx.getRoot().getPassesProfiler();
+		if (profiler != null) {
+			profiler.save(FileUtils.toPathWithTrim(cliArgs.getProfilePasses()), cliArgs.getProfileTopCount());
+		}
+	}
+
 	private static void initCodeWriterProvider(JadxArgs jadxArgs) {
 		switch (jadxArgs.getOutputFormat()) {
 			case JAVA:
@@ -98,7 +139,7 @@ private static boolean checkForErrors(JadxDecompiler jadx) {
 		return false;
 	}
 
-	private static void save(JadxDecompiler jadx) {
+	static void save(JadxDecompiler jadx) {
 		if (LogHelper.getLogLevel() == LogLevelEnum.QUIET) {
 			jadx.save();
 		} else {
@@ -46,6 +46,9 @@ public class JadxCLIArgs {
 	@Parameter(names = { "-dr", "--output-dir-res" }, description = "output directory for resources")
 	protected String outDirRes;
 
+	@Parameter(names = { "--output-src-archive" }, description = "save sources into single zip or jar file")
+	protected String outSrcArchive;
+
 	@Parameter(names = { "-r", "--no-res" }, description = "do not decode resources")
 	protected boolean skipResources = false;
 
@@ -67,6 +70,24 @@ public class JadxCLIArgs {
 	@Parameter(names = { "-j", "--threads-count" }, description = "processing threads count")
 	protected int threadsCount = JadxArgs.DEFAULT_THREADS_COUNT;
 
+	@Parameter(names = { "--no-parallel-methods" }, description = "don't process methods of big classes in parallel")
+	protected boolean parallelMethods = true;
+
+	@Parameter(names = { "--io-threads-count" }, description = "threads count for writing sources files")
+	protected int ioThreadsCount = 2;
+
+	@Parameter(
+			names = { "--use-virtual-threads" },
+			description = "run I/O stages (resources save) on virtual threads, require Java 21+"
+	)
+	protected boolean useVirtualThreads = false;
+
+	@Parameter(
+			names = { "--tasks-time-stats" },
+			description = "print time stats (p50, p90, p99, max and tail) of parallel decompilation tasks"
+	)
+	protected boolean tasksTimeStats = false;
+
 	@Parameter(
 			names = { "-m", "--decompilation-mode" },
 			description = "code output mode:"
@@ -217,6 +238,57 @@ public class JadxCLIArgs {
 	@Parameter(names = { "--raw-cfg" }, description = "save methods control flow graph (use raw instructions)")
 	protected boolean rawCfgOutput = false;
 
+	@Parameter(
+			names = { "--profile-passes" },
+			description = "collect time and allocations per decompilation pass and method, save into file ('.json' or '.csv')"
+	)
+	protected String profilePasses = null;
+
+	@Parameter(names = { "--profile-top" }, description = "slowest classes and methods count to save in json profile")
+	protected int profileTopCount = 100;
+
+	@Parameter(
+			names = { "--dynamic-types" },
+			description = "fast types assign for dynamic code instead of full type inference"
+	)
+	protected boolean dynamicTypes = false;
+
+	@Parameter(
+			names = { "--fuse-method-passes" },
+			description = "run method passes chain for each method in turn and release analysis data early (lower memory usage)"
+	)
+	protected boolean fuseMethodPasses = false;
+
+	@Parameter(
+			names = { "--method-time-limit" },
+			description = "max processing time for one method in milliseconds, method generated in fallback mode on reach, 0 - no limit"
+	)
+	protected int methodTimeLimit = 0;
+
+	@Parameter(names = { "--method-insns-limit" }, description = "max decoded instructions count for decompile method, 0 - no limit")
+	protected int methodInsnsLimit = 0;
+
+	@Parameter(names = { "--method-blocks-limit" }, description = "max basic blocks count for decompile method, 0 - no limit")
+	protected int methodBlocksLimit = 0;
+
+	@Parameter(
+			names = { "--code-cache-dir" },
+			description = "directory for persistent code cache, unchanged classes will be loaded from cache on next run"
+	)
+	protected String codeCacheDir = null;
+
+	@Parameter(
+			names = { "--diff-base" },
+			description = "base version of input, decompile only changed classes and write changes manifest"
+	)
+	protected String diffBase = null;
+
+	@Parameter(
+			names = { "--diff-base-src" },
+			description = "sources output dir of base version, code for unchanged classes copied from here"
+	)
+	protected String diffBaseSrc = null;
+
 	@Parameter(names = { "-f", "--fallback" }, description = "set '--decompilation-mode' to 'fallback' (deprecated)")
 	protected boolean fallbackMode = false;
 
@@ -304,8 +376,19 @@ public JadxArgs toJadxArgs() {
 		args.setOutDir(FileUtils.toFile(outDir));
 		args.setOutDirSrc(FileUtils.toFile(outDirSrc));
 		args.setOutDirRes(FileUtils.toFile(outDirRes));
+		args.setOutSrcArchive(FileUtils.toFile(outSrcArchive));
 		args.setOutputFormat(JadxArgs.OutputFormatEnum.valueOf(outputFormat.toUpperCase()));
 		args.setThreadsCount(threadsCount);
+		args.setParallelMethods(parallelMethods);
+		args.setIoThreadsCount(ioThreadsCount);
+		args.setUseVirtualThreads(useVirtualThreads);
+		args.setTasksTimeStats(tasksTimeStats);
+		args.setFuseMethodPasses(fuseMethodPasses);
+		args.setDynamicTypes(dynamicTypes);
+		args.setProfilePasses(profilePasses != null);
+		args.setMethodTimeLimit(methodTimeLimit);
+		args.setMethodInsnsLimit(methodInsnsLimit);
+		args.setMethodBlocksLimit(methodBlocksLimit);
 		args.setSkipSources(skipSources);
 		args.setSkipResources(skipResources);
 		if (fallbackMode) {
@@ -367,6 +450,10 @@ public String getOutDirRes() {
 		return outDirRes;
 	}
 
+	public String getOutSrcArchive() {
+		return outSrcArchive;
+	}
+
 	public String getSingleClass() {
 		return singleClass;
 	}
@@ -387,6 +474,22 @@ public int getThreadsCount() {
 		return threadsCount;
 	}
 
+	public boolean isParallelMethods() {
+		return parallelMethods;
+	}
+
+	public int getIoThreadsCount() {
+		return ioThreadsCount;
+	}
+
+	public boolean isUseVirtualThreads() {
+		return useVirtualThreads;
+	}
+
+	public boolean isTasksTimeStats() {
+		return tasksTimeStats;
+	}
+
 	public boolean isFallbackMode() {
 		return fallbackMode;
 	}
@@ -495,6 +598,46 @@ public boolean isRawCfgOutput() {
 		return rawCfgOutput;
 	}
 
+	public String getProfilePasses() {
+		return profilePasses;
+	}
+
+	public int getProfileTopCount() {
+		return profileTopCount;
+	}
+
+	public boolean isDynamicTypes() {
+		return dynamicTypes;
+	}
+
+	public boolean isFuseMethodPasses() {
+		return fuseMethodPasses;
+	}
+
+	public int getMethodTimeLimit() {
+		return methodTimeLimit;
+	}
+
+	public int getMethodInsnsLimit() {
+		return methodInsnsLimit;
+	}
+
+	public int getMethodBlocksLimit() {
+		return methodBlocksLimit;
+	}
+
+	public String getCodeCacheDir() {
+		return codeCacheDir;
+	}
+
+	public String getDiffBase() {
+		return diffBase;
+	}
+
+	public String getDiffBaseSrc() {
+		return diffBaseSrc;
+	}
+
 	public boolean isReplaceConsts() {
 		return replaceConsts;
 	}
@@ -0,0 +1,347 @@
+package jadx.cli.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import jadx.core.utils.tasks.TasksTimeStats;
+
+/**
+ * Benchmark report model, serialized to JSON
+ */
+public class BenchmarkResult {
+	private String jadxVersion;
+	private String javaVersion;
+	private int availableProcessors;
+	private long maxHeap;
+	private List<String> inputs;
+	private int warmup;
+	private int iterations;
+	private final List<ThreadsRun> runs = new ArrayList<>();
+
+	public String getJadxVersion() {
+		return jadxVersion;
+	}
+
+	public void setJadxVersion(String jadxVersion) {
+		this.jadxVersion = jadxVersion;
+	}
+
+	public String getJavaVersion() {
+		return javaVersion;
+	}
+
+	public void setJavaVersion(String javaVersion) {
+		this.javaVersion = javaVersion;
+	}
+
+	public int getAvailableProcessors() {
+		return availableProcessors;
+	}
+
+	public void setAvailableProcessors(int availableProcessors) {
+		this.availableProcessors = availableProcessors;
+	}
+
+	public long getMaxHeap() {
+		return maxHeap;
+	}
+
+	public void setMaxHeap(long maxHeap) {
+		this.maxHeap = maxHeap;
+	}
+
+	public List<String> getInputs() {
+		return inputs;
+	}
+
+	public void setInputs(List<String> inputs) {
+		this.inputs = inputs;
+	}
+
+	public int getWarmup() {
+		return warmup;
+	}
+
+	public void setWarmup(int warmup) {
+		this.warmup = warmup;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	public void setIterations(int iterations) {
+		this.iterations = iterations;
+	}
+
+	public List<ThreadsRun> getRuns() {
+		return runs;
+	}
+
+	/**
+	 * Measured iterations for one threads count
+	 */
+	public static class ThreadsRun {
+		private final int threads;
+		private final List<Iteration> iterations = new ArrayList<>();
+		/**
+		 * Median values of measured iterations
+		 */
+		private Iteration median;
+
+		public ThreadsRun(int threads) {
+			this.threads = threads;
+		}
+
+		public int getThreads() {
+			return threads;
+		}
+
+		public List<Iteration> getIterations() {
+			return iterations;
+		}
+
+		public Iteration getMedian() {
+			return median;
+		}
+
+		public void calcMedian() {
+			if (iterations.isEmpty()) {
+				return;
+			}
+			Iteration m = new Iteration();
+			m.classes = median(Iteration::getClasses);
+			m.methods = median(Iteration::getMethods);
+			m.insns = median(Iteration::getInsns);
+			m.loadMs = median(Iteration::getLoadMs);
+			m.prepareMs = median(Iteration::getPrepareMs);
+			m.processMs = median(Iteration::getProcessMs);
+			m.totalMs = median(Iteration::getTotalMs);
+			m.taskP50Ms = median(Iteration::getTaskP50Ms);
+			m.taskP90Ms = median(Iteration::getTaskP90Ms);
+			m.taskP99Ms = median(Iteration::getTaskP99Ms);
+			m.taskMaxMs = median(Iteration::getTaskMaxMs);
+			m.tailMs = median(Iteration::getTailMs);
+			m.classesPerSec = median(Iteration::getClassesPerSec);
+			m.methodsPerSec = median(Iteration::getMethodsPerSec);
+			m.insnsPerSec = median(Iteration::getInsnsPerSec);
+			m.peakHeap = median(Iteration::getPeakHeap);
+			m.gcTimeMs = median(Iteration::getGcTimeMs);
+			m.gcCount = median(Iteration::getGcCount);
+			m.errors = median(Iteration::getErrors);
+			this.median = m;
+		}
+
+		private long median(ToLongFunction<Iteration> getter) {
+			long[] values = iterations.stream().mapToLong(getter).sorted().toArray();
+			int mid = values.length / 2;
+			return values.length % 2 == 1 ? values[mid] : (values[mid - 1] + values[mid]) / 2;
+		}
+
+		private double median(ToDoubleFunction<Iteration> getter) {
+			double[] values = iterations.stream().mapToDouble(getter).sorted().toArray();
+			int mid = values.length / 2;
+			return values.length % 2 == 1 ? values[mid] : (values[mid - 1] + values[mid]) / 2;
+		}
+	}
+
+	/**
+	 * Single pipeline run: load, prepare, process (decompile and save)
+	 */
+	public static class Iteration {
+		private long classes;
+		private long methods;
+		/**
+		 * Input instructions count (from code reader)
+		 */
+		private long insns;
+
+		private long loadMs;
+		private long prepareMs;
+		private long processMs;
+		private long totalMs;
+
+		/**
+		 * Decompile stage tasks (one class with dependencies) time percentiles
+		 */
+		private long taskP50Ms;
+		private long taskP90Ms;
+		private long taskP99Ms;
+		private long taskMaxMs;
+		/**
+		 * Decompile stage time from first idle thread to finish
+		 */
+		private long tailMs;
+
+		private double classesPerSec;
+		private double methodsPerSec;
+		private double insnsPerSec;
+
+		/**
+		 * Max of total used heap (in bytes) sampled every 10 ms
+		 */
+		private long peakHeap;
+		private long gcTimeMs;
+		private long gcCount;
+		private long errors;
+
+		public long getClasses() {
+			return classes;
+		}
+
+		public void setClasses(long classes) {
+			this.classes = classes;
+		}
+
+		public long getMethods() {
+			return methods;
+		}
+
+		public void setMethods(long methods) {
+			this.methods = methods;
+		}
+
+		public long getInsns() {
+			return insns;
+		}
+
+		public void setInsns(long insns) {
+			this.insns = insns;
+		}
+
+		public long getLoadMs() {
+			return loadMs;
+		}
+
+		public void setLoadMs(long loadMs) {
+			this.loadMs = loadMs;
+		}
+
+		public long getPrepareMs() {
+			return prepareMs;
+		}
+
+		public void setPrepareMs(long prepareMs) {
+			this.prepareMs = prepareMs;
+		}
+
+		public long getProcessMs() {
+			return processMs;
+		}
+
+		public void setProcessMs(long processMs) {
+			this.processMs = processMs;
+		}
+
+		public long getTotalMs() {
+			return totalMs;
+		}
+
+		public void setTotalMs(long totalMs) {
+			this.totalMs = totalMs;
+		}
+
+		public long getTaskP50Ms() {
+			return taskP50Ms;
+		}
+
+		public long getTaskP90Ms() {
+			return taskP90Ms;
+		}
+
+		public long getTaskP99Ms() {
+			return taskP99Ms;
+		}
+
+		public long getTaskMaxMs() {
+			return taskMaxMs;
+		}
+
+		public long getTailMs() {
+			return tailMs;
+		}
+
+		public void setTasksStats(TasksTimeStats stats) {
+			taskP50Ms = toMs(stats.getPercentile(50));
+			taskP90Ms = toMs(stats.getPercentile(90));
+			taskP99Ms = toMs(stats.getPercentile(99));
+			taskMaxMs = toMs(stats.getMax());
+			tailMs = toMs(stats.getTail());
+		}
+
+		private static long toMs(long nanos) {
+			return TimeUnit.NANOSECONDS.toMillis(nanos);
+		}
+
+		public double getClassesPerSec() {
+			return classesPerSec;
+		}
+
+		public double getMethodsPerSec() {
+			return methodsPerSec;
+		}
+
+		public double getInsnsPerSec() {
+			return insnsPerSec;
+		}
+
+		/**
+		 * Calculate throughput using total time
+		 */
+		public void calcRates() {
+			double secs = Math.max(totalMs, 1) / 1000.0;
+			classesPerSec = classes / secs;
+			methodsPerSec = methods / secs;
+			insnsPerSec = insns / secs;
+		}
+
+		public long getPeakHeap() {
+			return peakHeap;
+		}
+
+		public void setPeakHeap(long peakHeap) {
+			this.peakHeap = peakHeap;
+		}
+
+		public long getGcTimeMs() {
+			return gcTimeMs;
+		}
+
+		public void setGcTimeMs(long gcTimeMs) {
+			this.gcTimeMs = gcTimeMs;
+		}
+
+		public long getGcCount() {
+			return gcCount;
+		}
+
+		public void setGcCount(long gcCount) {
+			this.gcCount = gcCount;
+		}
+
+		public long getErrors() {
+			return errors;
+		}
+
+		public void setErrors(long errors) {
+			this.errors = errors;
+		}
+
+		@Override
+		public String toString() {
+			return "total: " + totalMs + " ms"
+					+ " (load: " + loadMs
+					+ ", prepare: " + prepareMs
+					+ ", process: " + processMs + ")"
+					+ ", tasks p50/p90/p99/max: " + taskP50Ms + '/' + taskP90Ms + '/' + taskP99Ms + '/' + taskMaxMs + " ms"
+					+ ", tail: " + tailMs + " ms"
+					+ String.format(", %.1f classes/s, %.1f methods/s, %.0f insns/s", classesPerSec, methodsPerSec, insnsPerSec)
+					+ ", peak heap: " + peakHeap / (1024 * 1024) + " MB"
+					+ ", gc: " + gcTimeMs + " ms (" + gcCount + ")"
+					+ (errors != 0 ? ", errors: " + errors : "");
+		}
+	}
+}
@@ -0,0 +1,190 @@
+package jadx.cli.benchmark;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.api.impl.NoOpCodeCache;
+import jadx.api.impl.SimpleCodeWriter;
+import jadx.api.plugins.input.data.ICodeReader;
+import jadx.api.utils.tasks.ITaskExecutor;
+import jadx.cli.benchmark.BenchmarkResult.Iteration;
+import jadx.cli.benchmark.BenchmarkResult.ThreadsRun;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.HeapSampler;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.FileUtils;
+import jadx.core.utils.tasks.TaskExecutor;
+import jadx.core.utils.tasks.TasksTimeStats;
+import jadx.plugins.tools.JadxExternalPluginsLoader;
+
+/**
+ * Run full decompilation pipeline several times and collect timings and memory stats.
+ * <br>
+ * Stages measured separately:
+ * <ul>
+ * <li>load - input files parsing, classes loading and pre-decompile passes</li>
+ * <li>prepare - build save tasks, including decompilation batches (dependencies resolve)</li>
+ * <li>process - decompile classes in parallel threads and write code into output directory</li>
+ * </ul>
+ * Same save pipeline as usual run used ({@link JadxDecompiler#getSaveTaskExecutor()}),
+ * so code written by I/O threads while decompilation continues.
+ */
+public class BenchmarkRunner {
+
+	private final List<File> inputs;
+	private final int warmup;
+	private final int iterations;
+	private final Path outDir;
+	private final PrintStream progressOut;
+
+	public BenchmarkRunner(List<File> inputs, int warmup, int iterations, Path outDir, PrintStream progressOut) {
+		this.inputs = inputs;
+		this.warmup = warmup;
+		this.iterations = iterations;
+		this.outDir = outDir;
+		this.progressOut = progressOut;
+	}
+
+	public BenchmarkResult run(List<Integer> threadsList) {
+		BenchmarkResult result = new BenchmarkResult();
+		result.setJadxVersion(JadxDecompiler.getVersion());
+		result.setJavaVersion(System.getProperty("java.version"));
+		result.setAvailableProcessors(Runtime.getRuntime().availableProcessors());
+		result.setMaxHeap(Runtime.getRuntime().maxMemory());
+		List<String> inputNames = new ArrayList<>(inputs.size());
+		for (File input : inputs) {
+			inputNames.add(input.getAbsolutePath());
+		}
+		result.setInputs(inputNames);
+		result.setWarmup(warmup);
+		result.setIterations(iterations);
+		for (int threads : threadsList) {
+			result.getRuns().add(runWithThreads(threads));
+		}
+		return result;
+	}
+
+	private ThreadsRun runWithThreads(int threads) {
+		ThreadsRun run = new ThreadsRun(threads);
+		for (int i = 1; i <= warmup; i++) {
+			Iteration iteration = runIteration(threads);
+			progressOut.println("threads: " + threads + ", warmup " + i + "/" + warmup + ": " + iteration);
+		}
+		for (int i = 1; i <= iterations; i++) {
+			Iteration iteration = runIteration(threads);
+			progressOut.println("threads: " + threads + ", iteration " + i + "/" + iterations + ": " + iteration);
+			run.getIterations().add(iteration);
+		}
+		run.calcMedian();
+		return run;
+	}
+
+	private Iteration runIteration(int threads) {
+		File iterOutDir = outDir.resolve("threads-" + threads).toFile();
+		FileUtils.deleteDirIfExists(iterOutDir.toPath());
+		JadxArgs args = buildArgs(threads, iterOutDir);
+		// start from clean heap, so previous iteration garbage not counted
+		System.gc();
+		long gcTimeStart = getGcTime();
+		long gcCountStart = getGcCount();
+
+		Iteration iteration = new Iteration();
+		try (JadxDecompiler jadx = new JadxDecompiler(args);
+				HeapSampler heapSampler = new HeapSampler()) {
+			long start = System.nanoTime();
+			jadx.load();
+			long loaded = System.nanoTime();
+
+			if (jadx.getClasses().isEmpty()) {
+				throw new JadxRuntimeException("No classes loaded from inputs");
+			}
+			ITaskExecutor executor = jadx.getSaveTaskExecutor();
+			long prepared = System.nanoTime();
+
+			executor.execute();
+			executor.awaitTermination();
+			long processed = System.nanoTime();
+
+			iteration.setLoadMs(toMs(loaded - start));
+			iteration.setPrepareMs(toMs(prepared - loaded));
+			iteration.setProcessMs(toMs(processed - prepared));
+			iteration.setTotalMs(toMs(processed - start));
+			if (executor instanceof TaskExecutor) {
+				for (TasksTimeStats stats : ((TaskExecutor) executor).getTimeStats()) {
+					iteration.setTasksStats(stats);
+				}
+			}
+			iteration.setPeakHeap(heapSampler.getPeak());
+			iteration.setGcTimeMs(getGcTime() - gcTimeStart);
+			iteration.setGcCount(getGcCount() - gcCountStart);
+			iteration.setErrors(jadx.getErrorsCount());
+			countNodes(jadx, iteration);
+			iteration.calcRates();
+		}
+		return iteration;
+	}
+
+	private JadxArgs buildArgs(int threads, File iterOutDir) {
+		JadxArgs args = new JadxArgs();
+		args.setInputFiles(new ArrayList<>(inputs));
+		args.setOutDir(iterOutDir);
+		args.setThreadsCount(threads);
+		args.setSkipResources(true);
+		args.setTasksTimeStats(true);
+		args.setCodeCache(new NoOpCodeCache());
+		args.setCodeWriterProvider(SimpleCodeWriter::new);
+		args.setPluginLoader(new JadxExternalPluginsLoader());
+		return args;
+	}
+
+	/**
+	 * Count input instructions using code reader ({@link MethodNode#getInsnsCount()} is a code size in units)
+	 */
+	private static void countNodes(JadxDecompiler jadx, Iteration iteration) {
+		long classes = 0;
+		long methods = 0;
+		long[] insns = new long[1];
+		for (ClassNode cls : jadx.getRoot().getClasses()) {
+			classes++;
+			for (MethodNode mth : cls.getMethods()) {
+				methods++;
+				ICodeReader codeReader = mth.getCodeReader();
+				if (codeReader != null) {
+					codeReader.visitInstructions(insn -> insns[0]++);
+				}
+			}
+		}
+		iteration.setClasses(classes);
+		iteration.setMethods(methods);
+		iteration.setInsns(insns[0]);
+	}
+
+	private static long getGcTime() {
+		long time = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			time += Math.max(gc.getCollectionTime(), 0);
+		}
+		return time;
+	}
+
+	private static long getGcCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(gc.getCollectionCount(), 0);
+		}
+		return count;
+	}
+
+	private static long toMs(long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos);
+	}
+}
@@ -0,0 +1,188 @@
+package jadx.cli.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.ICodeCache;
+import jadx.api.ICodeInfo;
+import jadx.api.impl.SimpleCodeInfo;
+import jadx.core.Jadx;
+import jadx.core.dex.attributes.AType;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Persistent code cache for CLI.
+ * <br>
+ * Class code saved in file named by hash of class content (provided by input plugin)
+ * and options affecting generated code, so unchanged classes can be reused between runs on different inputs.
+ * Only code string is stored, so cache can't be used for JSON output.
+ * Classes with errors are not cached to keep errors report complete.
+ */
+public class ClassHashCodeCache implements ICodeCache {
+	private static final Logger LOG = LoggerFactory.getLogger(ClassHashCodeCache.class);
+
+	private static final int DATA_FORMAT_VERSION = 1;
+
+	private final RootNode root;
+	private final Path srcDir;
+	private final String codeVersion;
+	private final Map<String, String> keysMap = new ConcurrentHashMap<>();
+
+	private final AtomicInteger hits = new AtomicInteger();
+	private final AtomicInteger misses = new AtomicInteger();
+	private final AtomicInteger skipped = new AtomicInteger();
+
+	public ClassHashCodeCache(RootNode root, Path cacheDir) {
+		this.root = root;
+		this.srcDir = cacheDir.resolve("sources");
+		this.codeVersion = DATA_FORMAT_VERSION
+				+ ":" + Jadx.getVersion()
+				+ ":" + root.getArgs().makeCodeArgsHash(root.getDecompiler());
+		FileUtils.makeDirs(srcDir);
+		LOG.info("Using code cache dir: {}", cacheDir.toAbsolutePath());
+	}
+
+	@Override
+	public void add(String clsFullName, ICodeInfo codeInfo) {
+		String key = getKey(clsFullName);
+		if (key == null) {
+			return;
+		}
+		ClassNode cls = root.resolveRawClass(clsFullName);
+		if (cls == null || hasErrors(cls)) {
+			skipped.incrementAndGet();
+			return;
+		}
+		Path file = getCodeFile(key);
+		if (Files.exists(file)) {
+			return;
+		}
+		try {
+			// write into temp file and move to avoid partial files on crash
+			FileUtils.makeDirsForFile(file);
+			Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp" + Thread.currentThread().getId());
+			FileUtils.writeFile(tmpFile, codeInfo.getCodeStr());
+			Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (Exception e) {
+			LOG.warn("Failed to save code cache for class: {}", clsFullName, e);
+		}
+	}
+
+	@Override
+	public @NotNull ICodeInfo get(String clsFullName) {
+		String code = getCode(clsFullName);
+		if (code == null) {
+			return ICodeInfo.EMPTY;
+		}
+		return new SimpleCodeInfo(code);
+	}
+
+	@Override
+	public @Nullable String getCode(String clsFullName) {
+		String key = getKey(clsFullName);
+		if (key == null) {
+			skipped.incrementAndGet();
+			return null;
+		}
+		Path file = getCodeFile(key);
+		if (Files.exists(file)) {
+			try {
+				String code = FileUtils.readFile(file);
+				hits.incrementAndGet();
+				return code;
+			} catch (Exception e) {
+				LOG.warn("Failed to read code cache for class: {}", clsFullName, e);
+			}
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	@Override
+	public boolean contains(String clsFullName) {
+		String key = getKey(clsFullName);
+		return key != null && Files.exists(getCodeFile(key));
+	}
+
+	@Override
+	public void remove(String clsFullName) {
+		// class code can be changed only by new input, so keep cached files for other runs
+		keysMap.remove(clsFullName);
+	}
+
+	private @Nullable String getKey(String clsFullName) {
+		String key = keysMap.get(clsFullName);
+		if (key != null) {
+			return key;
+		}
+		ClassNode cls = root.resolveRawClass(clsFullName);
+		if (cls == null) {
+			return null;
+		}
+		String clsHash = cls.getContentHash();
+		if (clsHash == null) {
+			return null;
+		}
+		key = FileUtils.md5Sum(codeVersion + ':' + clsFullName + ':' + clsHash);
+		keysMap.put(clsFullName, key);
+		return key;
+	}
+
+	private static boolean hasErrors(ClassNode cls) {
+		if (cls.contains(AType.JADX_ERROR)) {
+			return true;
+		}
+		for (MethodNode mth : cls.getMethods()) {
+			if (mth.contains(AType.JADX_ERROR)) {
+				return true;
+			}
+		}
+		for (FieldNode fld : cls.getFields()) {
+			if (fld.contains(AType.JADX_ERROR)) {
+				return true;
+			}
+		}
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			if (hasErrors(innerCls)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Path getCodeFile(String key) {
+		// spread files between 256 top level folders
+		return srcDir.resolve(key.substring(0, 2)).resolve(key + ".java");
+	}
+
+	public int getHits() {
+		return hits.get();
+	}
+
+	public int getMisses() {
+		return misses.get();
+	}
+
+	public void printReport() {
+		LOG.info("Code cache hits: {}, misses: {}, not cacheable: {}", hits.get(), misses.get(), skipped.get());
+	}
+
+	@Override
+	public void close() throws IOException {
+		keysMap.clear();
+	}
+}
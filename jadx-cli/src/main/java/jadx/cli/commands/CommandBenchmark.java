@@ -0,0 +1,128 @@
+package jadx.cli.commands;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import jadx.api.JadxArgs;
+import jadx.cli.JCommanderWrapper;
+import jadx.cli.LogHelper;
+import jadx.cli.benchmark.BenchmarkResult;
+import jadx.cli.benchmark.BenchmarkRunner;
+import jadx.core.utils.exceptions.JadxArgsValidateException;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.FileUtils;
+
+@Parameters(commandDescription = "measure decompilation throughput (load, prepare, decompile and save)")
+public class CommandBenchmark implements ICommand {
+
+	@Parameter(description = "<input files>")
+	protected List<String> files = new ArrayList<>();
+
+	@Parameter(names = { "-w", "--warmup" }, description = "warmup iterations count (for each threads count)")
+	protected int warmup = 1;
+
+	@Parameter(names = { "-n", "--iterations" }, description = "measured iterations count (for each threads count)")
+	protected int iterations = 3;
+
+	@Parameter(names = { "-j", "--threads" }, description = "comma separated list of processing threads counts, example: 1,8,64"
+			+ " (default: half of available processors)")
+	protected List<Integer> threads = new ArrayList<>();
+
+	@Parameter(names = { "-d", "--output-dir" }, description = "output directory for decompiled sources, temporary by default")
+	protected String outDir;
+
+	@Parameter(names = { "-o", "--report" }, description = "save JSON report into file, print to stdout if not set")
+	protected String report;
+
+	@Parameter(names = { "-h", "--help" }, description = "print this help", help = true)
+	protected boolean printHelp = false;
+
+	@Override
+	public String name() {
+		return "benchmark";
+	}
+
+	@Override
+	public void process(JCommanderWrapper<?> jcw, JCommander subCommander) {
+		if (printHelp || files.isEmpty()) {
+			jcw.printUsage(subCommander);
+			return;
+		}
+		validate();
+		List<File> inputs = new ArrayList<>(files.size());
+		for (String fileName : files) {
+			File file = FileUtils.toFile(fileName);
+			if (!file.exists()) {
+				throw new JadxArgsValidateException("File not found: " + file.getAbsolutePath());
+			}
+			inputs.add(file);
+		}
+		// keep output clean: only iterations summary and report
+		LogHelper.setLogLevel(LogHelper.LogLevelEnum.ERROR);
+
+		boolean tmpOutDir = outDir == null;
+		Path outPath = tmpOutDir ? FileUtils.createTempDir("benchmark") : FileUtils.toPathWithTrim(outDir);
+		// JSON report printed to stdout, so move progress to stderr
+		PrintStream progressOut = report == null ? System.err : System.out;
+		BenchmarkResult result;
+		try {
+			BenchmarkRunner runner = new BenchmarkRunner(inputs, warmup, iterations, outPath, progressOut);
+			result = runner.run(threads);
+		} finally {
+			if (tmpOutDir) {
+				FileUtils.deleteDirIfExists(outPath);
+			}
+		}
+
+		for (BenchmarkResult.ThreadsRun run : result.getRuns()) {
+			progressOut.println("threads: " + run.getThreads() + ", median: " + run.getMedian());
+		}
+		Gson gson = new GsonBuilder()
+				.setPrettyPrinting()
+				.disableHtmlEscaping()
+				.create();
+		if (report == null) {
+			System.out.println(gson.toJson(result));
+		} else {
+			Path reportFile = FileUtils.toPathWithTrim(report);
+			FileUtils.makeDirsForFile(reportFile);
+			try (Writer writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+				gson.toJson(result, writer);
+			} catch (IOException e) {
+				throw new JadxRuntimeException("Failed to save benchmark report: " + reportFile, e);
+			}
+			System.out.println("Report saved to " + reportFile.toAbsolutePath());
+		}
+	}
+
+	private void validate() {
+		if (warmup < 0) {
+			throw new JadxArgsValidateException("Warmup iterations count can't be negative");
+		}
+		if (iterations < 1) {
+			throw new JadxArgsValidateException("Iterations count should be positive");
+		}
+		if (threads.isEmpty()) {
+			threads = Collections.singletonList(JadxArgs.DEFAULT_THREADS_COUNT);
+		}
+		for (int count : threads) {
+			if (count < 1) {
+				throw new JadxArgsValidateException("Threads count should be positive: " + count);
+			}
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package jadx.cli;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import jadx.core.utils.diff.IncrementalSave;
+import jadx.plugins.input.dex.gen.AbcCorpusGenerator;
+import jadx.plugins.input.dex.gen.AbcGenOptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncrementalModeTest {
+	private static final int CLASSES_COUNT = 30;
+
+	@TempDir
+	Path tmpDir;
+
+	@Test
+	public void testOneClassChanged() throws Exception {
+		Path baseInput = generate("base.abc", -1);
+		Path curInput = generate("cur.abc", 7);
+		Path baseOut = saveBase(baseInput);
+
+		Path curOut = tmpDir.resolve("cur-out");
+		int curResult = JadxCLI.execute(new String[] {
+				"-d", curOut.toString(),
+				"--diff-base", baseInput.toString(),
+				"--diff-base-src", baseOut.resolve("sources").toString(),
+				curInput.toString()
+		});
+		assertThat(curResult).isEqualTo(0);
+
+		JsonObject manifest = loadManifest(curOut);
+		assertThat(manifest.getAsJsonArray("added")).isEmpty();
+		assertThat(manifest.getAsJsonArray("removed")).isEmpty();
+		JsonArray modified = manifest.getAsJsonArray("modified");
+		assertThat(modified).hasSize(1);
+		assertThat(modified.get(0).getAsJsonObject().get("name").getAsString()).contains("module0000007");
+
+		// next class in region defines function of changed class
+		List<String> dependent = toList(manifest.getAsJsonArray("dependent"));
+		assertThat(dependent).hasSize(1);
+		assertThat(dependent.get(0)).contains("module0000008");
+		assertThat(manifest.get("reused").getAsInt()).isEqualTo(CLASSES_COUNT - 2);
+
+		// all classes saved, reused files copied as is
+		List<Path> baseFiles = listFiles(baseOut.resolve("sources"));
+		List<Path> curFiles = listFiles(curOut.resolve("sources"));
+		assertThat(curFiles).isEqualTo(baseFiles);
+		for (Path file : curFiles) {
+			String name = file.toString();
+			if (!name.contains("module0000007") && !name.contains("module0000008")) {
+				assertThat(Files.readAllBytes(curOut.resolve("sources").resolve(file)))
+						.as("Content of reused file %s", file)
+						.isEqualTo(Files.readAllBytes(baseOut.resolve("sources").resolve(file)));
+			}
+		}
+	}
+
+	@Test
+	public void testCodeArgsChanged() throws Exception {
+		Path baseInput = generate("base.abc", -1);
+		Path curInput = generate("cur.abc", 7);
+		Path baseOut = saveBase(baseInput);
+
+		Path curOut = tmpDir.resolve("cur-out");
+		int curResult = JadxCLI.execute(new String[] {
+				"-d", curOut.toString(),
+				"--no-imports",
+				"--diff-base", baseInput.toString(),
+				"--diff-base-src", baseOut.resolve("sources").toString(),
+				curInput.toString()
+		});
+		assertThat(curResult).isEqualTo(0);
+
+		// base saved with other options, so nothing reused
+		JsonObject manifest = loadManifest(curOut);
+		assertThat(manifest.getAsJsonArray("modified")).hasSize(1);
+		assertThat(manifest.get("reused").getAsInt()).isZero();
+		assertThat(listFiles(curOut.resolve("sources"))).hasSize(CLASSES_COUNT);
+	}
+
+	private Path saveBase(Path baseInput) {
+		Path baseOut = tmpDir.resolve("base-out");
+		int baseResult = JadxCLI.execute(new String[] {
+				"-d", baseOut.toString(),
+				baseInput.toString()
+		});
+		assertThat(baseResult).isEqualTo(0);
+		assertThat(baseOut.resolve(IncrementalSave.CODE_ARGS_FILE)).exists();
+		return baseOut;
+	}
+
+	private static JsonObject loadManifest(Path outDir) throws Exception {
+		try (Reader reader = Files.newBufferedReader(outDir.resolve(IncrementalSave.MANIFEST_FILE), StandardCharsets.UTF_8)) {
+			return JsonParser.parseReader(reader).getAsJsonObject();
+		}
+	}
+
+	private static List<String> toList(JsonArray array) {
+		List<String> list = new ArrayList<>();
+		for (JsonElement element : array) {
+			list.add(element.getAsString());
+		}
+		return list;
+	}
+
+	/**
+	 * Relative paths of all files in dir, sorted
+	 */
+	private static List<Path> listFiles(Path dir) throws Exception {
+		try (Stream<Path> files = Files.walk(dir)) {
+			return files.filter(Files::isRegularFile)
+					.map(dir::relativize)
+					.sorted()
+					.collect(Collectors.toList());
+		}
+	}
+
+	private Path generate(String fileName, int alteredClass) throws Exception {
+		AbcGenOptions opts = new AbcGenOptions();
+		opts.setClassesCount(CLASSES_COUNT);
+		opts.setMethodsPerClass(4);
+		opts.setInsnsPerMethod(20);
+		opts.setLinkedClasses(true);
+		opts.setAlteredClass(alteredClass);
+		Path file = tmpDir.resolve(fileName);
+		new AbcCorpusGenerator(opts).writeTo(file);
+		return file;
+	}
+}
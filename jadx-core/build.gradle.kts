@@ -15,6 +15,8 @@
 	testRuntimeOnly(project(":jadx-plugins:jadx-java-convert"))
 	testRuntimeOnly(project(":jadx-plugins:jadx-java-input"))
 	testRuntimeOnly(project(":jadx-plugins:jadx-raung-input"))
+	// synthetic abc generator
+	testImplementation(testFixtures(project(":jadx-plugins:jadx-dex-input")))
 
 	testImplementation("org.eclipse.jdt:ecj") {
 		version {
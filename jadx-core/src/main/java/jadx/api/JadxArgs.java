@@ -55,6 +55,11 @@ public class JadxArgs implements Closeable {
 	private File outDirSrc;
 	private File outDirRes;
 
+	/**
+	 * Save sources into single zip (or jar) archive instead of separate files in {@code outDirSrc}
+	 */
+	private File outSrcArchive;
+
 	private ICodeCache codeCache = new InMemoryCodeCache();
 
 	/**
@@ -67,6 +72,68 @@ public class JadxArgs implements Closeable {
 
 	private int threadsCount = DEFAULT_THREADS_COUNT;
 
+	/**
+	 * Process methods of big classes in parallel.
+	 * Methods tasks use same threads as classes processing, so threads count not exceeded.
+	 */
+	private boolean parallelMethods = true;
+
+	/**
+	 * Threads count for writing sources files, decompilation threads only put code into bounded queue.
+	 * Archive always written by one thread.
+	 */
+	private int ioThreadsCount = 2;
+
+	/**
+	 * Run I/O bound stages (resources save, disk cache writes) on virtual threads.
+	 * Require JDK 21+, ignored on older versions.
+	 */
+	private boolean useVirtualThreads = false;
+
+	/**
+	 * Print tasks time stats (percentiles and tail) for parallel stages of save process
+	 */
+	private boolean tasksTimeStats = false;
+
+	/**
+	 * Memory budget (in bytes) for decoded method instructions cache.
+	 * Speed up methods reload (useful in GUI), zero to disable.
+	 */
+	private long decodeCacheMemLimit = 0;
+
+	/**
+	 * Memory budget (in bytes) for shared cache of parsed abc literal arrays and module imports,
+	 * same budget also used separately for canonical strings from abc string operands, zero to disable.
+	 */
+	private long literalsCacheMemLimit = 16 * 1024 * 1024;
+
+	/**
+	 * Run chain of method passes for each method in turn (instead of each pass for all methods)
+	 * and release method analysis data right after last method pass.
+	 * Reduce peak memory usage, class level passes still processed in original order.
+	 */
+	private boolean fuseMethodPasses = false;
+
+	/**
+	 * Replace type inference passes with one linear pass for dynamic typed code.
+	 * Much faster, but variables with conflicting types declared as Object.
+	 */
+	private boolean dynamicTypes = false;
+
+	/**
+	 * Collect time and allocations of decompilation passes per pass, class and method.
+	 * Data available from {@link jadx.core.dex.nodes.RootNode#getPassesProfiler()}.
+	 */
+	private boolean profilePasses = false;
+
+	/**
+	 * Per method limits, on reach method generated in fallback mode. Zero means no limit.
+	 * Processing time in milliseconds counted only in method passes.
+	 */
+	private int methodTimeLimit = 0;
+	private int methodInsnsLimit = 0;
+	private int methodBlocksLimit = 0;
+
 	private boolean cfgOutput = false;
 	private boolean rawCFGOutput = false;
 
@@ -246,6 +313,14 @@ public void setOutDirRes(File outDirRes) {
 		this.outDirRes = outDirRes;
 	}
 
+	public File getOutSrcArchive() {
+		return outSrcArchive;
+	}
+
+	public void setOutSrcArchive(File outSrcArchive) {
+		this.outSrcArchive = outSrcArchive;
+	}
+
 	public int getThreadsCount() {
 		return threadsCount;
 	}
@@ -254,6 +329,102 @@ public void setThreadsCount(int threadsCount) {
 		this.threadsCount = Math.max(1, threadsCount); // make sure threadsCount >= 1
 	}
 
+	public boolean isParallelMethods() {
+		return parallelMethods;
+	}
+
+	public void setParallelMethods(boolean parallelMethods) {
+		this.parallelMethods = parallelMethods;
+	}
+
+	public int getIoThreadsCount() {
+		return ioThreadsCount;
+	}
+
+	public void setIoThreadsCount(int ioThreadsCount) {
+		this.ioThreadsCount = Math.max(1, ioThreadsCount);
+	}
+
+	public boolean isUseVirtualThreads() {
+		return useVirtualThreads;
+	}
+
+	public void setUseVirtualThreads(boolean useVirtualThreads) {
+		this.useVirtualThreads = useVirtualThreads;
+	}
+
+	public boolean isTasksTimeStats() {
+		return tasksTimeStats;
+	}
+
+	public void setTasksTimeStats(boolean tasksTimeStats) {
+		this.tasksTimeStats = tasksTimeStats;
+	}
+
+	public long getDecodeCacheMemLimit() {
+		return decodeCacheMemLimit;
+	}
+
+	public void setDecodeCacheMemLimit(long decodeCacheMemLimit) {
+		this.decodeCacheMemLimit = Math.max(0, decodeCacheMemLimit);
+	}
+
+	public long getLiteralsCacheMemLimit() {
+		return literalsCacheMemLimit;
+	}
+
+	public void setLiteralsCacheMemLimit(long literalsCacheMemLimit) {
+		this.literalsCacheMemLimit = Math.max(0, literalsCacheMemLimit);
+	}
+
+	public boolean isFuseMethodPasses() {
+		return fuseMethodPasses;
+	}
+
+	public void setFuseMethodPasses(boolean fuseMethodPasses) {
+		this.fuseMethodPasses = fuseMethodPasses;
+	}
+
+	public boolean isDynamicTypes() {
+		return dynamicTypes;
+	}
+
+	public void setDynamicTypes(boolean dynamicTypes) {
+		this.dynamicTypes = dynamicTypes;
+	}
+
+	public boolean isProfilePasses() {
+		return profilePasses;
+	}
+
+	public void setProfilePasses(boolean profilePasses) {
+		this.profilePasses = profilePasses;
+	}
+
+	public int getMethodTimeLimit() {
+		return methodTimeLimit;
+	}
+
+	public void setMethodTimeLimit(int methodTimeLimit) {
+		this.methodTimeLimit = Math.max(0, methodTimeLimit);
+	}
+
+	public int getMethodInsnsLimit() {
+		return methodInsnsLimit;
+	}
+
+	public void setMethodInsnsLimit(int methodInsnsLimit) {
+		this.methodInsnsLimit = Math.max(0, methodInsnsLimit);
+	}
+
+	public int getMethodBlocksLimit() {
+		return methodBlocksLimit;
+	}
+
+	public void setMethodBlocksLimit(int methodBlocksLimit) {
+		this.methodBlocksLimit = Math.max(0, methodBlocksLimit);
+	}
+
 	public boolean isCfgOutput() {
 		return cfgOutput;
 	}
@@ -734,7 +905,8 @@ public String makeCodeArgsHash(@Nullable JadxDecompiler decompiler) {
 				+ insertDebugLines + extractFinally
 				+ debugInfo + useSourceNameAsClassAlias + escapeUnicode + replaceConsts
 				+ respectBytecodeAccModifiers + fsCaseSensitive + renameFlags
-				+ commentsLevel + useDxInput + integerFormat
+				+ commentsLevel + useDxInput + integerFormat + dynamicTypes
+				+ methodTimeLimit + methodInsnsLimit + methodBlocksLimit
 				+ "|" + buildPluginsHash(decompiler);
 		return FileUtils.md5Sum(argStr);
 	}
@@ -755,7 +927,12 @@ public String toString() {
 				+ ", outDir=" + outDir
 				+ ", outDirSrc=" + outDirSrc
 				+ ", outDirRes=" + outDirRes
+				+ ", outSrcArchive=" + outSrcArchive
+				+ ", ioThreadsCount=" + ioThreadsCount
+				+ ", useVirtualThreads=" + useVirtualThreads
+				+ ", tasksTimeStats=" + tasksTimeStats
 				+ ", threadsCount=" + threadsCount
+				+ ", parallelMethods=" + parallelMethods
 				+ ", decompilationMode=" + decompilationMode
 				+ ", showInconsistentCode=" + showInconsistentCode
 				+ ", useImports=" + useImports
@@ -785,6 +962,14 @@ public String toString() {
 				+ ", outputFormat=" + outputFormat
 				+ ", commentsLevel=" + commentsLevel
 				+ ", codeCache=" + codeCache
+				+ ", decodeCacheMemLimit=" + decodeCacheMemLimit
+				+ ", literalsCacheMemLimit=" + literalsCacheMemLimit
+				+ ", fuseMethodPasses=" + fuseMethodPasses
+				+ ", dynamicTypes=" + dynamicTypes
+				+ ", profilePasses=" + profilePasses
+				+ ", methodTimeLimit=" + methodTimeLimit
+				+ ", methodInsnsLimit=" + methodInsnsLimit
+				+ ", methodBlocksLimit=" + methodBlocksLimit
 				+ ", codeWriter=" + codeWriterProvider.apply(this).getClass().getSimpleName()
 				+ ", useDxInput=" + useDxInput
 				+ ", pluginOptions=" + pluginOptions
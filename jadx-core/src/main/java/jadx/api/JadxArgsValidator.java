@@ -57,6 +57,16 @@ private static void validateOutDirs(JadxArgs args) {
 		checkDir(args.getOutDir(), "Output");
 		checkDir(args.getOutDirSrc(), "Source output");
 		checkDir(args.getOutDirRes(), "Resources output");
+
+		File srcArchive = args.getOutSrcArchive();
+		if (srcArchive != null) {
+			if (args.isExportAsGradleProject()) {
+				throw new JadxArgsValidateException("Sources archive can't be used with gradle project export");
+			}
+			if (srcArchive.isDirectory()) {
+				throw new JadxArgsValidateException("Sources archive exists as directory " + srcArchive);
+			}
+		}
 	}
 
 	@NotNull
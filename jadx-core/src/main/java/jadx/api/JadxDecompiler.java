@@ -41,7 +41,6 @@
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.PackageNode;
 import jadx.core.dex.nodes.RootNode;
-import jadx.core.dex.visitors.SaveCode;
 import jadx.core.export.ExportGradleTask;
 import jadx.core.plugins.JadxPluginManager;
 import jadx.core.plugins.PluginContext;
@@ -50,6 +49,7 @@
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 import jadx.core.utils.files.FileUtils;
+import jadx.core.utils.files.SourcesWriter;
 import jadx.core.utils.tasks.TaskExecutor;
 import jadx.core.xmlgen.BinaryXMLParser;
 import jadx.core.xmlgen.ResourcesSaver;
@@ -165,6 +165,9 @@ private void loadInputFiles() {
 	}
 
 	private void reset() {
+		if (root != null) {
+			root.getProcessClasses().getFusionStats().stop();
+		}
 		root = null;
 		classes = null;
 		resources = null;
@@ -309,6 +312,8 @@ private TaskExecutor getSaveTasks(boolean saveSources, boolean saveResources) {
 
 		TaskExecutor executor = new TaskExecutor();
 		executor.setThreadsCount(args.getThreadsCount());
+		executor.setUseVirtualThreads(args.isUseVirtualThreads());
+		executor.setCollectTimeStats(args.isTasksTimeStats());
 		if (saveResources) {
 			// save resources first because decompilation can stop or fail
 			appendResourcesSaveTasks(executor, resOutDir);
@@ -350,7 +355,7 @@ private void appendResourcesSaveTasks(ITaskExecutor executor, File outDir) {
 			}
 			tasks.add(new ResourcesSaver(outDir, resourceFile));
 		}
-		executor.addParallelTasks(tasks);
+		executor.addParallelIoTasks(tasks);
 	}
 
 	private void appendSourcesSave(ITaskExecutor executor, File outDir) {
@@ -362,6 +367,8 @@ private void appendSourcesSave(ITaskExecutor executor, File outDir) {
 		} catch (Exception e) {
 			throw new JadxRuntimeException("Decompilation batches build failed", e);
 		}
+		// write files in separate threads, decompilation blocked only if write queue is full
+		SourcesWriter writer = args.isSkipFilesSave() ? null : new SourcesWriter(args, outDir);
 		List<Runnable> decompileTasks = new ArrayList<>(batches.size());
 		for (List<JavaClass> decompileBatch : batches) {
 			decompileTasks.add(() -> {
@@ -369,7 +376,9 @@ private void appendSourcesSave(ITaskExecutor executor, File outDir) {
 					try {
 						ClassNode clsNode = cls.getClassNode();
 						ICodeInfo code = clsNode.getCode();
-						SaveCode.save(outDir, clsNode, code);
+						if (writer != null) {
+							writer.save(clsNode, code);
+						}
 					} catch (Exception e) {
 						LOG.error("Error saving class: {}", cls, e);
 					}
@@ -378,6 +387,10 @@ private void appendSourcesSave(ITaskExecutor executor, File outDir) {
 			});
 		}
 		executor.addParallelTasks(decompileTasks);
+		if (writer != null) {
+			// wait for writes and close archive also on termination
+			executor.addFinalTask(writer::close);
+		}
 	}
 
 	private List<JavaClass> filterClasses(List<JavaClass> classes) {
@@ -457,6 +470,8 @@ public void printErrorsReport() {
 		}
 		root.getClsp().printMissingClasses();
 		root.getErrorsCounter().printReport();
+		LOG.debug("Literals cache stats: {}", root.getAbcLiteralsCache());
+		LOG.debug("Strings cache stats: {}", root.getAbcStringsCache());
 	}
 
 	/**
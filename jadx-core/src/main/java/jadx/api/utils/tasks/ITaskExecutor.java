@@ -16,6 +16,14 @@ public interface ITaskExecutor {
 	 */
 	void addParallelTasks(List<? extends Runnable> parallelTasks);
 
+	/**
+	 * Add parallel stage with I/O bound tasks.
+	 * Can be executed on virtual threads if supported by implementation.
+	 */
+	default void addParallelIoTasks(List<? extends Runnable> parallelTasks) {
+		addParallelTasks(parallelTasks);
+	}
+
 	/**
 	 * Add sequential stage with provided tasks
 	 */
@@ -26,6 +34,15 @@ public interface ITaskExecutor {
 	 */
 	void addSequentialTask(Runnable task);
 
+	/**
+	 * Add task to run after all stages, also executed if execution terminated or failed.
+	 * Used to release resources of stages tasks.
+	 * Default implementation only add sequential stage.
+	 */
+	default void addFinalTask(Runnable task) {
+		addSequentialTask(task);
+	}
+
 	/**
 	 * Scheduled tasks count
 	 */
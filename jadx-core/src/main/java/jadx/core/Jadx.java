@@ -5,6 +5,7 @@
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Set;
 import java.util.jar.Manifest;
 
 import org.slf4j.Logger;
@@ -68,6 +69,7 @@
 import jadx.core.dex.visitors.rename.SourceFileRename;
 import jadx.core.dex.visitors.shrink.CodeShrinkVisitor;
 import jadx.core.dex.visitors.ssa.SSATransform;
+import jadx.core.dex.visitors.typeinference.DynamicTypesVisitor;
 import jadx.core.dex.visitors.typeinference.FinishTypeInference;
 import jadx.core.dex.visitors.typeinference.FixTypesVisitor;
 import jadx.core.dex.visitors.typeinference.TypeInferenceVisitor;
@@ -94,6 +96,39 @@ public static List<IDexTreeVisitor> getPassesList(JadxArgs args) {
 		}
 	}
 
+	/**
+	 * Passes which change only visited method: no class level processing and no changes in other nodes.
+	 * Such passes can be run for methods of one class in parallel.
+	 */
+	private static final Set<Class<? extends IDexTreeVisitor>> METHOD_LOCAL_PASSES = Set.of(
+			BlockSplitter.class,
+			BlockProcessor.class,
+			SSATransform.class,
+			MoveInlineVisitor.class,
+			InitCodeVariables.class,
+			MarkFinallyVisitor.class,
+			ConstInlineVisitor.class,
+			TypeInferenceVisitor.class,
+			DynamicTypesVisitor.class,
+			DebugInfoApplyVisitor.class,
+			FixTypesVisitor.class,
+			FinishTypeInference.class,
+			CodeShrinkVisitor.class,
+			ReplaceNewArray.class,
+			RegionMakerVisitor.class,
+			IfRegionVisitor.class,
+			ReturnVisitor.class,
+			CleanRegions.class,
+			MethodInvokeVisitor.class,
+			SimplifyVisitor.class,
+			CheckRegions.class,
+			LoopRegionVisitor.class,
+			ProcessVariables.class);
+
+	public static boolean isMethodLocalPass(IDexTreeVisitor pass) {
+		return METHOD_LOCAL_PASSES.contains(pass.getClass());
+	}
+
 	public static List<IDexTreeVisitor> getPreDecompilePassesList() {
 		List<IDexTreeVisitor> passes = new ArrayList<>();
 		passes.add(new SignatureProcessor());
@@ -142,12 +177,19 @@ public static List<IDexTreeVisitor> getRegionsModePasses(JadxArgs args) {
 			passes.add(new MarkFinallyVisitor());
 		}
 		passes.add(new ConstInlineVisitor());
-		passes.add(new TypeInferenceVisitor());
-		if (args.isDebugInfo()) {
-			passes.add(new DebugInfoApplyVisitor());
+		if (args.isDynamicTypes()) {
+			passes.add(new DynamicTypesVisitor());
+			if (args.isDebugInfo()) {
+				passes.add(new DebugInfoApplyVisitor());
+			}
+		} else {
+			passes.add(new TypeInferenceVisitor());
+			if (args.isDebugInfo()) {
+				passes.add(new DebugInfoApplyVisitor());
+			}
+			passes.add(new FixTypesVisitor());
+			passes.add(new FinishTypeInference());
 		}
-		passes.add(new FixTypesVisitor());
-		passes.add(new FinishTypeInference());
 
 		if (args.getUseKotlinMethodsForVarNames() != JadxArgs.UseKotlinMethodsForVarNames.DISABLE) {
 			passes.add(new ProcessKotlinInternals());
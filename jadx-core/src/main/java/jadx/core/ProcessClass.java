@@ -1,6 +1,8 @@
 package jadx.core;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinTask;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -8,14 +10,19 @@
 import org.slf4j.LoggerFactory;
 
 import jadx.api.ICodeInfo;
+import jadx.api.JadxArgs;
 import jadx.api.impl.SimpleCodeInfo;
 import jadx.core.codegen.CodeGen;
 import jadx.core.dex.attributes.AFlag;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.LoadStage;
+import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.RootNode;
 import jadx.core.dex.visitors.DepthTraversal;
 import jadx.core.dex.visitors.IDexTreeVisitor;
+import jadx.core.dex.visitors.PrepareForCodeGen;
+import jadx.core.dex.visitors.usage.UsageInfoVisitor;
+import jadx.core.utils.PassesFusionStats;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
 import static jadx.core.dex.nodes.ProcessState.GENERATED_AND_UNLOADED;
@@ -29,8 +36,21 @@ public class ProcessClass {
 
 	private static final ICodeInfo NOT_GENERATED = new SimpleCodeInfo("");
 
+	/**
+	 * Minimal methods count in class (with inner classes) to process methods in parallel
+	 */
+	private static final int PARALLEL_MIN_METHODS = 32;
+
 	private final List<IDexTreeVisitor> passes;
 
+	private @Nullable List<PassGroup> passGroups;
+	private int groupedPassesCount;
+	private boolean parallelMethods;
+
+	private boolean fuseMethodPasses;
+	private boolean releaseAfterClass;
+	private final PassesFusionStats fusionStats = new PassesFusionStats();
+
 	public ProcessClass(List<IDexTreeVisitor> passesList) {
 		this.passes = passesList;
 	}
@@ -43,15 +63,20 @@ private ICodeInfo process(ClassNode cls, boolean codegen) {
 		}
 		synchronized (cls.getClassInfo()) {
 			try {
+				boolean reloaded = false;
 				if (cls.contains(AFlag.CLASS_DEEP_RELOAD)) {
 					cls.remove(AFlag.CLASS_DEEP_RELOAD);
 					cls.deepUnload();
 					cls.add(AFlag.CLASS_UNLOADED);
+					reloaded = true;
 				}
 				if (cls.contains(AFlag.CLASS_UNLOADED)) {
 					cls.root().runPreDecompileStageForClass(cls);
 					cls.remove(AFlag.CLASS_UNLOADED);
 				}
+				if (reloaded) {
+					UsageInfoVisitor.updateReloadedClass(cls);
+				}
 				if (cls.getState() == GENERATED_AND_UNLOADED) {
 					// force loading code again
 					cls.setState(NOT_LOADED);
@@ -70,9 +95,7 @@ private ICodeInfo process(ClassNode cls, boolean codegen) {
 				}
 				if (cls.getState() == LOADED) {
 					cls.setState(PROCESS_STARTED);
-					for (IDexTreeVisitor visitor : passes) {
-						DepthTraversal.visit(visitor, cls);
-					}
+					runPasses(cls);
 					cls.setState(PROCESS_COMPLETE);
 				}
 				if (codegen) {
@@ -94,6 +117,95 @@ private ICodeInfo process(ClassNode cls, boolean codegen) {
 		}
 	}
 
+	private void runPasses(ClassNode cls) {
+		List<PassGroup> groups = passGroups;
+		boolean parallel = parallelMethods
+				&& ForkJoinTask.inForkJoinPool()
+				&& countMethods(cls) >= PARALLEL_MIN_METHODS;
+		if (groups == null
+				|| groupedPassesCount != passes.size() // passes list changed after init
+				|| (!parallel && !fuseMethodPasses)) {
+			for (IDexTreeVisitor visitor : passes) {
+				DepthTraversal.visit(visitor, cls);
+			}
+			return;
+		}
+		for (PassGroup group : groups) {
+			if (group.isMethodLocal()) {
+				boolean release = fuseMethodPasses && group.isReleaseData();
+				if (parallel) {
+					runMethodLocalPassesParallel(group.getPasses(), cls, release);
+				} else {
+					runMethodLocalPasses(group.getPasses(), cls, release);
+				}
+			} else {
+				for (IDexTreeVisitor visitor : group.getPasses()) {
+					DepthTraversal.visit(visitor, cls);
+				}
+			}
+		}
+		if (fuseMethodPasses && releaseAfterClass) {
+			List<MethodNode> methods = new ArrayList<>();
+			collectMethods(cls, methods);
+			methods.forEach(this::releaseMethodData);
+		}
+	}
+
+	/**
+	 * Run all passes from group for one method before moving to next (method-major order)
+	 */
+	private void runMethodLocalPasses(List<IDexTreeVisitor> groupPasses, ClassNode cls, boolean release) {
+		List<MethodNode> methods = new ArrayList<>();
+		collectMethods(cls, methods);
+		for (MethodNode mth : methods) {
+			runMethodPasses(groupPasses, mth, release);
+		}
+	}
+
+	/**
+	 * Run all passes from group for each method, methods processed in parallel.
+	 * Tasks forked into current fork-join pool (classes processing pool of task executor),
+	 * so no additional threads started and waiting thread helps to process methods.
+	 * Class level visitors not run in between, so current thread waits for all methods (sync point).
+	 */
+	private void runMethodLocalPassesParallel(List<IDexTreeVisitor> groupPasses, ClassNode cls, boolean release) {
+		List<MethodNode> methods = new ArrayList<>();
+		collectMethods(cls, methods);
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(methods.size());
+		for (MethodNode mth : methods) {
+			tasks.add(ForkJoinTask.adapt(() -> runMethodPasses(groupPasses, mth, release)));
+		}
+		ForkJoinTask.invokeAll(tasks);
+	}
+
+	private void runMethodPasses(List<IDexTreeVisitor> groupPasses, MethodNode mth, boolean release) {
+		for (IDexTreeVisitor visitor : groupPasses) {
+			DepthTraversal.visit(visitor, mth);
+		}
+		if (release) {
+			releaseMethodData(mth);
+		}
+	}
+
+	private void releaseMethodData(MethodNode mth) {
+		fusionStats.addReleased(mth.releaseAnalysisData());
+	}
+
+	private static void collectMethods(ClassNode cls, List<MethodNode> methods) {
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			collectMethods(innerCls, methods);
+		}
+		methods.addAll(cls.getMethods());
+	}
+
+	private static int countMethods(ClassNode cls) {
+		int count = cls.getMethods().size();
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			count += countMethods(innerCls);
+		}
+		return count;
+	}
+
 	@NotNull
 	public ICodeInfo generateCode(ClassNode cls) {
 		ClassNode topParentClass = cls.getTopParentClass();
@@ -148,10 +260,89 @@ public void initPasses(RootNode root) {
 				LOG.error("Visitor init failed: {}", pass.getClass().getSimpleName(), e);
 			}
 		}
+		JadxArgs args = root.getArgs();
+		List<PassGroup> groups = buildPassGroups(passes);
+		passGroups = groups;
+		groupedPassesCount = passes.size();
+		parallelMethods = args.isParallelMethods() && args.getThreadsCount() > 1;
+		fuseMethodPasses = args.isFuseMethodPasses();
+		releaseAfterClass = false;
+		if (fuseMethodPasses && !args.isCfgOutput() && !args.isRawCFGOutput() && !args.isRunDebugChecks()) {
+			markReleaseGroup(groups);
+			fusionStats.start();
+		}
+	}
+
+	/**
+	 * Release method data right after last method local group if only known passes run after it,
+	 * otherwise (custom passes can use this data) release after all passes.
+	 */
+	private void markReleaseGroup(List<PassGroup> groups) {
+		for (int i = groups.size() - 1; i >= 0; i--) {
+			PassGroup group = groups.get(i);
+			if (group.isMethodLocal()) {
+				group.setReleaseData(true);
+				return;
+			}
+			for (IDexTreeVisitor pass : group.getPasses()) {
+				if (!(pass instanceof PrepareForCodeGen)) {
+					releaseAfterClass = true;
+					return;
+				}
+			}
+		}
+		releaseAfterClass = true;
+	}
+
+	public PassesFusionStats getFusionStats() {
+		return fusionStats;
+	}
+
+	/**
+	 * Split passes list into groups of consecutive method local passes and single class level passes
+	 */
+	private static List<PassGroup> buildPassGroups(List<IDexTreeVisitor> passes) {
+		List<PassGroup> groups = new ArrayList<>();
+		PassGroup current = null;
+		for (IDexTreeVisitor pass : passes) {
+			boolean methodLocal = Jadx.isMethodLocalPass(pass);
+			if (current == null || !methodLocal || !current.isMethodLocal()) {
+				current = new PassGroup(methodLocal);
+				groups.add(current);
+			}
+			current.getPasses().add(pass);
+		}
+		return groups;
 	}
 
 	// TODO: make passes list private and not visible
 	public List<IDexTreeVisitor> getPasses() {
 		return passes;
 	}
+
+	private static final class PassGroup {
+		private final boolean methodLocal;
+		private final List<IDexTreeVisitor> passes = new ArrayList<>();
+		private boolean releaseData;
+
+		private PassGroup(boolean methodLocal) {
+			this.methodLocal = methodLocal;
+		}
+
+		public boolean isMethodLocal() {
+			return methodLocal;
+		}
+
+		public List<IDexTreeVisitor> getPasses() {
+			return passes;
+		}
+
+		public boolean isReleaseData() {
+			return releaseData;
+		}
+
+		public void setReleaseData(boolean releaseData) {
+			this.releaseData = releaseData;
+		}
+	}
 }
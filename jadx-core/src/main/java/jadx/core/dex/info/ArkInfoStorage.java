@@ -0,0 +1,99 @@
+package jadx.core.dex.info;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.RootNode;
+
+/**
+ * Lock-free cache for method and field infos used by Ark pseudo instructions
+ * (runtime helpers calls and properties access).
+ * <br>
+ * Such infos always use same 'Object' types, so they can be identified only by helper name and args count
+ * (or by property name for fields). After first creation lookup don't allocate and don't take
+ * {@link InfoStorage} locks.
+ */
+public final class ArkInfoStorage {
+	/**
+	 * Helpers with more arguments (long range calls) will use slow path
+	 */
+	private static final int MAX_CACHED_ARGS = 64;
+
+	private final RootNode root;
+	private final ConcurrentHashMap<String, AtomicReferenceArray<MethodInfo>> methods = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, FieldInfo> fields = new ConcurrentHashMap<>();
+	private final AtomicReferenceArray<List<ArgType>> argsLists = new AtomicReferenceArray<>(MAX_CACHED_ARGS);
+
+	private volatile ClassInfo mthDeclClass;
+	private volatile ClassInfo fldDeclClass;
+
+	public ArkInfoStorage(RootNode root) {
+		this.root = root;
+	}
+
+	public MethodInfo getMethod(String name, int argc) {
+		if (argc < 0 || argc >= MAX_CACHED_ARGS) {
+			return buildMethod(name, argc);
+		}
+		AtomicReferenceArray<MethodInfo> byArgs = methods.get(name);
+		if (byArgs == null) {
+			byArgs = methods.computeIfAbsent(name, n -> new AtomicReferenceArray<>(MAX_CACHED_ARGS));
+		}
+		MethodInfo mth = byArgs.get(argc);
+		if (mth != null) {
+			return mth;
+		}
+		// MethodInfo is deduplicated by InfoStorage, so concurrent builds will return same instance
+		MethodInfo newMth = buildMethod(name, argc);
+		byArgs.compareAndSet(argc, null, newMth);
+		return byArgs.get(argc);
+	}
+
+	public FieldInfo getField(String name) {
+		FieldInfo fld = fields.get(name);
+		if (fld != null) {
+			return fld;
+		}
+		return fields.computeIfAbsent(name, this::buildField);
+	}
+
+	private MethodInfo buildMethod(String name, int argc) {
+		return MethodInfo.fromDetails(root, getMthDeclClass(), name, getArgsList(argc), ArgType.OBJECT);
+	}
+
+	private FieldInfo buildField(String name) {
+		ClassInfo declClass = fldDeclClass;
+		if (declClass == null) {
+			declClass = ClassInfo.fromName(root, "Object");
+			fldDeclClass = declClass;
+		}
+		return FieldInfo.from(root, declClass, name, ArgType.OBJECT);
+	}
+
+	private ClassInfo getMthDeclClass() {
+		ClassInfo declClass = mthDeclClass;
+		if (declClass == null) {
+			declClass = ClassInfo.fromType(root, ArgType.OBJECT);
+			mthDeclClass = declClass;
+		}
+		return declClass;
+	}
+
+	private List<ArgType> getArgsList(int argc) {
+		if (argc <= 0) {
+			return Collections.emptyList();
+		}
+		if (argc >= MAX_CACHED_ARGS) {
+			return Collections.nCopies(argc, ArgType.OBJECT);
+		}
+		List<ArgType> args = argsLists.get(argc);
+		if (args == null) {
+			args = Collections.nCopies(argc, ArgType.OBJECT);
+			argsLists.set(argc, args);
+		}
+		return args;
+	}
+}
@@ -36,9 +36,7 @@ public static FieldInfo fromRef(RootNode root, IFieldRef fieldRef) {
 	}
 
 	public static FieldInfo fromAsm(RootNode root, Asm.AsmItem asmItem, String filedName) {
-		ClassInfo declClass = ClassInfo.fromName(root, "Object");
-		FieldInfo field = new FieldInfo(declClass, filedName, ArgType.parse("Object"));
-		return root.getInfoStorage().getField(field);
+		return root.getArkInfoStorage().getField(filedName);
 	}
 
 	public String getName() {
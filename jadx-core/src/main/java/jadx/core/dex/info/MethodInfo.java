@@ -1,6 +1,5 @@
 package jadx.core.dex.info;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -61,20 +60,7 @@ public static MethodInfo fromRef(RootNode root, IMethodRef methodRef) {
 	}
 
 	public static MethodInfo fromAsm(RootNode root, Asm.AsmItem asmItem, int argc, String name) {
-		InfoStorage infoStorage = root.getInfoStorage();
-
-		ArgType parentClsType = ArgType.parse("Object");
-		ClassInfo parentClass = ClassInfo.fromType(root, parentClsType);
-		ArgType returnType = ArgType.parse("Object");
-		List<ArgType> args = new ArrayList<>();
-
-		for (int i = 0; i < argc; i++) {
-			args.add(ArgType.parse("Object"));
-		}
-
-		MethodInfo newMth = new MethodInfo(parentClass, name, args, returnType);
-		MethodInfo uniqMth = infoStorage.putMethod(newMth);
-		return uniqMth;
+		return root.getArkInfoStorage().getMethod(name, argc);
 	}
 
 	public static MethodInfo fromDetails(RootNode root, ClassInfo declClass, String name, List<ArgType> args, ArgType retType) {
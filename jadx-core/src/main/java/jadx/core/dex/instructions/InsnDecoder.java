@@ -1,20 +1,23 @@
 package jadx.core.dex.instructions;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import me.yricky.oh.abcd.AbcBuf;
 import me.yricky.oh.abcd.cfm.AbcClass;
-import me.yricky.oh.abcd.cfm.AbcMethod;
 import me.yricky.oh.abcd.cfm.FieldType;
 import me.yricky.oh.abcd.cfm.MethodItem;
+import me.yricky.oh.abcd.code.Code;
 import me.yricky.oh.abcd.isa.Asm;
 import me.yricky.oh.abcd.isa.InstFmt;
 import me.yricky.oh.abcd.literal.LiteralArray;
-import me.yricky.oh.abcd.literal.ModuleLiteralArray;
 
 import jadx.api.plugins.input.data.ICodeReader;
 import jadx.api.plugins.input.data.IMethodProto;
@@ -36,6 +39,8 @@
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.nodes.utils.AbcLiteralsCache;
+import jadx.core.dex.nodes.utils.AbcStringsCache;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.DecodeException;
 import jadx.core.utils.exceptions.JadxRuntimeException;
@@ -47,6 +52,10 @@ public class InsnDecoder {
 	private final MethodNode method;
 	private final RootNode root;
 	public InsnNode[] rinstructions;
+	/**
+	 * Method constants, created on first instruction in {@link #process(ICodeReader)}
+	 */
+	private DecodeContext ctx;
 
 	public InsnDecoder(MethodNode mthNode) {
 		this.method = mthNode;
@@ -56,10 +65,14 @@ public InsnDecoder(MethodNode mthNode) {
 	public InsnNode[] process(ICodeReader codeReader) {
 		InsnNode[] instructions = new InsnNode[codeReader.getUnitsCount()];
 		rinstructions = instructions;
+		ctx = null;
 		codeReader.visitInstructions(rawInsn -> {
 			int offset = rawInsn.getOffset();
 			InsnNode insn;
 			try {
+				if (ctx == null) {
+					ctx = new DecodeContext(rawInsn.getAsmItem().getAsm().getCode());
+				}
 				insn = decode(rawInsn);
 			} catch (Exception e) {
 				method.addError("Failed to decode insn: " + rawInsn + ", method: " + method, e);
@@ -72,6 +85,72 @@ public InsnNode[] process(ICodeReader codeReader) {
 		return instructions;
 	}
 
+	/**
+	 * Values shared by all instructions of decoded method
+	 */
+	private static final class DecodeContext {
+		private final Code code;
+		private final int vRegsCount;
+		private final int argsCount;
+		/**
+		 * Accumulator placed right after virtual registers and arguments
+		 */
+		private final int accReg;
+		private AbcClass abcClass;
+		/**
+		 * Decoded string operands by string id.
+		 * String ids are indexes in method region table, so they can't be shared between methods.
+		 */
+		private Map<Integer, String> strings;
+
+		DecodeContext(Code code) {
+			this.code = code;
+			this.vRegsCount = code.getNumVRegs();
+			this.argsCount = code.getNumArgs();
+			this.accReg = argsCount + vRegsCount;
+		}
+
+		int getAccReg() {
+			return accReg;
+		}
+
+		int getVRegsCount() {
+			return vRegsCount;
+		}
+
+		int getArgsCount() {
+			return argsCount;
+		}
+
+		AbcClass getAbcClass() {
+			if (abcClass == null) {
+				abcClass = (AbcClass) ((FieldType.ClassType) code.getMethod().getClazz()).getClazz();
+			}
+			return abcClass;
+		}
+
+		AbcBuf getAbc() {
+			return code.getMethod().getAbc();
+		}
+
+		String getString(AbcStringsCache stringsCache, Asm.AsmItem asmItem, int index) {
+			if (strings == null) {
+				strings = new HashMap<>();
+			}
+			int strId = getIntOpUnit(asmItem, index) & 0xFFFF;
+			String str = strings.get(strId);
+			if (str == null) {
+				str = stringsCache.intern(getStringOpFormat(asmItem, index));
+				strings.put(strId, str);
+			}
+			return str;
+		}
+	}
+
+	private String literalArrayStr(LiteralArray la) {
+		return root.getAbcLiteralsCache().getLiteralArrayStr(ctx.getAbc(), la);
+	}
+
 	public static int getIntOpUnit(Asm.AsmItem asmItem, int index) {
 		int r = asmItem.getOpUnits().get(index).intValue();
 		return r;
@@ -86,6 +165,13 @@ private RegisterArg getRegisterArg(Asm.AsmItem asmItem, int opIndex, ArgType typ
 		return InsnArg.reg(regIndex, type);
 	}
 
+	/**
+	 * Decode string operand once per method and return canonical instance
+	 */
+	private String getString(Asm.AsmItem asmItem, int index) {
+		return ctx.getString(root.getAbcStringsCache(), asmItem, index);
+	}
+
 	public static String getStringOpFormat(Asm.AsmItem asmItem, int index) {
 		List<InstFmt> formats = asmItem.getIns().getFormat();
 		return ((InstFmt.SId) formats.get(index)).getString(asmItem);
@@ -97,860 +183,870 @@ public static AbcClass getAbcClassByInsn(InsnData insn) {
 
 	@NotNull
 	protected InsnNode decode(InsnData insn) throws DecodeException {
-
 		Asm.AsmItem asmItem = insn.getAsmItem();
+		OpcodeHandler handler = findHandler(asmItem.getOpUnits());
+		if (handler == null) {
+			throw new DecodeException("Unknown instruction: '" + asmItem.getIns().getInstruction().toString() + '\'');
+		}
+		return handler.decode(this, insn, asmItem, ctx.getAccReg());
+	}
 
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accRegister = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
-		int nOp = asmItem.getOpUnits().get(0).shortValue() & 0xff;
-		switch (nOp) {
-			case 0x8f:
-			case 0x44: // mov vA, vB
-			case 0x45:
-				RegisterArg dst = getRegisterArg(asmItem, 1, ArgType.NARROW);
-				RegisterArg src = getRegisterArg(asmItem, 2, ArgType.NARROW);
-				return insn(InsnType.MOVE, dst, src);
-			case 0x62:
-				RegisterArg acc = InsnArg.reg(accRegister, ArgType.INT);
-				LiteralArg narrowLitArg = InsnArg.lit(getIntOpUnit(asmItem, 1), ArgType.INT);
-				return insn(InsnType.CONST, acc, narrowLitArg);
-
-			case 0:
-				return insn(InsnType.CONST, InsnArg.reg(accRegister, ArgType.NARROW), InsnArg.lit(0, ArgType.NARROW));
-
-			// ldnull
-			case 0x01: {
-				LiteralArg litArg = InsnArg.lit(0, ArgType.INT);
-				return insn(InsnType.CONST, InsnArg.reg(accRegister, ArgType.INT), litArg);
-			}
+	private static @Nullable OpcodeHandler findHandler(List<Number> opUnits) {
+		int opcode = opUnits.get(0).shortValue() & 0xff;
+		OpcodeHandler handler = HANDLERS[NO_PREFIX][opcode];
+		if (handler != null) {
+			return handler;
+		}
+		int prefix;
+		int subOpcode;
+		switch (opcode) {
+			case 0xfe:
+				prefix = THROW_PREFIX;
+				subOpcode = opUnits.get(1).intValue();
+				break;
+			case 0xfd:
+				prefix = WIDE_PREFIX;
+				subOpcode = opUnits.get(1).intValue() & 0xff;
+				break;
+			case 0xfb:
+				prefix = CALLRUNTIME_PREFIX;
+				subOpcode = opUnits.get(1).intValue();
+				break;
+			default:
+				return null;
+		}
+		if (subOpcode < 0 || subOpcode > 0xff) {
+			return null;
+		}
+		return HANDLERS[prefix][subOpcode];
+	}
 
-			// ldtrue
-			case 0x02: {
-				LiteralArg litArg = InsnArg.lit(1, ArgType.INT);
-				return insn(InsnType.CONST, InsnArg.reg(accRegister, ArgType.INT), litArg);
-			}
+	/**
+	 * Build jadx instruction for one Ark opcode.
+	 * Handlers are stateless, decoder passed to access method data and helper methods.
+	 */
+	@FunctionalInterface
+	private interface OpcodeHandler {
+		InsnNode decode(InsnDecoder d, InsnData insn, Asm.AsmItem asmItem, int accRegister) throws DecodeException;
+	}
 
-			case 0x03: {
-				LiteralArg litArg = InsnArg.lit(0, ArgType.INT);
-				return insn(InsnType.CONST, InsnArg.reg(accRegister, ArgType.INT), litArg);
-			}
+	private static final int NO_PREFIX = 0;
+	private static final int THROW_PREFIX = 1; // 0xfe
+	private static final int WIDE_PREFIX = 2; // 0xfd
+	private static final int CALLRUNTIME_PREFIX = 3; // 0xfb
+
+	/**
+	 * Handlers indexed by prefix and opcode (second byte for prefixed instructions)
+	 */
+	private static final OpcodeHandler[][] HANDLERS = new OpcodeHandler[4][256];
+
+	static {
+		registerHandlers();
+		registerThrowHandlers();
+		registerWideHandlers();
+		registerCallRuntimeHandlers();
+	}
 
-			case 0x63: {
-				LiteralArg litArg = InsnArg.lit(asmItem.getOpUnits().get(1).longValue(), ArgType.BOOLEAN);
-				return insn(InsnType.CONST, InsnArg.reg(accRegister, ArgType.FLOAT), litArg);
-			}
-			case 0xd5:
-				return new InsnNode(InsnType.NOP, 0);
-			case 0x6a: {
-				ArgType clsType = ArgType.object("nan");
-				InsnNode constClsInsn = new ConstClassNode(clsType);
-				constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return constClsInsn;
-			}
+	private static int[] ops(int... opcodes) {
+		return opcodes;
+	}
 
-			case 0x6b: {
-				ArgType clsType = ArgType.object("infinity");
-				InsnNode constClsInsn = new ConstClassNode(clsType);
-				constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return constClsInsn;
-			}
-			case 0x6c: {
-				ArgType clsType = ArgType.object("arguments");
-				InsnNode constClsInsn = new ConstClassNode(clsType);
-				constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return constClsInsn;
-			}
+	private static void register(int prefix, int opcode, OpcodeHandler handler) {
+		if (HANDLERS[prefix][opcode] != null) {
+			throw new JadxRuntimeException("Duplicate handler for opcode: 0x" + Integer.toHexString(opcode) + ", prefix: " + prefix);
+		}
+		HANDLERS[prefix][opcode] = handler;
+	}
 
-			case 0x6d: {
-				ArgType clsType = ArgType.object("global");
-				InsnNode constClsInsn = new ConstClassNode(clsType);
-				constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return constClsInsn;
-			}
-			case 0x6f: {
-				ArgType clsType = ArgType.object("this");
-				InsnNode constClsInsn = new ConstClassNode(clsType);
-				constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return constClsInsn;
-			}
+	private static void register(int prefix, int[] opcodes, OpcodeHandler handler) {
+		for (int opcode : opcodes) {
+			register(prefix, opcode, handler);
+		}
+	}
 
-			case 0x70: {
-				ArgType clsType = ArgType.object("hole");
-				InsnNode constClsInsn = new ConstClassNode(clsType);
-				constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return constClsInsn;
-			}
+	private static void registerHandlers() {
+		// mov vA, vB
+		register(NO_PREFIX, ops(0x8f, 0x44, 0x45), (d, insn, asmItem, accRegister) -> {
+			RegisterArg dst = d.getRegisterArg(asmItem, 1, ArgType.NARROW);
+			RegisterArg src = d.getRegisterArg(asmItem, 2, ArgType.NARROW);
+			return d.insn(InsnType.MOVE, dst, src);
+		});
 
-			case 0xad: {
-				ArgType clsType = ArgType.object("ldsymbol");
-				InsnNode constClsInsn = new ConstClassNode(clsType);
-				constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return constClsInsn;
-			}
+		register(NO_PREFIX, 0x62, (d, insn, asmItem, accRegister) -> {
+			RegisterArg acc = InsnArg.reg(accRegister, ArgType.INT);
+			LiteralArg narrowLitArg = InsnArg.lit(getIntOpUnit(asmItem, 1), ArgType.INT);
+			return d.insn(InsnType.CONST, acc, narrowLitArg);
+		});
 
-			case 0x61:
-				return insn(InsnType.MOVE, getRegisterArg(asmItem, 1, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0x60:
-				return insn(InsnType.MOVE, InsnArg.reg(accRegister, ArgType.NARROW),
-						getRegisterArg(asmItem, 1, ArgType.NARROW));
-
-			case 0x13:
-				return cmp(getRegisterByOpIndex(asmItem, 2), accRegister, accRegister, InsnType.CMP_G, ArgType.NARROW);
-
-			case 0x11:
-				return cmp(getRegisterByOpIndex(asmItem, 2), accRegister, accRegister, InsnType.CMP_L, ArgType.NARROW);
-
-			case 0x0f:
-			case 0x28: // stricteq
-				return cmp(accRegister, getRegisterByOpIndex(asmItem, 2), accRegister, InsnType.CMP_EQ, ArgType.NARROW);
-
-			case 0x10:
-			case 0x27: // strictnoteq
-				return cmp(accRegister, getRegisterByOpIndex(asmItem, 2), accRegister, InsnType.CMP_NE, ArgType.NARROW);
-
-			case 0x14:
-				return cmp(getRegisterByOpIndex(asmItem, 2), accRegister,  accRegister, InsnType.CMP_GE, ArgType.NARROW);
-
-			case 0x12:
-				return cmp(getRegisterByOpIndex(asmItem, 2), accRegister, accRegister, InsnType.CMP_LE, ArgType.NARROW);
-
-			case 0x22:
-				return dec(insn);
-			case 0x21:
-				return inc(insn);
-
-			case 0x0a:
-				return arith2(insn, ArithOp.ADD);
-			case 0x0b:
-				return arith2(insn, ArithOp.SUB);
-			case 0x0c:
-				return arith2(insn, ArithOp.MUL);
-			case 0x0d:
-				return arith2(insn, ArithOp.DIV);
-			case 0x0e:
-				return arith2(insn, ArithOp.REM);
-
-			case 0x15:
-				return arith2(insn, ArithOp.SHL);
-			case 0x16:
-			case 0x17:
-				return arith2(insn, ArithOp.SHR);
-
-			case 0x18:
-				return arith2(insn, ArithOp.AND);
-			case 0x19:
-				return arith2(insn, ArithOp.OR);
-			case 0x1a:
-				return arith2(insn, ArithOp.XOR);
-
-			// todo: A ** acc
-			case 0x1b:
-				return arith2(insn, ArithOp.EXP);
-
-			// isfalse
-			case 0x23:
-			case 0x24: {
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 1, nOp == 0x24 ? "isfalse" : "istrue");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
-				invoke.addReg(accRegister, ArgType.INT);
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.INT));
-				return invoke;
-			}
+		register(NO_PREFIX, 0, (d, insn, asmItem, accRegister) ->
+				d.insn(InsnType.CONST, InsnArg.reg(accRegister, ArgType.NARROW), InsnArg.lit(0, ArgType.NARROW)));
 
-			case 0xab:
-				return invokeHelperArg1(insn, "getiterator", InsnArg.reg(accRegister, ArgType.OBJECT),
-						InsnArg.reg(accRegister, ArgType.OBJECT));
+		// ldnull
+		register(NO_PREFIX, 0x01, (d, insn, asmItem, accRegister) -> {
+			LiteralArg litArg = InsnArg.lit(0, ArgType.INT);
+			return d.insn(InsnType.CONST, InsnArg.reg(accRegister, ArgType.INT), litArg);
+		});
 
-			case 0xac:
-				return invokeHelperArg1(insn, "closeiterator", getRegisterArg(asmItem, 2, ArgType.OBJECT),
-						InsnArg.reg(accRegister, ArgType.OBJECT));
+		// ldtrue
+		register(NO_PREFIX, 0x02, (d, insn, asmItem, accRegister) -> {
+			LiteralArg litArg = InsnArg.lit(1, ArgType.INT);
+			return d.insn(InsnType.CONST, InsnArg.reg(accRegister, ArgType.INT), litArg);
+		});
 
-			case 0xaf:
-				return invokeHelperArg0(insn, "ldfunction", InsnArg.reg(accRegister, ArgType.OBJECT));
-			case 0xb0:
-				return invokeHelperArg0(insn, "debugger", null);
+		register(NO_PREFIX, 0x03, (d, insn, asmItem, accRegister) -> {
+			LiteralArg litArg = InsnArg.lit(0, ArgType.INT);
+			return d.insn(InsnType.CONST, InsnArg.reg(accRegister, ArgType.INT), litArg);
+		});
 
-			case 0xb1:
-				return invokeHelperArg1(insn, "creategeneratorobj", getRegisterArg(asmItem, 1, ArgType.OBJECT),
-						InsnArg.reg(accRegister, ArgType.OBJECT));
+		register(NO_PREFIX, 0x63, (d, insn, asmItem, accRegister) -> {
+			LiteralArg litArg = InsnArg.lit(asmItem.getOpUnits().get(1).longValue(), ArgType.BOOLEAN);
+			return d.insn(InsnType.CONST, InsnArg.reg(accRegister, ArgType.FLOAT), litArg);
+		});
 
-			case 0xb2:
-				return invokeHelperArg2(insn, "createiterresultobj", getRegisterArg(asmItem, 1, ArgType.OBJECT),
-						getRegisterArg(asmItem, 2, ArgType.OBJECT), InsnArg.reg(accRegister, ArgType.NARROW));
+		register(NO_PREFIX, 0xd5, (d, insn, asmItem, accRegister) -> new InsnNode(InsnType.NOP, 0));
 
-			case 0xb3:
-				return createobjectwithexcludedkeys(insn, false);
+		register(NO_PREFIX, 0x6a, (d, insn, asmItem, accRegister) -> {
+			ArgType clsType = ArgType.object("nan");
+			InsnNode constClsInsn = new ConstClassNode(clsType);
+			constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return constClsInsn;
+		});
 
-			// asyncfunctionenter
-			case 0xae: {
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 0, "asyncfunctionenter");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 0);
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x6b, (d, insn, asmItem, accRegister) -> {
+			ArgType clsType = ArgType.object("infinity");
+			InsnNode constClsInsn = new ConstClassNode(clsType);
+			constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return constClsInsn;
+		});
 
-			// asyncfunctionresolve
-			case 0xcd: {
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 2, "asyncfunctionresolve");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
-				invoke.addReg(accRegister, ArgType.OBJECT);
-				invoke.addReg(getRegisterByOpIndex(asmItem, 1), ArgType.OBJECT);
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x6c, (d, insn, asmItem, accRegister) -> {
+			ArgType clsType = ArgType.object("arguments");
+			InsnNode constClsInsn = new ConstClassNode(clsType);
+			constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return constClsInsn;
+		});
 
-			// asyncfunctionreject
-			case 0xce: {
+		register(NO_PREFIX, 0x6d, (d, insn, asmItem, accRegister) -> {
+			ArgType clsType = ArgType.object("global");
+			InsnNode constClsInsn = new ConstClassNode(clsType);
+			constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return constClsInsn;
+		});
 
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 2, "asyncfunctionreject");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
-				invoke.addReg(accRegister, ArgType.OBJECT);
-				invoke.addReg(getRegisterByOpIndex(asmItem, 1), ArgType.OBJECT);
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x6f, (d, insn, asmItem, accRegister) -> {
+			ArgType clsType = ArgType.object("this");
+			InsnNode constClsInsn = new ConstClassNode(clsType);
+			constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return constClsInsn;
+		});
 
-			case 0x4f: // jeqz
-			case 0x50:
-			case 0x9a:
-				return new IfNode(getIntOpUnit(asmItem, 1) + asmItem.getCodeOffset(), accRegister, IfOp.EQ);
-
-			case 0x9b:
-			case 0x9c:
-			case 0x51: // jnez
-				return new IfNode(getIntOpUnit(asmItem, 1) + asmItem.getCodeOffset(), accRegister, IfOp.NE);
-
-			case 0x98:
-			case 0x4d:
-			case 0x4e:
-				return new GotoNode(getIntOpUnit(asmItem, 1) + asmItem.getCodeOffset());
-
-			case 0x64:
-			case 0x65:
-				return insn(InsnType.RETURN,
-						null,
-						InsnArg.reg(accRegister, method.getReturnType()));
-			case 0x3e:
-				InsnNode constStrInsn = new ConstStringNode(getStringOpFormat(asmItem, 1));
-				constStrInsn.setResult(InsnArg.reg(accRegister, ArgType.STRING));
-				return constStrInsn;
-
-			case 0x91:
-			case 0x43:
-				return makePutField(asmItem, getRegisterByOpIndex(asmItem, 3), accRegister, 2);
-
-			case 0x2e: // callthis1
-				return callthisN(insn, 1);
-
-			case 0x2d:
-				return callthisN(insn, 0);
-
-			case 0x2f: // callthis2
-				return callthisN(insn, 2);
-
-			case 0x31:
-				return callThisRange(insn);
-
-			case 0x30: // callthis3
-				return callthisN(insn, 3);
-
-			case 0x73:
-				return callrange(insn);
-
-			case 0x72:
-			case 0x71:
-				return invokeHelperArg2(insn, "createregexpwithliteral",
-						InsnArg.wrapArg(new ConstStringNode(getStringOpFormat(asmItem, 2))),
-						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))),
-						InsnArg.reg(accRegister, ArgType.OBJECT));
+		register(NO_PREFIX, 0x70, (d, insn, asmItem, accRegister) -> {
+			ArgType clsType = ArgType.object("hole");
+			InsnNode constClsInsn = new ConstClassNode(clsType);
+			constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return constClsInsn;
+		});
 
-			case 0xcf: // copyrestargs
-				return copyrestargs(insn, false);
-			case 0xb9: // supercallspread
-				return supercallspread(insn);
+		register(NO_PREFIX, 0xad, (d, insn, asmItem, accRegister) -> {
+			ArgType clsType = ArgType.object("ldsymbol");
+			InsnNode constClsInsn = new ConstClassNode(clsType);
+			constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return constClsInsn;
+		});
 
-			case 0xb5:
-			case 0xb4:
-				return invokeHelperArg2(insn, "newobjapply", getRegisterArg(asmItem, 2, ArgType.OBJECT),
-						InsnArg.reg(accRegister, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.OBJECT));
-
-			// defineclasswithbuffer
-			case 0x75:
-			case 0x35: {
-				List<InstFmt> formats = asmItem.getIns().getFormat();
-				MethodItem targetMth = ((InstFmt.MId) formats.get(2)).getMethod(asmItem);
-				LiteralArray la = ((InstFmt.LId) formats.get(3)).getLA(asmItem);
-				int parentReg = getRegisterByOpIndex(asmItem, 5);
-
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 5, targetMth.getName());
-
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.VIRTUAL, 5);
-				invoke.addReg(parentReg, ArgType.OBJECT); // object
-				invoke.addArg(InsnArg.wrapArg(new ConstClassNode(ArgType.object("Object2"))));
-				invoke.addArg(InsnArg.wrapArg(new ConstClassNode(ArgType.object("Object3"))));
-				invoke.addReg(parentReg, ArgType.OBJECT);
-
-				invoke.addArg(InsnArg.wrapArg(new ConstStringNode(la.toString(), false)));
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x61, (d, insn, asmItem, accRegister) ->
+				d.insn(InsnType.MOVE, d.getRegisterArg(asmItem, 1, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
 
-			case 0x81:
-			case 0x06: {
+		register(NO_PREFIX, 0x60, (d, insn, asmItem, accRegister) ->
+				d.insn(InsnType.MOVE, InsnArg.reg(accRegister, ArgType.NARROW),
+						d.getRegisterArg(asmItem, 1, ArgType.NARROW)));
 
-				List<InstFmt> formats = asmItem.getIns().getFormat();
-				LiteralArray la = ((InstFmt.LId) formats.get(2)).getLA(asmItem);
+		register(NO_PREFIX, 0x13, (d, insn, asmItem, accRegister) ->
+				d.cmp(getRegisterByOpIndex(asmItem, 2), accRegister, accRegister, InsnType.CMP_G, ArgType.NARROW));
 
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 1, "createarraywithbuffer");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
-				invoke.addArg(InsnArg.wrapArg(new ConstStringNode(la.toString(), false)));
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x11, (d, insn, asmItem, accRegister) ->
+				d.cmp(getRegisterByOpIndex(asmItem, 2), accRegister, accRegister, InsnType.CMP_L, ArgType.NARROW));
 
-			case 0x80:
-			case 0x05:
-				return makeNewArray(accRegister);
+		// stricteq
+		register(NO_PREFIX, ops(0x0f, 0x28), (d, insn, asmItem, accRegister) ->
+				d.cmp(accRegister, getRegisterByOpIndex(asmItem, 2), accRegister, InsnType.CMP_EQ, ArgType.NARROW));
 
-			case 0x82:
-			case 0x07: {
-				List<InstFmt> formats = asmItem.getIns().getFormat();
-				LiteralArray la = ((InstFmt.LId) formats.get(2)).getLA(asmItem);
+		// strictnoteq
+		register(NO_PREFIX, ops(0x10, 0x27), (d, insn, asmItem, accRegister) ->
+				d.cmp(accRegister, getRegisterByOpIndex(asmItem, 2), accRegister, InsnType.CMP_NE, ArgType.NARROW));
 
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 1, "createobjectwithbuffer");
+		register(NO_PREFIX, 0x14, (d, insn, asmItem, accRegister) ->
+				d.cmp(getRegisterByOpIndex(asmItem, 2), accRegister,  accRegister, InsnType.CMP_GE, ArgType.NARROW));
 
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
-				invoke.addArg(InsnArg.wrapArg(new ConstStringNode(la.toString(), false)));
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x12, (d, insn, asmItem, accRegister) ->
+				d.cmp(getRegisterByOpIndex(asmItem, 2), accRegister, accRegister, InsnType.CMP_LE, ArgType.NARROW));
 
-			// newlexenvwithname
-			case 0xb6: {
-				return newlexenvwithname(insn, asmItem, accRegister, false);
-			}
+		register(NO_PREFIX, 0x22, (d, insn, asmItem, accRegister) -> d.dec(insn));
 
-			// stmodulevar
-			case 0x7c:
-				return stmodulevar(insn, accRegister, asmItem, false);
-
-			// stlexvar
-			case 0x8b:
-			case 0x3d:
-				return stlexvar(insn, asmItem, accRegister, false);
-
-			// definefunc
-			case 0x74:
-			case 0x33: {
-				List<InstFmt> formats = asmItem.getIns().getFormat();
-				MethodItem targetMth = ((InstFmt.MId) formats.get(2)).getMethod(asmItem);
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 2, "definefunc");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
-				invoke.addArg(InsnArg.wrapArg(new ConstStringNode(targetMth.getName(), false)));
-				invoke.addArg(InsnArg.wrapArg(new ConstIntNode(asmItem.getOpUnits().get(3).intValue())));
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x21, (d, insn, asmItem, accRegister) -> d.inc(insn));
 
-			// definemethod
-			case 0xbe:
-			case 0x34: {
-				List<InstFmt> formats = asmItem.getIns().getFormat();
-				MethodItem targetMth = ((InstFmt.MId) formats.get(2)).getMethod(asmItem);
-				return makeGetField(asmItem, accRegister, accRegister, targetMth.getName());
-			}
+		register(NO_PREFIX, 0x0a, (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.ADD));
 
-			// ldexternalmodulevar
-			case 0x7e:
-				return ldexternalmodulevar(insn, asmItem, accRegister, false);
+		register(NO_PREFIX, 0x0b, (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.SUB));
 
-			// typeof
-			case 0x84:
-			case 0x1c: {
+		register(NO_PREFIX, 0x0c, (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.MUL));
 
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 1, "typeof");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
-				invoke.addArg(InsnArg.reg(accRegister, ArgType.OBJECT));
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x0d, (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.DIV));
 
-			// isin RR, vAA
-			case 0x25: {
+		register(NO_PREFIX, 0x0e, (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.REM));
 
-				int aReg = getRegisterByOpIndex(asmItem, 2);
+		register(NO_PREFIX, 0x15, (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.SHL));
 
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 2, "isIn");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
-				invoke.addArg(InsnArg.reg(aReg, ArgType.OBJECT));
-				invoke.addArg(InsnArg.reg(accRegister, ArgType.OBJECT));
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.BOOLEAN));
-				return invoke;
-			}
+		register(NO_PREFIX, ops(0x16, 0x17), (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.SHR));
+
+		register(NO_PREFIX, 0x18, (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.AND));
+
+		register(NO_PREFIX, 0x19, (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.OR));
+
+		register(NO_PREFIX, 0x1a, (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.XOR));
+
+		// todo: A ** acc
+		register(NO_PREFIX, 0x1b, (d, insn, asmItem, accRegister) -> d.arith2(insn, ArithOp.EXP));
+
+		// isfalse
+		register(NO_PREFIX, 0x24, (d, insn, asmItem, accRegister) -> d.isTrueOrFalse(insn, accRegister, "isfalse"));
+		register(NO_PREFIX, 0x23, (d, insn, asmItem, accRegister) -> d.isTrueOrFalse(insn, accRegister, "istrue"));
+
+		register(NO_PREFIX, 0xab, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "getiterator", InsnArg.reg(accRegister, ArgType.OBJECT),
+						InsnArg.reg(accRegister, ArgType.OBJECT)));
+
+		register(NO_PREFIX, 0xac, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "closeiterator", d.getRegisterArg(asmItem, 2, ArgType.OBJECT),
+						InsnArg.reg(accRegister, ArgType.OBJECT)));
+
+		register(NO_PREFIX, 0xaf, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg0(insn, "ldfunction", InsnArg.reg(accRegister, ArgType.OBJECT)));
+
+		register(NO_PREFIX, 0xb0, (d, insn, asmItem, accRegister) -> d.invokeHelperArg0(insn, "debugger", null));
+
+		register(NO_PREFIX, 0xb1, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "creategeneratorobj", d.getRegisterArg(asmItem, 1, ArgType.OBJECT),
+						InsnArg.reg(accRegister, ArgType.OBJECT)));
+
+		register(NO_PREFIX, 0xb2, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "createiterresultobj", d.getRegisterArg(asmItem, 1, ArgType.OBJECT),
+						d.getRegisterArg(asmItem, 2, ArgType.OBJECT), InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0xb3, (d, insn, asmItem, accRegister) -> d.createobjectwithexcludedkeys(insn, false));
+
+		// asyncfunctionenter
+		register(NO_PREFIX, 0xae, (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 0, "asyncfunctionenter");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 0);
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return invoke;
+		});
+
+		// asyncfunctionresolve
+		register(NO_PREFIX, 0xcd, (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 2, "asyncfunctionresolve");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
+			invoke.addReg(accRegister, ArgType.OBJECT);
+			invoke.addReg(getRegisterByOpIndex(asmItem, 1), ArgType.OBJECT);
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return invoke;
+		});
+
+		// asyncfunctionreject
+		register(NO_PREFIX, 0xce, (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 2, "asyncfunctionreject");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
+			invoke.addReg(accRegister, ArgType.OBJECT);
+			invoke.addReg(getRegisterByOpIndex(asmItem, 1), ArgType.OBJECT);
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return invoke;
+		});
+
+		// jeqz
+		register(NO_PREFIX, ops(0x4f, 0x50, 0x9a), (d, insn, asmItem, accRegister) ->
+				new IfNode(getIntOpUnit(asmItem, 1) + asmItem.getCodeOffset(), accRegister, IfOp.EQ));
+
+		// jnez
+		register(NO_PREFIX, ops(0x9b, 0x9c, 0x51), (d, insn, asmItem, accRegister) ->
+				new IfNode(getIntOpUnit(asmItem, 1) + asmItem.getCodeOffset(), accRegister, IfOp.NE));
+
+		register(NO_PREFIX, ops(0x98, 0x4d, 0x4e), (d, insn, asmItem, accRegister) ->
+				new GotoNode(getIntOpUnit(asmItem, 1) + asmItem.getCodeOffset()));
+
+		register(NO_PREFIX, ops(0x64, 0x65), (d, insn, asmItem, accRegister) -> d.insn(InsnType.RETURN,
+				null,
+				InsnArg.reg(accRegister, d.method.getReturnType())));
+
+		register(NO_PREFIX, 0x3e, (d, insn, asmItem, accRegister) -> {
+			InsnNode constStrInsn = new ConstStringNode(d.getString(asmItem, 1));
+			constStrInsn.setResult(InsnArg.reg(accRegister, ArgType.STRING));
+			return constStrInsn;
+		});
+
+		register(NO_PREFIX, ops(0x91, 0x43), (d, insn, asmItem, accRegister) ->
+				d.makePutField(asmItem, getRegisterByOpIndex(asmItem, 3), accRegister, 2));
 
-			case 0x26:
-				return invokeHelperArg2(insn, "instanceof", getRegisterArg(asmItem, 2, ArgType.OBJECT),
+		// callthis1
+		register(NO_PREFIX, 0x2e, (d, insn, asmItem, accRegister) -> d.callthisN(insn, 1));
+
+		register(NO_PREFIX, 0x2d, (d, insn, asmItem, accRegister) -> d.callthisN(insn, 0));
+
+		// callthis2
+		register(NO_PREFIX, 0x2f, (d, insn, asmItem, accRegister) -> d.callthisN(insn, 2));
+
+		register(NO_PREFIX, 0x31, (d, insn, asmItem, accRegister) -> d.callThisRange(insn));
+
+		// callthis3
+		register(NO_PREFIX, 0x30, (d, insn, asmItem, accRegister) -> d.callthisN(insn, 3));
+
+		register(NO_PREFIX, 0x73, (d, insn, asmItem, accRegister) -> d.callrange(insn));
+
+		register(NO_PREFIX, ops(0x72, 0x71), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "createregexpwithliteral",
+						InsnArg.wrapArg(new ConstStringNode(d.getString(asmItem, 2))),
+						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))),
+						InsnArg.reg(accRegister, ArgType.OBJECT)));
+
+		// copyrestargs
+		register(NO_PREFIX, 0xcf, (d, insn, asmItem, accRegister) -> d.copyrestargs(insn, false));
+
+		// supercallspread
+		register(NO_PREFIX, 0xb9, (d, insn, asmItem, accRegister) -> d.supercallspread(insn));
+
+		register(NO_PREFIX, ops(0xb5, 0xb4), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "newobjapply", d.getRegisterArg(asmItem, 2, ArgType.OBJECT),
+						InsnArg.reg(accRegister, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.OBJECT)));
+
+		// defineclasswithbuffer
+		register(NO_PREFIX, ops(0x75, 0x35), (d, insn, asmItem, accRegister) -> {
+			List<InstFmt> formats = asmItem.getIns().getFormat();
+			MethodItem targetMth = ((InstFmt.MId) formats.get(2)).getMethod(asmItem);
+			LiteralArray la = ((InstFmt.LId) formats.get(3)).getLA(asmItem);
+			int parentReg = getRegisterByOpIndex(asmItem, 5);
+
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 5, targetMth.getName());
+
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.VIRTUAL, 5);
+			invoke.addReg(parentReg, ArgType.OBJECT); // object
+			invoke.addArg(InsnArg.wrapArg(new ConstClassNode(ArgType.object("Object2"))));
+			invoke.addArg(InsnArg.wrapArg(new ConstClassNode(ArgType.object("Object3"))));
+			invoke.addReg(parentReg, ArgType.OBJECT);
+
+			invoke.addArg(InsnArg.wrapArg(new ConstStringNode(d.literalArrayStr(la), false)));
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return invoke;
+		});
+
+		register(NO_PREFIX, ops(0x81, 0x06), (d, insn, asmItem, accRegister) -> {
+			List<InstFmt> formats = asmItem.getIns().getFormat();
+			LiteralArray la = ((InstFmt.LId) formats.get(2)).getLA(asmItem);
+
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 1, "createarraywithbuffer");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
+			invoke.addArg(InsnArg.wrapArg(new ConstStringNode(d.literalArrayStr(la), false)));
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return invoke;
+		});
+
+		register(NO_PREFIX, ops(0x80, 0x05), (d, insn, asmItem, accRegister) -> d.makeNewArray(accRegister));
+
+		register(NO_PREFIX, ops(0x82, 0x07), (d, insn, asmItem, accRegister) -> {
+			List<InstFmt> formats = asmItem.getIns().getFormat();
+			LiteralArray la = ((InstFmt.LId) formats.get(2)).getLA(asmItem);
+
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 1, "createobjectwithbuffer");
+
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
+			invoke.addArg(InsnArg.wrapArg(new ConstStringNode(d.literalArrayStr(la), false)));
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return invoke;
+		});
+
+		// newlexenvwithname
+		register(NO_PREFIX, 0xb6, (d, insn, asmItem, accRegister) ->
+				d.newlexenvwithname(insn, asmItem, accRegister, false));
+
+		// stmodulevar
+		register(NO_PREFIX, 0x7c, (d, insn, asmItem, accRegister) -> d.stmodulevar(insn, accRegister, asmItem, false));
+
+		// stlexvar
+		register(NO_PREFIX, ops(0x8b, 0x3d), (d, insn, asmItem, accRegister) ->
+				d.stlexvar(insn, asmItem, accRegister, false));
+
+		// definefunc
+		register(NO_PREFIX, ops(0x74, 0x33), (d, insn, asmItem, accRegister) -> {
+			List<InstFmt> formats = asmItem.getIns().getFormat();
+			MethodItem targetMth = ((InstFmt.MId) formats.get(2)).getMethod(asmItem);
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 2, "definefunc");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
+			invoke.addArg(InsnArg.wrapArg(new ConstStringNode(targetMth.getName(), false)));
+			invoke.addArg(InsnArg.wrapArg(new ConstIntNode(asmItem.getOpUnits().get(3).intValue())));
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return invoke;
+		});
+
+		// definemethod
+		register(NO_PREFIX, ops(0xbe, 0x34), (d, insn, asmItem, accRegister) -> {
+			List<InstFmt> formats = asmItem.getIns().getFormat();
+			MethodItem targetMth = ((InstFmt.MId) formats.get(2)).getMethod(asmItem);
+			return d.makeGetField(asmItem, accRegister, accRegister, targetMth.getName());
+		});
+
+		// ldexternalmodulevar
+		register(NO_PREFIX, 0x7e, (d, insn, asmItem, accRegister) ->
+				d.ldexternalmodulevar(insn, asmItem, accRegister, false));
+
+		// typeof
+		register(NO_PREFIX, ops(0x84, 0x1c), (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 1, "typeof");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
+			invoke.addArg(InsnArg.reg(accRegister, ArgType.OBJECT));
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return invoke;
+		});
+
+		// isin RR, vAA
+		register(NO_PREFIX, 0x25, (d, insn, asmItem, accRegister) -> {
+			int aReg = getRegisterByOpIndex(asmItem, 2);
+
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 2, "isIn");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
+			invoke.addArg(InsnArg.reg(aReg, ArgType.OBJECT));
+			invoke.addArg(InsnArg.reg(accRegister, ArgType.OBJECT));
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.BOOLEAN));
+			return invoke;
+		});
+
+		register(NO_PREFIX, 0x26, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "instanceof", d.getRegisterArg(asmItem, 2, ArgType.OBJECT),
 						InsnArg.reg(accRegister, ArgType.OBJECT),
-						InsnArg.reg(accRegister, ArgType.INT));
+						InsnArg.reg(accRegister, ArgType.INT)));
 
-			case 0x48:
-			case 0x47:
-				return invokeHelperArg2(insn, "set_global", InsnArg.wrapArg(new ConstStringNode(getStringOpFormat(asmItem, 2), false)),
+		register(NO_PREFIX, ops(0x48, 0x47), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "set_global", InsnArg.wrapArg(new ConstStringNode(d.getString(asmItem, 2), false)),
 						InsnArg.reg(accRegister, ArgType.NARROW),
-						null);
+						null));
 
-			case 0xc1:
-			case 0x76:
-				return invokeHelperArg1(insn, "gettemplateobject", InsnArg.reg(accRegister, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
+		register(NO_PREFIX, ops(0xc1, 0x76), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "gettemplateobject", InsnArg.reg(accRegister, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
 
-			case 0xb7:
-				return invokeHelperArg1(insn, "createasyncgeneratorobj", getRegisterArg(asmItem, 1, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
+		register(NO_PREFIX, 0xb7, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "createasyncgeneratorobj", d.getRegisterArg(asmItem, 1, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
 
-			case 0xc7:
-			case 0x77:
-				return makePutField(asmItem, accRegister, getRegisterByOpIndex(asmItem, 2), "__proto__");
+		register(NO_PREFIX, ops(0xc7, 0x77), (d, insn, asmItem, accRegister) ->
+				d.makePutField(asmItem, accRegister, getRegisterByOpIndex(asmItem, 2), "__proto__"));
 
-			case 0x93:
-			case 0x49:
-				return invokeHelperArg1(insn, "ldthisbyname", InsnArg.wrapArg(new ConstStringNode(getStringOpFormat(asmItem, 2), false)),
-						InsnArg.reg(accRegister, ArgType.NARROW));
+		register(NO_PREFIX, ops(0x93, 0x49), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "ldthisbyname", InsnArg.wrapArg(new ConstStringNode(d.getString(asmItem, 2), false)),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
 
-			case 0x94:
-			case 0x4a:
-				return invokeHelperArg2(insn, "stthisbyname", InsnArg.wrapArg(new ConstStringNode(getStringOpFormat(asmItem, 2), false)),
+		register(NO_PREFIX, ops(0x94, 0x4a), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "stthisbyname", InsnArg.wrapArg(new ConstStringNode(d.getString(asmItem, 2), false)),
 						InsnArg.reg(accRegister, ArgType.NARROW),
-						null);
+						null));
 
-			case 0x95:
-			case 0x4b:
-				return invokeHelperArg1(insn, "ldthisbyvalue", InsnArg.reg(accRegister, ArgType.INT),
-						InsnArg.reg(accRegister, ArgType.NARROW));
+		register(NO_PREFIX, ops(0x95, 0x4b), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "ldthisbyvalue", InsnArg.reg(accRegister, ArgType.INT),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
 
-			case 0x96:
-			case 0x4c:
-				return invokeHelperArg2(insn, "stthisbyvalue", getRegisterArg(asmItem, 2, ArgType.INT),
+		register(NO_PREFIX, ops(0x96, 0x4c), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "stthisbyvalue", d.getRegisterArg(asmItem, 2, ArgType.INT),
 						InsnArg.reg(accRegister, ArgType.NARROW),
-						null);
-
-			case 0x97:
-				// asyncgeneratorreject
-				return invokeHelperArg2(insn, "asyncgeneratorreject", InsnArg.reg(accRegister, ArgType.NARROW),
-						getRegisterArg(asmItem, 1, ArgType.OBJECT),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0xc8:
-			case 0x78:
-				return invokeHelperArg3(insn, "stownbyvalue", getRegisterArg(asmItem, 2, ArgType.OBJECT),
-						getRegisterArg(asmItem, 3, ArgType.NARROW),
+						null));
+
+		register(NO_PREFIX, 0x97, (d, insn, asmItem, accRegister) -> {
+			// asyncgeneratorreject
+			return d.invokeHelperArg2(insn, "asyncgeneratorreject", InsnArg.reg(accRegister, ArgType.NARROW),
+					d.getRegisterArg(asmItem, 1, ArgType.OBJECT),
+					InsnArg.reg(accRegister, ArgType.NARROW));
+		});
+
+		register(NO_PREFIX, ops(0xc8, 0x78), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "stownbyvalue", d.getRegisterArg(asmItem, 2, ArgType.OBJECT),
+						d.getRegisterArg(asmItem, 3, ArgType.NARROW),
 						InsnArg.reg(accRegister, ArgType.NARROW),
-						null);
+						null));
 
-			case 0xb8:
-				return invokeHelperArg3(insn, "asyncgeneratorresolve", getRegisterArg(asmItem, 1, ArgType.OBJECT),
-						getRegisterArg(asmItem, 2, ArgType.NARROW), getRegisterArg(asmItem, 3, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
+		register(NO_PREFIX, 0xb8, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "asyncgeneratorresolve", d.getRegisterArg(asmItem, 1, ArgType.OBJECT),
+						d.getRegisterArg(asmItem, 2, ArgType.NARROW), d.getRegisterArg(asmItem, 3, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
 
-			case 0xd4:
-			case 0x8e:
-				return invokeHelperArg3(insn, "stownbynamewithnameset", getRegisterArg(asmItem, 3, ArgType.OBJECT),
-						InsnArg.wrapArg(new ConstStringNode(getStringOpFormat(asmItem, 2))),
+		register(NO_PREFIX, ops(0xd4, 0x8e), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "stownbynamewithnameset", d.getRegisterArg(asmItem, 3, ArgType.OBJECT),
+						InsnArg.wrapArg(new ConstStringNode(d.getString(asmItem, 2))),
 						InsnArg.reg(accRegister, ArgType.NARROW),
-						null);
+						null));
 
-			case 0xd2:
-			case 0x99:
-				return invokeHelperArg3(insn, "stownbyvaluewithnameset", getRegisterArg(asmItem, 2, ArgType.OBJECT),
-						getRegisterArg(asmItem, 3, ArgType.OBJECT),
+		register(NO_PREFIX, ops(0xd2, 0x99), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "stownbyvaluewithnameset", d.getRegisterArg(asmItem, 2, ArgType.OBJECT),
+						d.getRegisterArg(asmItem, 3, ArgType.OBJECT),
 						InsnArg.reg(accRegister, ArgType.NARROW),
-						null);
+						null));
 
-			case 0xd3:
-				return invokeHelperArg1(insn, "ldbigint", InsnArg.wrapArg(new ConstStringNode(getStringOpFormat(asmItem, 1))),
-						InsnArg.reg(accRegister, ArgType.NARROW));
+		register(NO_PREFIX, 0xd3, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "ldbigint", InsnArg.wrapArg(new ConstStringNode(d.getString(asmItem, 1))),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
 
-			case 0xd7:
-				return invokeHelperArg1(insn, "getasynciterator", InsnArg.reg(accRegister, ArgType.OBJECT),
-						InsnArg.reg(accRegister, ArgType.OBJECT));
+		register(NO_PREFIX, 0xd7, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "getasynciterator", InsnArg.reg(accRegister, ArgType.OBJECT),
+						InsnArg.reg(accRegister, ArgType.OBJECT)));
 
-			case 0xd8:
-				return invokeHelperArg2(insn, "ldprivateproperty", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))),
+		register(NO_PREFIX, 0xd8, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "ldprivateproperty", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))),
 						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))),
-						InsnArg.reg(accRegister, ArgType.OBJECT));
+						InsnArg.reg(accRegister, ArgType.OBJECT)));
 
-			case 0xd9:
-				return invokeHelperArg3(insn, "stprivateproperty", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))),
+		register(NO_PREFIX, 0xd9, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "stprivateproperty", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))),
 						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))),
-						getRegisterArg(asmItem, 4, ArgType.OBJECT), InsnArg.reg(accRegister, ArgType.OBJECT));
+						d.getRegisterArg(asmItem, 4, ArgType.OBJECT), InsnArg.reg(accRegister, ArgType.OBJECT)));
 
-			case 0xda:
-				return invokeHelperArg3(insn, "testin", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))),
+		register(NO_PREFIX, 0xda, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "testin", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))),
 						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))),
-						InsnArg.reg(accRegister, ArgType.OBJECT), InsnArg.reg(accRegister, ArgType.OBJECT));
+						InsnArg.reg(accRegister, ArgType.OBJECT), InsnArg.reg(accRegister, ArgType.OBJECT)));
 
-			case 0xdb:
-				return makePutField(asmItem, getRegisterByOpIndex(asmItem, 3), accRegister, 2);
+		register(NO_PREFIX, 0xdb, (d, insn, asmItem, accRegister) ->
+				d.makePutField(asmItem, getRegisterByOpIndex(asmItem, 3), accRegister, 2));
 
-			case 0xd6:
-				return invokeHelperArg2(insn, "setgeneratorstate", InsnArg.reg(accRegister, ArgType.NARROW),
+		register(NO_PREFIX, 0xd6, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "setgeneratorstate", InsnArg.reg(accRegister, ArgType.NARROW),
 						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 1))),
-						null);
+						null));
 
-			case 0xd1:
-			case 0xd0:
-				return invokeHelperArg3(insn, "stsuperbyname", InsnArg.wrapArg(new ConstStringNode(getStringOpFormat(asmItem, 2))),
-						InsnArg.reg(accRegister, ArgType.NARROW), getRegisterArg(asmItem, 3, ArgType.OBJECT),
-						null);
+		register(NO_PREFIX, ops(0xd1, 0xd0), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "stsuperbyname", InsnArg.wrapArg(new ConstStringNode(d.getString(asmItem, 2))),
+						InsnArg.reg(accRegister, ArgType.NARROW), d.getRegisterArg(asmItem, 3, ArgType.OBJECT),
+						null));
 
-			case 0xba:
-				return invokeHelperArg3(insn, "apply", InsnArg.reg(getIntOpUnit(asmItem, 2), ArgType.OBJECT),
-						getRegisterArg(asmItem, 3, ArgType.OBJECT),
+		register(NO_PREFIX, 0xba, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "apply", InsnArg.reg(getIntOpUnit(asmItem, 2), ArgType.OBJECT),
+						d.getRegisterArg(asmItem, 3, ArgType.OBJECT),
 						InsnArg.reg(accRegister, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0xbb:
-				return supercallarrowrange(insn);
+						InsnArg.reg(accRegister, ArgType.NARROW)));
 
-			case 0xbc: {
+		register(NO_PREFIX, 0xbb, (d, insn, asmItem, accRegister) -> d.supercallarrowrange(insn));
 
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 4, "definegettersetterbyvalue");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 4);
+		register(NO_PREFIX, 0xbc, (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 4, "definegettersetterbyvalue");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 4);
 
-				for (int i = 0; i < 4; i++) {
-					invoke.addArg(getRegisterArg(asmItem, i + 1, ArgType.OBJECT));
-				}
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.BOOLEAN));
-				return invoke;
+			for (int i = 0; i < 4; i++) {
+				invoke.addArg(d.getRegisterArg(asmItem, i + 1, ArgType.OBJECT));
 			}
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.BOOLEAN));
+			return invoke;
+		});
 
-			case 0xcc:
-			case 0x7a:
-				return makePutField(asmItem, getRegisterByOpIndex(asmItem, 3), accRegister, 2);
-
-			case 0x7b:
-				return invokeHelperArg1(insn, "getmodulenamespace", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 1))),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0x29:
-				return callargsN(insn, 0);
-			case 0x2a:
-				return callargsN(insn, 1);
-
-			case 0x2b:
-				return callargsN(insn, 2);
-			case 0x2c:
-				return callargsN(insn, 3);
-
-			case 0x1f:
-				return neg(insn);
-			case 0x20:
-				return not(insn);
-			case 0x32:
-				return supercallthisrange(insn, false);
-
-			case 0x83:
-			case 0x08:
-				return newobjrange(insn);
-
-			case 0x8a:
-			case 0x3c:
-				return ldlexvar(insn, asmItem, accRegister, false);
-
-			case 0x85:
-			case 0x37: {
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 2, "ldobjbyvalue");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
-				invoke.addArg(getRegisterArg(asmItem, 2, ArgType.OBJECT));
-				invoke.addArg(InsnArg.reg(accRegister, ArgType.NARROW));
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.NARROW));
-				return invoke;
-			}
+		register(NO_PREFIX, ops(0xcc, 0x7a), (d, insn, asmItem, accRegister) ->
+				d.makePutField(asmItem, getRegisterByOpIndex(asmItem, 3), accRegister, 2));
 
-			case 0x39:
-			case 0x87:
-				return invokeHelperArg2(insn, "ldsuperbyvalue", InsnArg.reg(accRegister, ArgType.NARROW),
-						getRegisterArg(asmItem, 1, ArgType.OBJECT), InsnArg.reg(accRegister, ArgType.NARROW));
+		register(NO_PREFIX, 0x7b, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "getmodulenamespace", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 1))),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
 
-			case 0x86:
-			case 0x38: {
+		register(NO_PREFIX, 0x29, (d, insn, asmItem, accRegister) -> d.callargsN(insn, 0));
 
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 3, "stobjbyvalue");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 3);
-				invoke.addArg(getRegisterArg(asmItem, 2, ArgType.NARROW));
-				invoke.addArg(getRegisterArg(asmItem, 3, ArgType.NARROW));
-				invoke.addArg(InsnArg.reg(accRegister, ArgType.NARROW));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x2a, (d, insn, asmItem, accRegister) -> d.callargsN(insn, 1));
 
-			case 0xcb:
-			case 0x79:
-				return stownbyindex(insn, asmItem, accRegister);
+		register(NO_PREFIX, 0x2b, (d, insn, asmItem, accRegister) -> d.callargsN(insn, 2));
 
-			case 0x04: {
+		register(NO_PREFIX, 0x2c, (d, insn, asmItem, accRegister) -> d.callargsN(insn, 3));
 
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 0, "createemptyobject");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 0);
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x1f, (d, insn, asmItem, accRegister) -> d.neg(insn));
 
-			case 0x42:
-			case 0x90:
-				return makeGetField(asmItem, accRegister, accRegister, 2);
+		register(NO_PREFIX, 0x20, (d, insn, asmItem, accRegister) -> d.not(insn));
 
-			case 0x09:
-				return newlexenv(insn, asmItem, accRegister, false);
+		register(NO_PREFIX, 0x32, (d, insn, asmItem, accRegister) -> d.supercallthisrange(insn, false));
 
-			case 0x69: {
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 0, "poplexenv");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 0);
-				return invoke;
-			}
+		register(NO_PREFIX, ops(0x83, 0x08), (d, insn, asmItem, accRegister) -> d.newobjrange(insn));
 
-			case 0x1d:
-			case 0x1e: {
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 1, "tonumer");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
-				invoke.addArg(InsnArg.reg(accRegister, ArgType.NARROW));
-				invoke.setResult(InsnArg.reg(accRegister, ArgType.INT));
-				return invoke;
-			}
+		register(NO_PREFIX, ops(0x8a, 0x3c), (d, insn, asmItem, accRegister) ->
+				d.ldlexvar(insn, asmItem, accRegister, false));
 
-			case 0xbd:
-				return invokeHelperArg1(insn, "dynamicimport", InsnArg.reg(accRegister, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0xbf:
-				return invokeHelperArg1(insn, "resumegenerator", InsnArg.reg(accRegister, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-			case 0xc0:
-				return invokeHelperArg1(insn, "getresumemode", InsnArg.reg(accRegister, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0xc2:
-				return invokeHelperArg2(insn, "delobjprop", getRegisterArg(asmItem, 1, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW));
-			case 0xc3:
-				return invokeHelperArg2(insn, "suspendgenerator", getRegisterArg(asmItem, 1, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW));
-			case 0xc4:
-				return invokeHelperArg2(insn, "asyncfunctionawaituncaught",
-						getRegisterArg(asmItem, 1, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0xc5:
-				return invokeHelperArg2(insn, "copydataproperties", getRegisterArg(asmItem, 1, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0xc6:
-				return invokeHelperArg3(insn, "starrayspread ", getRegisterArg(asmItem, 1, ArgType.NARROW),
-						getRegisterArg(asmItem, 2, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0x66:
-				return invokeHelperArg1(insn, "getpropiterator", InsnArg.reg(accRegister, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-			case 0x67:
-				return invokeHelperArg1(insn, "getiterator", InsnArg.reg(accRegister, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-			case 0x68:
-				return invokeHelperArg1(insn, "closeiterator", getRegisterArg(asmItem, 2, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0xca:
-			case 0xc9:
-				return invokeHelperArg3(insn, "stsuperbyvalue ", getRegisterArg(asmItem, 3, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW), getRegisterArg(asmItem, 2, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0x36:
-				return invokeHelperArg1(insn, "getnextpropname", getRegisterArg(asmItem, 1, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0x88:
-			case 0x3a:
-				return invokeHelperArg2(insn, "ldobjbyindex",
-						InsnArg.reg(accRegister, ArgType.NARROW), getRegisterArg(asmItem, 2, ArgType.NARROW),
-						InsnArg.reg(accRegister, ArgType.NARROW));
-
-			case 0x89:
-			case 0x3b:
-				return invokeHelperArg3(insn, "stobjbyindex", getRegisterArg(asmItem, 2, ArgType.OBJECT),
-						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))), InsnArg.reg(accRegister, ArgType.NARROW), null);
-
-			case 0x92:
-			case 0x46: {
-				List<InstFmt> formats = asmItem.getIns().getFormat();
-				String name = ((InstFmt.SId) formats.get(2)).getString(asmItem);
-				return invokeHelperArg2(insn, "ldsuperbyname", InsnArg.reg(accRegister, ArgType.OBJECT),
-						InsnArg.wrapArg(new ConstStringNode(name)), InsnArg.reg(accRegister, ArgType.NARROW));
-			}
+		register(NO_PREFIX, ops(0x85, 0x37), (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 2, "ldobjbyvalue");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
+			invoke.addArg(d.getRegisterArg(asmItem, 2, ArgType.OBJECT));
+			invoke.addArg(InsnArg.reg(accRegister, ArgType.NARROW));
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.NARROW));
+			return invoke;
+		});
 
-			case 0x7d:
-				return ldlocalmodulevar(insn, asmItem, accRegister, false);
+		register(NO_PREFIX, ops(0x39, 0x87), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "ldsuperbyvalue", InsnArg.reg(accRegister, ArgType.NARROW),
+						d.getRegisterArg(asmItem, 1, ArgType.OBJECT), InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, ops(0x86, 0x38), (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 3, "stobjbyvalue");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 3);
+			invoke.addArg(d.getRegisterArg(asmItem, 2, ArgType.NARROW));
+			invoke.addArg(d.getRegisterArg(asmItem, 3, ArgType.NARROW));
+			invoke.addArg(InsnArg.reg(accRegister, ArgType.NARROW));
+			return invoke;
+		});
 
-			case 0x8d:
-			case 0x7f:
-			case 0x40: {
+		register(NO_PREFIX, ops(0xcb, 0x79), (d, insn, asmItem, accRegister) ->
+				d.stownbyindex(insn, asmItem, accRegister));
 
-				List<InstFmt> formats = asmItem.getIns().getFormat();
-				String name = ((InstFmt.SId) formats.get(2)).getString(asmItem);
-				MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 2, "trystglobalbyname");
-				InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
-				invoke.addArg(InsnArg.wrapArg(new ConstStringNode(name, false)));
-				invoke.addArg(InsnArg.reg(accRegister, ArgType.NARROW));
-				return invoke;
-			}
+		register(NO_PREFIX, 0x04, (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 0, "createemptyobject");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 0);
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
+			return invoke;
+		});
 
-			case 0x3f:
-			case 0x8c:
-			case 0x41: {
-				ArgType clsType = ArgType.object(getStringOpFormat(asmItem, 2));
-				InsnNode constClsInsn = new ConstClassNode(clsType);
-				constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.generic(Consts.CLASS_CLASS, clsType)));
-				return constClsInsn;
-			}
+		register(NO_PREFIX, ops(0x42, 0x90), (d, insn, asmItem, accRegister) ->
+				d.makeGetField(asmItem, accRegister, accRegister, 2));
 
-		}
+		register(NO_PREFIX, 0x09, (d, insn, asmItem, accRegister) -> d.newlexenv(insn, asmItem, accRegister, false));
 
-		if (nOp == 0xfe) {
-			nOp = asmItem.getOpUnits().get(1).intValue();
-			switch (nOp) {
-				case 0x09:
-				case 0x08:
-				case 0x07:
-					return new InsnNode(InsnType.NOP, 0);
-				case 0x00: {
-					MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 1, "throw");
-					InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
-					invoke.addArg(InsnArg.reg(accRegister, ArgType.NARROW));
-					return invoke;
-				}
-				case 0x01:
-					invokeHelperArg0(insn, "throw.notexists", null);
-
-				case 0x05:
-					return invokeHelperArg1(insn, "throw.ifnotobject", getRegisterArg(asmItem, 2, ArgType.NARROW),
-							null);
-				case 0x06:
-					return invokeHelperArg2(insn, "throw.undefinedifhole",
-							getRegisterArg(asmItem, 2, ArgType.OBJECT), getRegisterArg(asmItem, 3, ArgType.NARROW), null);
-				case 0x02:
-					return invokeHelperArg0(insn, "throw.patternnoncoercible", null);
-				case 0x03:
-					return invokeHelperArg0(insn, "throw.deletesuperproperty", null);
-				case 0x04:
-					return invokeHelperArg1(insn, "throw.constassignment", getRegisterArg(asmItem, 2, ArgType.NARROW),
-							null);
+		register(NO_PREFIX, 0x69, (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 0, "poplexenv");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 0);
+			return invoke;
+		});
 
-			}
-		} else if (nOp == 0xfd) {
-			nOp = asmItem.getOpUnits().get(1).intValue() & 0xff;
-			switch (nOp) {
-				case 0x08:
-					return invokeHelperArg2(insn, "ldobjbyindex",
-							InsnArg.reg(accRegister, ArgType.NARROW), getRegisterArg(asmItem, 2, ArgType.NARROW),
-							InsnArg.reg(accRegister, ArgType.NARROW));
-				case 0x09:
-					return invokeHelperArg3(insn, "stobjbyindex", getRegisterArg(asmItem, 2, ArgType.OBJECT),
-							InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))), InsnArg.reg(accRegister, ArgType.NARROW), null);
-
-				case 0x00:
-					return createobjectwithexcludedkeys(insn, true);
-				case 0x01:
-					return newobjrange(insn);
-
-				case 0x06:
-					return supercallthisrange(insn, true);
-				case 0x0c:
-					return ldlexvar(insn, asmItem, accRegister, true);
-				case 0x0d:
-					return stlexvar(insn, asmItem, accRegister, true);
-				case 0x02:
-					return newlexenv(insn, asmItem, accRegister, true);
-				case 0x03:
-					return newlexenvwithname(insn, asmItem, accRegister, true);
-				case 0x04:
-					return callrange(insn);
-				case 0x05:
-					return callThisRange(insn);
-				case 0x0a:
-					return stownbyindex(insn, asmItem, accRegister);
-				case 0x0b:
-					return copyrestargs(insn, true);
-				case 0x0f:
-					return stmodulevar(insn, accRegister, asmItem, true);
-				case 0x10:
-					return ldlocalmodulevar(insn, asmItem, accRegister, true);
-				case 0x11:
-					return ldexternalmodulevar(insn, asmItem, accRegister, true);
-
-				case 0x12:
-					return invokeHelperArg1(insn, "ldpatchvar", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))),
-							InsnArg.reg(accRegister, ArgType.NARROW));
-				case 0x13:
-					return invokeHelperArg2(insn, "stpatchvar", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))),
-							InsnArg.reg(accRegister, ArgType.NARROW), null);
-			}
-		} else if (nOp == 0xfb) {
-			nOp = asmItem.getOpUnits().get(1).intValue();
-			switch (nOp) {
-				case 0x00:
-					return invokeHelperArg1(insn, "callruntime.notifyconcurrentresult",
-							InsnArg.reg(accRegister, ArgType.NARROW), null);
-				case 0x01:
-					return invokeHelperArg3(insn, "definefieldbyvalue", getRegisterArg(asmItem, 4, ArgType.OBJECT),
-							getRegisterArg(asmItem, 3, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW), null);
-
-				case 0x02:
-					return invokeHelperArg3(insn, "definefieldbyindex", getRegisterArg(asmItem, 4, ArgType.OBJECT),
-							InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))), InsnArg.reg(accRegister, ArgType.NARROW), null);
-
-				case 0x03:
-					return invokeHelperArg1(insn, "callruntime.topropertykey",
-							InsnArg.reg(accRegister, ArgType.NARROW), null);
-				case 0x04: {
-					//createprivateproperty
-					int cnt = getIntOpUnit(asmItem, 2);
-					LiteralArray la = ((InstFmt.LId) asmItem.getIns().getFormat().get(3)).getLA(asmItem);
-					return invokeHelperArg2(insn, "createprivateproperty",
-							InsnArg.wrapArg(new ConstIntNode(cnt)),
-							InsnArg.wrapArg(new ConstStringNode(la.toString(), false)),
-							null);
-				}
+		register(NO_PREFIX, ops(0x1d, 0x1e), (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 1, "tonumer");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
+			invoke.addArg(InsnArg.reg(accRegister, ArgType.NARROW));
+			invoke.setResult(InsnArg.reg(accRegister, ArgType.INT));
+			return invoke;
+		});
 
-				case 0x05: {
-					return invokeHelperArg4(insn, "defineprivateproperty", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))),
-							InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 4))),
-							getRegisterArg(asmItem, 5, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW), null);
+		register(NO_PREFIX, 0xbd, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "dynamicimport", InsnArg.reg(accRegister, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0xbf, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "resumegenerator", InsnArg.reg(accRegister, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0xc0, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "getresumemode", InsnArg.reg(accRegister, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0xc2, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "delobjprop", d.getRegisterArg(asmItem, 1, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0xc3, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "suspendgenerator", d.getRegisterArg(asmItem, 1, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0xc4, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "asyncfunctionawaituncaught",
+						d.getRegisterArg(asmItem, 1, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0xc5, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "copydataproperties", d.getRegisterArg(asmItem, 1, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0xc6, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "starrayspread ", d.getRegisterArg(asmItem, 1, ArgType.NARROW),
+						d.getRegisterArg(asmItem, 2, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0x66, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "getpropiterator", InsnArg.reg(accRegister, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0x67, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "getiterator", InsnArg.reg(accRegister, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0x68, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "closeiterator", d.getRegisterArg(asmItem, 2, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, ops(0xca, 0xc9), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "stsuperbyvalue ", d.getRegisterArg(asmItem, 3, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW), d.getRegisterArg(asmItem, 2, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, 0x36, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "getnextpropname", d.getRegisterArg(asmItem, 1, ArgType.NARROW),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, ops(0x88, 0x3a), (d, insn, asmItem, accRegister) -> d.invokeHelperArg2(insn, "ldobjbyindex",
+				InsnArg.reg(accRegister, ArgType.NARROW), d.getRegisterArg(asmItem, 2, ArgType.NARROW),
+				InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(NO_PREFIX, ops(0x89, 0x3b), (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "stobjbyindex", d.getRegisterArg(asmItem, 2, ArgType.OBJECT),
+						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))), InsnArg.reg(accRegister, ArgType.NARROW), null));
+
+		register(NO_PREFIX, ops(0x92, 0x46), (d, insn, asmItem, accRegister) -> {
+			String name = d.getString(asmItem, 2);
+			return d.invokeHelperArg2(insn, "ldsuperbyname", InsnArg.reg(accRegister, ArgType.OBJECT),
+					InsnArg.wrapArg(new ConstStringNode(name)), InsnArg.reg(accRegister, ArgType.NARROW));
+		});
 
-				}
+		register(NO_PREFIX, 0x7d, (d, insn, asmItem, accRegister) ->
+				d.ldlocalmodulevar(insn, asmItem, accRegister, false));
 
-				case 0x07: {
-					List<InstFmt> formats = asmItem.getIns().getFormat();
-					MethodItem targetMth = ((InstFmt.MId) formats.get(3)).getMethod(asmItem);
-					LiteralArray la = ((InstFmt.LId) formats.get(4)).getLA(asmItem);
-					int cnt = getIntOpUnit(asmItem, 5);
-					int parentClassReg = getIntOpUnit(asmItem, 6);
-
-					return invokeHelperArg4(insn, "definesendableclass", InsnArg.wrapArg(new ConstStringNode(targetMth.getName())),
-							InsnArg.wrapArg(new ConstStringNode(la.toString())),
-							InsnArg.wrapArg(new ConstIntNode(cnt)),
-							InsnArg.reg(parentClassReg, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW));
-				}
-				case 0x08:
-					return invokeHelperArg1(insn, "ldsendableclass",
-							InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))), null);
+		register(NO_PREFIX, ops(0x8d, 0x7f, 0x40), (d, insn, asmItem, accRegister) -> {
+			String name = d.getString(asmItem, 2);
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 2, "trystglobalbyname");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
+			invoke.addArg(InsnArg.wrapArg(new ConstStringNode(name, false)));
+			invoke.addArg(InsnArg.reg(accRegister, ArgType.NARROW));
+			return invoke;
+		});
 
-			}
-		}
+		register(NO_PREFIX, ops(0x3f, 0x8c, 0x41), (d, insn, asmItem, accRegister) -> {
+			ArgType clsType = ArgType.object(d.getString(asmItem, 2));
+			InsnNode constClsInsn = new ConstClassNode(clsType);
+			constClsInsn.setResult(InsnArg.reg(accRegister, ArgType.generic(Consts.CLASS_CLASS, clsType)));
+			return constClsInsn;
+		});
+	}
+
+	private static void registerThrowHandlers() {
+		register(THROW_PREFIX, ops(0x09, 0x08, 0x07), (d, insn, asmItem, accRegister) -> new InsnNode(InsnType.NOP, 0));
+
+		register(THROW_PREFIX, 0x00, (d, insn, asmItem, accRegister) -> {
+			MethodInfo mthInfo = MethodInfo.fromAsm(d.root, insn.getAsmItem(), 1, "throw");
+			InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
+			invoke.addArg(InsnArg.reg(accRegister, ArgType.NARROW));
+			return invoke;
+		});
+
+		register(THROW_PREFIX, 0x01, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg0(insn, "throw.notexists", null));
+
+		register(THROW_PREFIX, 0x05, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "throw.ifnotobject",
+						d.getRegisterArg(asmItem, 2, ArgType.NARROW), null));
+
+		register(THROW_PREFIX, 0x06, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "throw.undefinedifhole",
+						d.getRegisterArg(asmItem, 2, ArgType.OBJECT), d.getRegisterArg(asmItem, 3, ArgType.NARROW), null));
+
+		register(THROW_PREFIX, 0x02, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg0(insn, "throw.patternnoncoercible", null));
+
+		register(THROW_PREFIX, 0x03, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg0(insn, "throw.deletesuperproperty", null));
+
+		register(THROW_PREFIX, 0x04, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "throw.constassignment", d.getRegisterArg(asmItem, 2, ArgType.NARROW),
+						null));
+	}
+
+	private static void registerWideHandlers() {
+		register(WIDE_PREFIX, 0x08, (d, insn, asmItem, accRegister) -> d.invokeHelperArg2(insn, "ldobjbyindex",
+				InsnArg.reg(accRegister, ArgType.NARROW), d.getRegisterArg(asmItem, 2, ArgType.NARROW),
+				InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(WIDE_PREFIX, 0x09, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "stobjbyindex", d.getRegisterArg(asmItem, 2, ArgType.OBJECT),
+						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))), InsnArg.reg(accRegister, ArgType.NARROW), null));
+
+		register(WIDE_PREFIX, 0x00, (d, insn, asmItem, accRegister) -> d.createobjectwithexcludedkeys(insn, true));
 
-		throw new DecodeException("Unknown instruction: '" + asmItem.getIns().getInstruction().toString() + '\'');
+		register(WIDE_PREFIX, 0x01, (d, insn, asmItem, accRegister) -> d.newobjrange(insn));
 
+		register(WIDE_PREFIX, 0x06, (d, insn, asmItem, accRegister) -> d.supercallthisrange(insn, true));
+
+		register(WIDE_PREFIX, 0x0c, (d, insn, asmItem, accRegister) -> d.ldlexvar(insn, asmItem, accRegister, true));
+
+		register(WIDE_PREFIX, 0x0d, (d, insn, asmItem, accRegister) -> d.stlexvar(insn, asmItem, accRegister, true));
+
+		register(WIDE_PREFIX, 0x02, (d, insn, asmItem, accRegister) -> d.newlexenv(insn, asmItem, accRegister, true));
+
+		register(WIDE_PREFIX, 0x03, (d, insn, asmItem, accRegister) ->
+				d.newlexenvwithname(insn, asmItem, accRegister, true));
+
+		register(WIDE_PREFIX, 0x04, (d, insn, asmItem, accRegister) -> d.callrange(insn));
+
+		register(WIDE_PREFIX, 0x05, (d, insn, asmItem, accRegister) -> d.callThisRange(insn));
+
+		register(WIDE_PREFIX, 0x0a, (d, insn, asmItem, accRegister) -> d.stownbyindex(insn, asmItem, accRegister));
+
+		register(WIDE_PREFIX, 0x0b, (d, insn, asmItem, accRegister) -> d.copyrestargs(insn, true));
+
+		register(WIDE_PREFIX, 0x0f, (d, insn, asmItem, accRegister) -> d.stmodulevar(insn, accRegister, asmItem, true));
+
+		register(WIDE_PREFIX, 0x10, (d, insn, asmItem, accRegister) ->
+				d.ldlocalmodulevar(insn, asmItem, accRegister, true));
+
+		register(WIDE_PREFIX, 0x11, (d, insn, asmItem, accRegister) ->
+				d.ldexternalmodulevar(insn, asmItem, accRegister, true));
+
+		register(WIDE_PREFIX, 0x12, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "ldpatchvar", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))),
+						InsnArg.reg(accRegister, ArgType.NARROW)));
+
+		register(WIDE_PREFIX, 0x13, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg2(insn, "stpatchvar", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))),
+						InsnArg.reg(accRegister, ArgType.NARROW), null));
+	}
+
+	private static void registerCallRuntimeHandlers() {
+		register(CALLRUNTIME_PREFIX, 0x00, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "callruntime.notifyconcurrentresult",
+						InsnArg.reg(accRegister, ArgType.NARROW), null));
+
+		register(CALLRUNTIME_PREFIX, 0x01, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "definefieldbyvalue", d.getRegisterArg(asmItem, 4, ArgType.OBJECT),
+						d.getRegisterArg(asmItem, 3, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW), null));
+
+		register(CALLRUNTIME_PREFIX, 0x02, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg3(insn, "definefieldbyindex", d.getRegisterArg(asmItem, 4, ArgType.OBJECT),
+						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))), InsnArg.reg(accRegister, ArgType.NARROW), null));
+
+		register(CALLRUNTIME_PREFIX, 0x03, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "callruntime.topropertykey",
+						InsnArg.reg(accRegister, ArgType.NARROW), null));
+
+		register(CALLRUNTIME_PREFIX, 0x04, (d, insn, asmItem, accRegister) -> {
+			//createprivateproperty
+			int cnt = getIntOpUnit(asmItem, 2);
+			LiteralArray la = ((InstFmt.LId) asmItem.getIns().getFormat().get(3)).getLA(asmItem);
+			return d.invokeHelperArg2(insn, "createprivateproperty",
+					InsnArg.wrapArg(new ConstIntNode(cnt)),
+					InsnArg.wrapArg(new ConstStringNode(d.literalArrayStr(la), false)),
+					null);
+		});
+
+		register(CALLRUNTIME_PREFIX, 0x05, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg4(insn, "defineprivateproperty", InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 3))),
+						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 4))),
+						d.getRegisterArg(asmItem, 5, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW), null));
+
+		register(CALLRUNTIME_PREFIX, 0x07, (d, insn, asmItem, accRegister) -> {
+			List<InstFmt> formats = asmItem.getIns().getFormat();
+			MethodItem targetMth = ((InstFmt.MId) formats.get(3)).getMethod(asmItem);
+			LiteralArray la = ((InstFmt.LId) formats.get(4)).getLA(asmItem);
+			int cnt = getIntOpUnit(asmItem, 5);
+			int parentClassReg = getIntOpUnit(asmItem, 6);
+
+			return d.invokeHelperArg4(insn, "definesendableclass", InsnArg.wrapArg(new ConstStringNode(targetMth.getName())),
+					InsnArg.wrapArg(new ConstStringNode(d.literalArrayStr(la))),
+					InsnArg.wrapArg(new ConstIntNode(cnt)),
+					InsnArg.reg(parentClassReg, ArgType.NARROW), InsnArg.reg(accRegister, ArgType.NARROW));
+		});
+
+		register(CALLRUNTIME_PREFIX, 0x08, (d, insn, asmItem, accRegister) ->
+				d.invokeHelperArg1(insn, "ldsendableclass",
+						InsnArg.wrapArg(new ConstIntNode(getIntOpUnit(asmItem, 2))), null));
+	}
+
+	private InvokeNode isTrueOrFalse(InsnData insn, int accRegister, String name) {
+		MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 1, name);
+		InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 1);
+		invoke.addReg(accRegister, ArgType.INT);
+		invoke.setResult(InsnArg.reg(accRegister, ArgType.INT));
+		return invoke;
 	}
 
 	private @NotNull InvokeNode ldexternalmodulevar(InsnData insn, Asm.AsmItem asmItem, int accRegister, boolean wide) {
@@ -960,12 +1056,14 @@ protected InsnNode decode(InsnData insn) throws DecodeException {
 		if(wide) {
 			slotIndex += 1;
 		}
-		AbcClass abcClass = getAbcClassByInsn(insn);
-		ModuleLiteralArray.RegularImport imp =
-				abcClass.getModuleInfo().getRegularImports().get(getIntOpUnit(asmItem, slotIndex));
-		invoke.addArg(InsnArg.wrapArg(new ConstStringNode(imp.toString(), false)));
-		invoke.addArg(InsnArg.wrapArg(new ConstStringNode(imp.getImportName(), false)));
-		invoke.addArg(InsnArg.wrapArg(new ConstStringNode(imp.getLocalName(), false)));
+		AbcLiteralsCache.ModuleImports imports = root.getAbcLiteralsCache().getModuleImports(ctx.getAbcClass());
+		if (imports == null) {
+			throw new JadxRuntimeException("Module info not found for class: " + ctx.getAbcClass().getName());
+		}
+		int slot = getIntOpUnit(asmItem, slotIndex);
+		invoke.addArg(InsnArg.wrapArg(new ConstStringNode(imports.getImportStr(slot), false)));
+		invoke.addArg(InsnArg.wrapArg(new ConstStringNode(imports.getImportName(slot), false)));
+		invoke.addArg(InsnArg.wrapArg(new ConstStringNode(imports.getLocalName(slot), false)));
 		invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
 		return invoke;
 	}
@@ -1016,7 +1114,7 @@ protected InsnNode decode(InsnData insn) throws DecodeException {
 		LiteralArray la = ((InstFmt.LId) formats.get(2 + k)).getLA(asmItem);
 		MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 2, "newlexenvwithname");
 		InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2);
-		invoke.addArg(InsnArg.wrapArg(new ConstStringNode(la.toString(), false)));
+		invoke.addArg(InsnArg.wrapArg(new ConstStringNode(literalArrayStr(la), false)));
 		invoke.addArg(InsnArg.wrapArg(new ConstIntNode(asmItem.getOpUnits().get(1 + k).intValue())));
 
 		invoke.setResult(InsnArg.reg(accRegister, ArgType.OBJECT));
@@ -1071,7 +1169,7 @@ protected InsnNode decode(InsnData insn) throws DecodeException {
 	}
 
 	private @NotNull InsnNode makePutField(Asm.AsmItem asmItem, int objReg, int valueReg, int fieldNameOpIndex) {
-		String fieldName = getStringOpFormat(asmItem, fieldNameOpIndex);
+		String fieldName = getString(asmItem, fieldNameOpIndex);
 		FieldInfo iputFld2 = FieldInfo.fromAsm(root, asmItem, fieldName);
 		InsnNode iputInsn2 = new IndexInsnNode(InsnType.IPUT, iputFld2, 2);
 		iputInsn2.addArg(InsnArg.reg(valueReg, ArgType.NARROW));
@@ -1089,8 +1187,7 @@ protected InsnNode decode(InsnData insn) throws DecodeException {
 	}
 
 	private @NotNull InsnNode makeGetField(Asm.AsmItem asmItem, int objectReg, int resultRegister, int nameOpIndex) {
-		List<InstFmt> formats = asmItem.getIns().getFormat();
-		String gName = ((InstFmt.SId) formats.get(nameOpIndex)).getString(asmItem);
+		String gName = getString(asmItem, nameOpIndex);
 		FieldInfo igetFld2 = FieldInfo.fromAsm(root, asmItem, gName);
 		InsnNode igetInsn2 = new IndexInsnNode(InsnType.IGET, igetFld2, 1);
 		igetInsn2.setResult(InsnArg.reg(resultRegister, tryResolveFieldType(igetFld2)));
@@ -1110,10 +1207,9 @@ protected InsnNode decode(InsnData insn) throws DecodeException {
 	private @NotNull InvokeNode callargsN(InsnData insn, int n) {
 
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int numVRegs = mth.getCodeItem().getNumVRegs();
-		int numArgs = mth.getCodeItem().getNumArgs();
-		int accReg = numArgs + numVRegs;
+		int numVRegs = ctx.getVRegsCount();
+		int numArgs = ctx.getArgsCount();
+		int accReg = ctx.getAccReg();
 
 		MethodInfo mthInfo = MethodInfo.fromAsm(root, insn.getAsmItem(), 2 + n, "callargsN");
 		InvokeNode invoke = new InvokeNode(mthInfo, InvokeType.STATIC, 2 + n);
@@ -1158,10 +1254,9 @@ private InsnNode copyrestargs(InsnData insn, boolean wide) {
 		ArgType elType = arrType.getArrayElement();
 
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int numVRegs = mth.getCodeItem().getNumVRegs();
-		int numArgs = mth.getCodeItem().getNumArgs();
-		int accReg = numArgs + numVRegs;
+		int numVRegs = ctx.getVRegsCount();
+		int numArgs = ctx.getArgsCount();
+		int accReg = ctx.getAccReg();
 		List<Number> opUnits = asmItem.getOpUnits();
 
 		int argRegStart = numVRegs;
@@ -1292,8 +1387,7 @@ private InsnNode invokeHelperArg4(InsnData insn, String helper, InsnArg arg1, In
 
 	private InsnNode createobjectwithexcludedkeys(InsnData insn, boolean wide) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 
 		int k = 0;
 		if (wide) {
@@ -1318,8 +1412,7 @@ private InsnNode createobjectwithexcludedkeys(InsnData insn, boolean wide) {
 
 	private InsnNode supercallarrowrange(InsnData insn) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 
 		int n = getIntOpUnit(asmItem, 1);
 		int baseReg = getRegisterByOpIndex(asmItem, 2);
@@ -1338,8 +1431,7 @@ private InsnNode supercallarrowrange(InsnData insn) {
 
 	private InsnNode callthisN(InsnData insn, int n) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 		int thisReg = getRegisterByOpIndex(asmItem, 2);
 
 		MethodInfo mthInfo = MethodInfo.fromAsm(root, asmItem, 3 + n, "callthisN");
@@ -1357,8 +1449,7 @@ private InsnNode callthisN(InsnData insn, int n) {
 
 	private InsnNode callThisRange(InsnData insn) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 		List<Number> opUnits = asmItem.getOpUnits();
 		int thisReg = getRegisterByOpIndex(asmItem, 3);
 		int baseArg = thisReg + 1;
@@ -1381,8 +1472,7 @@ private InsnNode callThisRange(InsnData insn) {
 
 	private InsnNode callrange(InsnData insn) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 		List<Number> opUnits = asmItem.getOpUnits();
 		int baseArg = getRegisterByOpIndex(asmItem, 3);
 		int argc = getIntOpUnit(asmItem, 2);
@@ -1402,8 +1492,7 @@ private InsnNode callrange(InsnData insn) {
 
 	private InsnNode supercallspread(InsnData insn) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 
 		int argReg = getRegisterByOpIndex(asmItem, 2);
 		String target = "superConstructor";
@@ -1425,8 +1514,7 @@ private InsnNode supercallspread(InsnData insn) {
 
 	private InsnNode supercallthisrange(InsnData insn, boolean wide) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 		List<Number> opUnits = asmItem.getOpUnits();
 
 		int k = 0;
@@ -1449,8 +1537,7 @@ private InsnNode supercallthisrange(InsnData insn, boolean wide) {
 
 	private InsnNode newobjrange(InsnData insn) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 		List<Number> opUnits = asmItem.getOpUnits();
 
 		int classArg = getRegisterByOpIndex(asmItem, 3);
@@ -1498,24 +1585,21 @@ private InsnNode arith(InsnData insn, ArithOp op, ArgType type) {
 
 	private InsnNode dec(InsnData insn) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 		return new ArithNode(ArithOp.SUB, InsnArg.reg(accReg, ArgType.INT), InsnArg.reg(accReg, ArgType.INT),
 				InsnArg.wrapArg(new ConstIntNode(1)));
 	}
 
 	private InsnNode inc(InsnData insn) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 		return new ArithNode(ArithOp.ADD, InsnArg.reg(accReg, ArgType.INT), InsnArg.reg(accReg, ArgType.INT),
 				InsnArg.wrapArg(new ConstIntNode(1)));
 	}
 
 	private InsnNode arith2(InsnData insn, ArithOp op) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 
 		return new ArithNode(op, InsnArg.reg(accReg, ArgType.INT), getRegisterArg(asmItem, 2, ArgType.INT),
 				InsnArg.reg(accReg, ArgType.INT));
@@ -1527,8 +1611,7 @@ private InsnNode arithLit(InsnData insn, ArithOp op, ArgType type) {
 
 	private InsnNode neg(InsnData insn) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 
 		InsnNode inode = new InsnNode(InsnType.NEG, 1);
 		inode.addArg(InsnArg.reg(accReg, ArgType.INT));
@@ -1538,8 +1621,7 @@ private InsnNode neg(InsnData insn) {
 
 	private InsnNode not(InsnData insn) {
 		Asm.AsmItem asmItem = insn.getAsmItem();
-		AbcMethod mth = asmItem.getAsm().getCode().getMethod();
-		int accReg = mth.getCodeItem().getNumArgs() + mth.getCodeItem().getNumVRegs();
+		int accReg = ctx.getAccReg();
 
 		InsnNode inode = new InsnNode(InsnType.NOT, 1);
 		inode.addArg(InsnArg.reg(accReg, ArgType.INT));
@@ -2,6 +2,7 @@
 
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
@@ -218,6 +219,30 @@ public void addDominatesOn(BlockNode block) {
 		dominatesOn.add(block);
 	}
 
+	/**
+	 * Drop dominance sets, immediate dominators are kept.
+	 *
+	 * @return estimated size of released data in bytes
+	 */
+	long releaseDominance() {
+		long size = bitSetMemSize(doms) + bitSetMemSize(postDoms) + bitSetMemSize(domFrontier);
+		doms = EmptyBitSet.EMPTY;
+		postDoms = EmptyBitSet.EMPTY;
+		domFrontier = EmptyBitSet.EMPTY;
+		if (!dominatesOn.isEmpty()) {
+			size += dominatesOn.size() * 8L;
+			dominatesOn = Collections.emptyList();
+		}
+		return size;
+	}
+
+	private static long bitSetMemSize(BitSet bitSet) {
+		if (bitSet == null || bitSet == EmptyBitSet.EMPTY) {
+			return 0;
+		}
+		return 32 + bitSet.size() / 8;
+	}
+
 	public boolean isSynthetic() {
 		return contains(AFlag.SYNTHETIC);
 	}
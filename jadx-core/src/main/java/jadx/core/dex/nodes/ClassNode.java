@@ -54,6 +54,7 @@
 import jadx.core.utils.ListUtils;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.FileUtils;
 
 import static jadx.core.dex.nodes.ProcessState.LOADED;
 import static jadx.core.dex.nodes.ProcessState.NOT_LOADED;
@@ -109,13 +110,35 @@ public class ClassNode extends NotificationAttrNode
 	private JavaClass javaNode;
 
 	public ClassNode(RootNode root, IClassData cls) {
+		this(root, cls, true);
+	}
+
+	/**
+	 * Build class node without adding it into package.
+	 * Such node can be created concurrently, package should be attached later
+	 * by {@link #attachToPackage()} in same order as classes registered in root.
+	 * Class data used as is, so caller should provide own copy.
+	 */
+	static ClassNode buildDetached(RootNode root, IClassData clsDataCopy) {
+		return new ClassNode(root, clsDataCopy, false);
+	}
+
+	private ClassNode(RootNode root, IClassData cls, boolean attached) {
 		this.root = root;
 		this.clsInfo = ClassInfo.fromType(root, ArgType.object(cls.getType()));
-		this.packageNode = PackageNode.getForClass(root, clsInfo.getPackage(), this);
-		this.clsData = cls.copy();
+		if (attached) {
+			attachToPackage();
+			this.clsData = cls.copy();
+		} else {
+			this.clsData = cls;
+		}
 		load(clsData, false);
 	}
 
+	void attachToPackage() {
+		this.packageNode = PackageNode.getForClass(root, clsInfo.getPackage(), this);
+	}
+
 	private void load(IClassData cls, boolean reloading) {
 		try {
 
@@ -868,6 +891,31 @@ public IClassData getClsData() {
 		return clsData;
 	}
 
+	/**
+	 * Hash of class content provided by input plugin, inner classes included.
+	 *
+	 * @return null if hash not supported by input or class added manually
+	 */
+	@Nullable
+	public String getContentHash() {
+		if (clsData == null) {
+			return null;
+		}
+		String hash = clsData.getContentHash();
+		if (hash == null || innerClasses.isEmpty()) {
+			return hash;
+		}
+		StringBuilder sb = new StringBuilder(hash);
+		for (ClassNode innerCls : innerClasses) {
+			String innerHash = innerCls.getContentHash();
+			if (innerHash == null) {
+				return null;
+			}
+			sb.append(':').append(innerHash);
+		}
+		return FileUtils.md5Sum(sb.toString());
+	}
+
 	public ProcessState getState() {
 		return state;
 	}
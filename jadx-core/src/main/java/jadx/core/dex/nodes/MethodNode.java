@@ -4,6 +4,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -36,10 +37,12 @@
 import jadx.core.dex.instructions.args.InsnArg;
 import jadx.core.dex.instructions.args.RegisterArg;
 import jadx.core.dex.instructions.args.SSAVar;
+import jadx.core.dex.nodes.utils.DecodedInsnsCache;
 import jadx.core.dex.nodes.utils.TypeUtils;
 import jadx.core.dex.regions.Region;
 import jadx.core.dex.trycatch.ExceptionHandler;
 import jadx.core.dex.visitors.InitCodeVariables;
+import jadx.core.dex.visitors.typeinference.ITypeBound;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.DecodeException;
 import jadx.core.utils.exceptions.JadxRuntimeException;
@@ -55,6 +58,7 @@ public class MethodNode extends NotificationAttrNode implements IMethodDetails,
 
 	private final ICodeReader codeReader;
 	private final int insnsCount;
+	private final int codeId;
 	public AbcMethod abcMethod;
 
 	private boolean noCode;
@@ -80,6 +84,7 @@ public class MethodNode extends NotificationAttrNode implements IMethodDetails,
 	private List<ExceptionHandler> exceptionHandlers;
 	private List<LoopInfo> loops;
 	private Region region;
+	private long processTime;
 
 	private List<MethodNode> useIn = Collections.emptyList();
 
@@ -101,9 +106,11 @@ private MethodNode(ClassNode classNode, IMethodData mthData) {
 		if (noCode) {
 			this.codeReader = null;
 			this.insnsCount = 0;
+			this.codeId = 0;
 		} else {
 			this.codeReader = codeReader.copy();
 			this.insnsCount = codeReader.getUnitsCount();
+			this.codeId = mthData.getMethodRef().getUniqId();
 		}
 
 		this.retType = mthInfo.getReturnType();
@@ -126,6 +133,7 @@ public void unload() {
 		region = null;
 		exceptionHandlers = Collections.emptyList();
 		loops = Collections.emptyList();
+		processTime = 0;
 		unloadAttributes();
 	}
 
@@ -156,8 +164,14 @@ public void load() throws DecodeException {
 			this.regsCount = codeReader.getRegistersCount();
 			this.argsStartReg = codeReader.getArgsStartReg();
 			initArguments(this.argTypes);
-			InsnDecoder decoder = new InsnDecoder(this);
-			this.instructions = decoder.process(codeReader);
+			DecodedInsnsCache insnsCache = root().getDecodedInsnsCache();
+			InsnNode[] insns = insnsCache.get(this);
+			if (insns == null) {
+				InsnDecoder decoder = new InsnDecoder(this);
+				insns = decoder.process(codeReader);
+				insnsCache.put(this, insns);
+			}
+			this.instructions = insns;
 		} catch (Exception e) {
 			if (!noCode) {
 				unload();
@@ -591,6 +605,29 @@ public List<SSAVar> getSVars() {
 		return sVars;
 	}
 
+	/**
+	 * Release data needed only by method passes: dominance sets and type inference bounds.
+	 * Blocks, regions and variables are kept for codegen.
+	 *
+	 * @return estimated size of released data in bytes
+	 */
+	public long releaseAnalysisData() {
+		long size = 0;
+		if (blocks != null) {
+			for (BlockNode block : blocks) {
+				size += block.releaseDominance();
+			}
+		}
+		for (SSAVar sVar : sVars) {
+			Set<ITypeBound> bounds = sVar.getTypeInfo().getBounds();
+			if (!bounds.isEmpty()) {
+				size += bounds.size() * 48L;
+				bounds.clear();
+			}
+		}
+		return size;
+	}
+
 	@Override
 	public int getRawAccessFlags() {
 		return accFlags.rawValue();
@@ -634,6 +671,13 @@ public MethodInfo getMethodInfo() {
 		return mthInfo;
 	}
 
+	/**
+	 * Unique id of method code in input file (method offset for abc), zero if not available
+	 */
+	public int getCodeId() {
+		return codeId;
+	}
+
 	public long getMethodCodeOffset() {
 		return noCode ? 0 : codeReader.getCodeOffset();
 	}
@@ -673,6 +717,17 @@ public long countInsns() {
 		return -1;
 	}
 
+	/**
+	 * Time spent in method passes, counted only if method budget enabled (see {@link jadx.core.utils.MethodBudget})
+	 */
+	public long getProcessTime() {
+		return processTime;
+	}
+
+	public void addProcessTime(long time) {
+		this.processTime += time;
+	}
+
 	/**
 	 * Raw instructions count in method bytecode
 	 */
@@ -33,6 +33,7 @@
 import jadx.core.ProcessClass;
 import jadx.core.clsp.ClspGraph;
 import jadx.core.dex.attributes.AttributeStorage;
+import jadx.core.dex.info.ArkInfoStorage;
 import jadx.core.dex.info.ClassInfo;
 import jadx.core.dex.info.ConstStorage;
 import jadx.core.dex.info.FieldInfo;
@@ -40,6 +41,9 @@
 import jadx.core.dex.info.MethodInfo;
 import jadx.core.dex.info.PackageInfo;
 import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.utils.AbcLiteralsCache;
+import jadx.core.dex.nodes.utils.AbcStringsCache;
+import jadx.core.dex.nodes.utils.DecodedInsnsCache;
 import jadx.core.dex.nodes.utils.MethodUtils;
 import jadx.core.dex.nodes.utils.TypeUtils;
 import jadx.core.dex.visitors.DepthTraversal;
@@ -50,11 +54,14 @@
 import jadx.core.utils.CacheStorage;
 import jadx.core.utils.DebugChecks;
 import jadx.core.utils.ErrorsCounter;
+import jadx.core.utils.MethodBudget;
 import jadx.core.utils.PassMerge;
 import jadx.core.utils.StringUtils;
 import jadx.core.utils.Utils;
 import jadx.core.utils.android.AndroidResourcesUtils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.profile.PassesProfiler;
+import jadx.core.utils.tasks.ParallelIndexRunner;
 import jadx.core.xmlgen.IResTableParser;
 import jadx.core.xmlgen.ManifestAttributes;
 import jadx.core.xmlgen.ResourceStorage;
@@ -64,12 +71,23 @@
 public class RootNode {
 	private static final Logger LOG = LoggerFactory.getLogger(RootNode.class);
 
+	/**
+	 * Don't start parallel load for small inputs, threads startup cost is bigger than gain
+	 */
+	private static final int PARALLEL_LOAD_MIN_CLASSES_PER_THREAD = 64;
+
 	private final JadxArgs args;
 	private final ErrorsCounter errorsCounter = new ErrorsCounter();
 	private final StringUtils stringUtils;
 	private final ConstStorage constValues;
 	private final InfoStorage infoStorage = new InfoStorage();
+	private final ArkInfoStorage arkInfoStorage = new ArkInfoStorage(this);
 	private final CacheStorage cacheStorage = new CacheStorage();
+	private final DecodedInsnsCache decodedInsnsCache;
+	private final AbcLiteralsCache abcLiteralsCache;
+	private final AbcStringsCache abcStringsCache;
+	private final @Nullable PassesProfiler passesProfiler;
+	private final @Nullable MethodBudget methodBudget;
 	private final TypeUpdate typeUpdate;
 	private final MethodUtils methodUtils;
 	private final TypeUtils typeUtils;
@@ -106,6 +124,11 @@ public RootNode(JadxArgs args) {
 		this.typeUpdate = new TypeUpdate(this);
 		this.methodUtils = new MethodUtils(this);
 		this.typeUtils = new TypeUtils(this);
+		this.decodedInsnsCache = new DecodedInsnsCache(args.getDecodeCacheMemLimit());
+		this.abcLiteralsCache = new AbcLiteralsCache(args.getLiteralsCacheMemLimit());
+		this.abcStringsCache = new AbcStringsCache(args.getLiteralsCacheMemLimit());
+		this.passesProfiler = args.isProfilePasses() ? new PassesProfiler() : null;
+		this.methodBudget = MethodBudget.build(args);
 	}
 
 	public void init() {
@@ -118,16 +141,25 @@ public void init() {
 	}
 
 	public void loadClasses(List<ICodeLoader> loadedInputs) {
+		List<IClassData> clsDataList = new ArrayList<>();
 		for (ICodeLoader codeLoader : loadedInputs) {
-			codeLoader.visitClasses(cls -> {
-				try {
-					addClassNode(new ClassNode(RootNode.this, cls));
-				} catch (Exception e) {
-					// e.printStackTrace();
-					addDummyClass(cls, e);
-				}
-				Utils.checkThreadInterrupt();
-			});
+			// input can reuse class data object, so save a copy
+			codeLoader.visitClasses(cls -> clsDataList.add(cls.copy()));
+		}
+		int count = clsDataList.size();
+		ClassNode[] clsNodes = new ClassNode[count];
+		Throwable[] loadErrors = new Throwable[count];
+		buildClassNodes(clsDataList, clsNodes, loadErrors);
+		// register in input order to get same result as in sequential load
+		for (int i = 0; i < count; i++) {
+			ClassNode clsNode = clsNodes[i];
+			if (clsNode != null) {
+				clsNode.attachToPackage();
+				addClassNode(clsNode);
+			} else {
+				addDummyClass(clsDataList.get(i), loadErrors[i]);
+			}
+			Utils.checkThreadInterrupt();
 		}
 		if (classes.size() != clsMap.size()) {
 			// class name duplication detected
@@ -151,7 +183,23 @@ public void loadClasses(List<ICodeLoader> loadedInputs) {
 		Collections.sort(packages);
 	}
 
-	private void addDummyClass(IClassData classData, Exception exc) {
+	private void buildClassNodes(List<IClassData> clsDataList, ClassNode[] clsNodes, Throwable[] loadErrors) {
+		int count = clsDataList.size();
+		int threads = Math.min(args.getThreadsCount(), count / PARALLEL_LOAD_MIN_CLASSES_PER_THREAD);
+		long start = System.currentTimeMillis();
+		ParallelIndexRunner.run("Classes load", threads, count, i -> {
+			try {
+				clsNodes[i] = ClassNode.buildDetached(this, clsDataList.get(i));
+			} catch (Throwable e) {
+				loadErrors[i] = e;
+			}
+		});
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Class nodes built in {} ms using {} threads", System.currentTimeMillis() - start, Math.max(1, threads));
+		}
+	}
+
+	private void addDummyClass(IClassData classData, Throwable exc) {
 		try {
 			String typeStr = classData.getType();
 			String name = null;
@@ -677,6 +725,36 @@ public InfoStorage getInfoStorage() {
 		return infoStorage;
 	}
 
+	public ArkInfoStorage getArkInfoStorage() {
+		return arkInfoStorage;
+	}
+
+	public DecodedInsnsCache getDecodedInsnsCache() {
+		return decodedInsnsCache;
+	}
+
+	public AbcLiteralsCache getAbcLiteralsCache() {
+		return abcLiteralsCache;
+	}
+
+	public AbcStringsCache getAbcStringsCache() {
+		return abcStringsCache;
+	}
+
+	/**
+	 * Passes profiler, null if profiling disabled
+	 */
+	public @Nullable PassesProfiler getPassesProfiler() {
+		return passesProfiler;
+	}
+
+	/**
+	 * Method processing limits, null if not set
+	 */
+	public @Nullable MethodBudget getMethodBudget() {
+		return methodBudget;
+	}
+
 	public CacheStorage getCacheStorage() {
 		return cacheStorage;
 	}
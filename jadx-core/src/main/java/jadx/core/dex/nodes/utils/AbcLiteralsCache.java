@@ -0,0 +1,230 @@
+package jadx.core.dex.nodes.utils;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.Nullable;
+
+import me.yricky.oh.abcd.AbcBuf;
+import me.yricky.oh.abcd.cfm.AbcClass;
+import me.yricky.oh.abcd.literal.LiteralArray;
+import me.yricky.oh.abcd.literal.ModuleLiteralArray;
+
+/**
+ * Shared cache for data parsed from abc literal arrays:
+ * <ul>
+ * <li>rendered literal arrays (used as string constants in decoded instructions)</li>
+ * <li>module import records (used by module variables instructions)</li>
+ * </ul>
+ * Entries keyed by abc file and literal array offset, so same arrays shared by all methods and threads.
+ * Data is immutable, so instead of eviction new entries just not cached after memory budget exhausted.
+ */
+public class AbcLiteralsCache {
+
+	/**
+	 * Rough estimation for string object and map entry size
+	 */
+	private static final int STRING_MEM_SIZE = 40;
+	static final int ENTRY_MEM_SIZE = 64;
+
+	private final long memLimit;
+	private final ConcurrentHashMap<Key, String> literalArrays = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Key, ModuleImports> modules = new ConcurrentHashMap<>();
+	private final AtomicLong usedMem = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder rejects = new LongAdder();
+
+	public AbcLiteralsCache(long memLimit) {
+		this.memLimit = memLimit;
+	}
+
+	public boolean isEnabled() {
+		return memLimit > 0;
+	}
+
+	/**
+	 * Rendered form of literal array ({@code LiteralArray.toString()})
+	 */
+	public String getLiteralArrayStr(AbcBuf abc, LiteralArray la) {
+		if (!isEnabled()) {
+			return la.toString();
+		}
+		Key key = new Key(abc, la.getOffset());
+		String str = literalArrays.get(key);
+		if (str != null) {
+			hits.increment();
+			return str;
+		}
+		misses.increment();
+		String newStr = la.toString();
+		if (!reserve(ENTRY_MEM_SIZE + strSize(newStr))) {
+			return newStr;
+		}
+		String prev = literalArrays.putIfAbsent(key, newStr);
+		if (prev != null) {
+			release(ENTRY_MEM_SIZE + strSize(newStr));
+			return prev;
+		}
+		return newStr;
+	}
+
+	/**
+	 * Parsed import records of class module, null if class not a module
+	 */
+	public @Nullable ModuleImports getModuleImports(AbcClass abcClass) {
+		ModuleLiteralArray moduleInfo = abcClass.getModuleInfo();
+		if (moduleInfo == null) {
+			return null;
+		}
+		if (!isEnabled()) {
+			return new ModuleImports(moduleInfo);
+		}
+		Key key = new Key(abcClass.getAbc(), moduleInfo.getOffset());
+		ModuleImports imports = modules.get(key);
+		if (imports != null) {
+			hits.increment();
+			return imports;
+		}
+		misses.increment();
+		ModuleImports newImports = new ModuleImports(moduleInfo);
+		if (!reserve(newImports.memSize)) {
+			return newImports;
+		}
+		ModuleImports prev = modules.putIfAbsent(key, newImports);
+		if (prev != null) {
+			release(newImports.memSize);
+			return prev;
+		}
+		return newImports;
+	}
+
+	private boolean reserve(long size) {
+		if (usedMem.addAndGet(size) > memLimit) {
+			usedMem.addAndGet(-size);
+			rejects.increment();
+			return false;
+		}
+		return true;
+	}
+
+	private void release(long size) {
+		usedMem.addAndGet(-size);
+	}
+
+	public void clear() {
+		literalArrays.clear();
+		modules.clear();
+		usedMem.set(0);
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getRejects() {
+		return rejects.sum();
+	}
+
+	public long getUsedMemory() {
+		return usedMem.get();
+	}
+
+	@Override
+	public String toString() {
+		long hitsCount = hits.sum();
+		long total = hitsCount + misses.sum();
+		return "AbcLiteralsCache{arrays=" + literalArrays.size()
+				+ ", modules=" + modules.size()
+				+ ", mem=" + usedMem.get() / 1024 + "/" + memLimit / 1024 + " KB"
+				+ ", hits=" + hitsCount
+				+ ", misses=" + (total - hitsCount)
+				+ ", hitRate=" + (total == 0 ? 0 : hitsCount * 100 / total) + '%'
+				+ ", rejects=" + rejects.sum()
+				+ '}';
+	}
+
+	static long strSize(@Nullable String str) {
+		return str == null ? 0 : STRING_MEM_SIZE + 2L * str.length();
+	}
+
+	/**
+	 * Regular imports of module, indexed by import slot
+	 */
+	public static final class ModuleImports {
+		private final String[] importStr;
+		private final String[] importName;
+		private final String[] localName;
+		private final long memSize;
+
+		ModuleImports(ModuleLiteralArray moduleInfo) {
+			List<ModuleLiteralArray.RegularImport> regularImports = moduleInfo.getRegularImports();
+			int count = regularImports.size();
+			this.importStr = new String[count];
+			this.importName = new String[count];
+			this.localName = new String[count];
+			long size = ENTRY_MEM_SIZE;
+			for (int i = 0; i < count; i++) {
+				ModuleLiteralArray.RegularImport imp = regularImports.get(i);
+				importStr[i] = imp.toString();
+				importName[i] = imp.getImportName();
+				localName[i] = imp.getLocalName();
+				size += strSize(importStr[i]) + strSize(importName[i]) + strSize(localName[i]);
+			}
+			this.memSize = size;
+		}
+
+		public int size() {
+			return importStr.length;
+		}
+
+		/**
+		 * Rendered import record ({@code RegularImport.toString()})
+		 */
+		public String getImportStr(int slot) {
+			return importStr[slot];
+		}
+
+		public String getImportName(int slot) {
+			return importName[slot];
+		}
+
+		public String getLocalName(int slot) {
+			return localName[slot];
+		}
+	}
+
+	private static final class Key {
+		private final AbcBuf abc;
+		private final int offset;
+
+		Key(AbcBuf abc, int offset) {
+			this.abc = abc;
+			this.offset = offset;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return offset == other.offset && abc == other.abc;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(abc) + offset;
+		}
+	}
+}
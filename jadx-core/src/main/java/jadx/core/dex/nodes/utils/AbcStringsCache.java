@@ -0,0 +1,93 @@
+package jadx.core.dex.nodes.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonical instances for strings decoded from abc string operands.
+ * <br>
+ * Same names (properties, fields, globals) used in huge number of instructions,
+ * so decoded strings replaced by one shared instance.
+ * This reduce duplicate strings in heap and speed up following lookups by name
+ * (equals check short-circuit on same instance).
+ * Lookup of already known string not blocked by other threads.
+ * <br>
+ * Size bounded same as {@link AbcLiteralsCache}: new strings not cached after memory budget exhausted.
+ */
+public class AbcStringsCache {
+	private final long memLimit;
+	private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+	private final AtomicLong usedMem = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder rejects = new LongAdder();
+
+	public AbcStringsCache(long memLimit) {
+		this.memLimit = memLimit;
+	}
+
+	public boolean isEnabled() {
+		return memLimit > 0;
+	}
+
+	public String intern(String str) {
+		if (!isEnabled()) {
+			return str;
+		}
+		String cached = strings.get(str);
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+		misses.increment();
+		long size = AbcLiteralsCache.ENTRY_MEM_SIZE + AbcLiteralsCache.strSize(str);
+		if (usedMem.addAndGet(size) > memLimit) {
+			usedMem.addAndGet(-size);
+			rejects.increment();
+			return str;
+		}
+		String prev = strings.putIfAbsent(str, str);
+		if (prev != null) {
+			usedMem.addAndGet(-size);
+			return prev;
+		}
+		return str;
+	}
+
+	public void clear() {
+		strings.clear();
+		usedMem.set(0);
+	}
+
+	public int getSize() {
+		return strings.size();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getRejects() {
+		return rejects.sum();
+	}
+
+	public long getUsedMemory() {
+		return usedMem.get();
+	}
+
+	@Override
+	public String toString() {
+		return "AbcStringsCache{strings=" + strings.size()
+				+ ", mem=" + usedMem.get() / 1024 + "/" + memLimit / 1024 + " KB"
+				+ ", hits=" + hits.sum()
+				+ ", misses=" + misses.sum()
+				+ ", rejects=" + rejects.sum()
+				+ '}';
+	}
+}
@@ -0,0 +1,219 @@
+package jadx.core.dex.nodes.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.core.dex.attributes.AType;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.InsnNode;
+import jadx.core.dex.nodes.MethodNode;
+
+/**
+ * Bounded LRU cache for decoded method instructions.
+ * <br>
+ * Methods are reloaded many times in GUI (navigation, usage search, code reload),
+ * so instead of decoding method code again instructions copied from cached snapshot.
+ * Key is method code id (method offset in input file) and input file name,
+ * so it stays valid after class nodes rebuild.
+ * Cache size controlled by approximate memory budget.
+ */
+public class DecodedInsnsCache {
+	private static final Logger LOG = LoggerFactory.getLogger(DecodedInsnsCache.class);
+
+	/**
+	 * Rough estimation for instruction and argument objects size (with attributes storage)
+	 */
+	private static final int INSN_MEM_SIZE = 96;
+	private static final int ARG_MEM_SIZE = 48;
+
+	private final long memLimit;
+	private final LinkedHashMap<Key, Entry> map = new LinkedHashMap<>(64, 0.75f, true);
+	private long usedMem;
+
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	public DecodedInsnsCache(long memLimit) {
+		this.memLimit = memLimit;
+	}
+
+	public boolean isEnabled() {
+		return memLimit > 0;
+	}
+
+	/**
+	 * Return copy of cached instructions or null if method not in cache.
+	 */
+	public @Nullable InsnNode[] get(MethodNode mth) {
+		if (!isEnabled() || mth.getCodeId() == 0) {
+			return null;
+		}
+		Key key = new Key(mth);
+		Entry entry;
+		synchronized (this) {
+			entry = map.get(key);
+			if (entry == null || !Objects.equals(entry.retType, mth.getReturnType())) {
+				misses++;
+				return null;
+			}
+			hits++;
+		}
+		InsnNode[] copy = copyInsns(entry.insns);
+		if (copy == null) {
+			synchronized (this) {
+				removeEntry(key);
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Save snapshot of just decoded instructions.
+	 * Methods with decode errors are not cached.
+	 */
+	public void put(MethodNode mth, InsnNode[] insns) {
+		if (!isEnabled() || mth.getCodeId() == 0) {
+			return;
+		}
+		long size = 0;
+		for (InsnNode insn : insns) {
+			if (insn != null) {
+				if (insn.contains(AType.JADX_ERROR)) {
+					return;
+				}
+				size += INSN_MEM_SIZE + (long) insn.getArgsCount() * ARG_MEM_SIZE;
+			}
+		}
+		if (size > memLimit) {
+			return;
+		}
+		InsnNode[] snapshot = copyInsns(insns);
+		if (snapshot == null) {
+			return;
+		}
+		Entry entry = new Entry(snapshot, mth.getReturnType(), size);
+		synchronized (this) {
+			Key key = new Key(mth);
+			removeEntry(key);
+			map.put(key, entry);
+			usedMem += size;
+			evict();
+		}
+	}
+
+	public synchronized void clear() {
+		map.clear();
+		usedMem = 0;
+	}
+
+	private void evict() {
+		Iterator<Entry> it = map.values().iterator();
+		while (usedMem > memLimit && it.hasNext()) {
+			Entry entry = it.next();
+			it.remove();
+			usedMem -= entry.size;
+			evictions++;
+		}
+	}
+
+	private void removeEntry(Key key) {
+		Entry prev = map.remove(key);
+		if (prev != null) {
+			usedMem -= prev.size;
+		}
+	}
+
+	private static @Nullable InsnNode[] copyInsns(InsnNode[] insns) {
+		try {
+			int len = insns.length;
+			InsnNode[] copy = new InsnNode[len];
+			for (int i = 0; i < len; i++) {
+				InsnNode insn = insns[i];
+				if (insn != null) {
+					copy[i] = insn.copyWithoutSsa();
+				}
+			}
+			return copy;
+		} catch (Exception e) {
+			LOG.debug("Failed to copy decoded instructions", e);
+			return null;
+		}
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	public synchronized int getSize() {
+		return map.size();
+	}
+
+	public synchronized long getUsedMemory() {
+		return usedMem;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "DecodedInsnsCache{methods=" + map.size()
+				+ ", mem=" + usedMem / 1024 + "/" + memLimit / 1024 + " KB"
+				+ ", hits=" + hits
+				+ ", misses=" + misses
+				+ ", evictions=" + evictions
+				+ '}';
+	}
+
+	private static final class Key {
+		private final String inputFileName;
+		private final int codeId;
+		private final int hash;
+
+		Key(MethodNode mth) {
+			this.inputFileName = mth.getParentClass().getInputFileName();
+			this.codeId = mth.getCodeId();
+			this.hash = 31 * Objects.hashCode(inputFileName) + codeId;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return codeId == other.codeId && Objects.equals(inputFileName, other.inputFileName);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class Entry {
+		private final InsnNode[] insns;
+		private final ArgType retType;
+		private final long size;
+
+		Entry(InsnNode[] insns, ArgType retType, long size) {
+			this.insns = insns;
+			this.retType = retType;
+			this.size = size;
+		}
+	}
+}
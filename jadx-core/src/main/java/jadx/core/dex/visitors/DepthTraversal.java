@@ -3,12 +3,17 @@
 import jadx.core.dex.attributes.AType;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.MethodBudget;
+import jadx.core.utils.exceptions.JadxException;
+import jadx.core.utils.profile.PassesProfiler;
 
 public class DepthTraversal {
 
 	public static void visit(IDexTreeVisitor visitor, ClassNode cls) {
 		try {
-			if (visitor.visit(cls)) {
+			PassesProfiler profiler = cls.root().getPassesProfiler();
+			boolean visitChildren = profiler == null ? visitor.visit(cls) : profiler.visit(visitor, cls);
+			if (visitChildren) {
 				cls.getInnerClasses().forEach(inCls -> visit(visitor, inCls));
 				cls.getMethods().forEach(mth -> visit(visitor, mth));
 			}
@@ -22,12 +27,31 @@ public static void visit(IDexTreeVisitor visitor, MethodNode mth) {
 			if (mth.contains(AType.JADX_ERROR)) {
 				return;
 			}
-			visitor.visit(mth);
+			MethodBudget budget = mth.root().getMethodBudget();
+			if (budget == null) {
+				visitMethod(visitor, mth);
+			} else {
+				long prevStart = budget.startPass(mth);
+				try {
+					visitMethod(visitor, mth);
+				} finally {
+					budget.endPass(mth, prevStart);
+				}
+			}
 		} catch (StackOverflowError | Exception e) {
 			mth.addError(e.getClass().getSimpleName() + " in pass: " + visitor.getClass().getSimpleName(), e);
 		}
 	}
 
+	private static void visitMethod(IDexTreeVisitor visitor, MethodNode mth) throws JadxException {
+		PassesProfiler profiler = mth.root().getPassesProfiler();
+		if (profiler == null) {
+			visitor.visit(mth);
+		} else {
+			profiler.visit(visitor, mth);
+		}
+	}
+
 	private DepthTraversal() {
 	}
 }
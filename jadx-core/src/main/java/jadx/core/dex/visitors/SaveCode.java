@@ -3,6 +3,7 @@
 import java.io.File;
 import java.io.PrintWriter;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,24 +23,37 @@ private SaveCode() {
 	}
 
 	public static void save(File dir, ClassNode cls, ICodeInfo code) {
+		String fileName = getSaveFileName(cls, code);
+		if (fileName != null) {
+			save(code.getCodeStr(), new File(dir, fileName));
+		}
+	}
+
+	/**
+	 * @return relative path for class code file or null if nothing to save
+	 */
+	@Nullable
+	public static String getSaveFileName(ClassNode cls, ICodeInfo code) {
 		if (cls.contains(AFlag.DONT_GENERATE)) {
-			return;
+			return null;
 		}
 		if (code == null) {
 			throw new JadxRuntimeException("Code not generated for class " + cls.getFullName());
 		}
 		if (code == ICodeInfo.EMPTY) {
-			return;
+			return null;
 		}
-		String codeStr = code.getCodeStr();
-		if (codeStr.isEmpty()) {
-			return;
+		if (code.getCodeStr().isEmpty()) {
+			return null;
 		}
 		if (cls.root().getArgs().isSkipFilesSave()) {
-			return;
+			return null;
 		}
 		String fileName = cls.getClassInfo().getAliasFullPath() + getFileExtension(cls.root());
-		save(codeStr, dir, fileName);
+		if (!ZipSecurity.isValidZipEntryName(fileName)) {
+			return null;
+		}
+		return fileName;
 	}
 
 	public static void save(String code, File dir, String fileName) {
@@ -28,6 +28,7 @@
 import jadx.core.dex.trycatch.TryCatchBlockAttr;
 import jadx.core.dex.visitors.AbstractVisitor;
 import jadx.core.utils.BlockUtils;
+import jadx.core.utils.MethodBudget;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
@@ -59,6 +60,7 @@ private static void processBlocksTree(MethodNode mth) {
 
 		int i = 0;
 		while (modifyBlocksTree(mth)) {
+			MethodBudget.check(mth);
 			computeDominators(mth);
 			if (i++ > 100) {
 				throw new JadxRuntimeException("CFG modification limit reached, blocks count: " + mth.getBasicBlocks().size());
@@ -24,6 +24,7 @@
 import jadx.core.dex.trycatch.ExceptionHandler;
 import jadx.core.dex.visitors.AbstractVisitor;
 import jadx.core.utils.BlockUtils;
+import jadx.core.utils.MethodBudget;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
 public class BlockSplitter extends AbstractVisitor {
@@ -61,8 +62,10 @@ public void visit(MethodNode mth) {
 		if (mth.isNoCode()) {
 			return;
 		}
+		MethodBudget.checkInsnsCount(mth);
 		mth.initBasicBlocks();
 		Map<Integer, BlockNode> blocksMap = splitBasicBlocks(mth);
+		MethodBudget.checkBlocksCount(mth);
 		setupConnectionsFromJumps(mth, blocksMap);
 		initBlocksInTargetNodes(mth);
 
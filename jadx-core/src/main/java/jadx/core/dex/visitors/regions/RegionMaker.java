@@ -43,6 +43,7 @@
 import jadx.core.dex.trycatch.TryCatchBlockAttr;
 import jadx.core.utils.BlockUtils;
 import jadx.core.utils.ListUtils;
+import jadx.core.utils.MethodBudget;
 import jadx.core.utils.RegionUtils;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxOverflowException;
@@ -93,6 +94,9 @@ public Region makeRegion(BlockNode startBlock, RegionStack stack) {
 			if (regionsCount > regionsLimit) {
 				throw new JadxOverflowException("Regions count limit reached");
 			}
+			if ((regionsCount & 0xFF) == 0) {
+				MethodBudget.check(mth);
+			}
 		}
 		return r;
 	}
@@ -0,0 +1,161 @@
+package jadx.core.dex.visitors.typeinference;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.core.dex.instructions.PhiInsn;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.instructions.args.CodeVar;
+import jadx.core.dex.instructions.args.PrimitiveType;
+import jadx.core.dex.instructions.args.RegisterArg;
+import jadx.core.dex.instructions.args.SSAVar;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.ConstInlineVisitor;
+import jadx.core.dex.visitors.InitCodeVariables;
+import jadx.core.dex.visitors.JadxVisitor;
+import jadx.core.dex.visitors.ssa.SSATransform;
+
+/**
+ * Replacement for type inference passes for dynamic typed code.
+ * <br>
+ * Abc code don't have declared types, so most variables will be resolved to Object anyway.
+ * Instead of bounds collection and type search, variables connected by phi
+ * get one type merged from assign and use types, conflicts resolved to Object.
+ */
+@JadxVisitor(
+		name = "Dynamic Types",
+		desc = "Assign types for SSA variables in one linear pass",
+		runAfter = {
+				SSATransform.class,
+				ConstInlineVisitor.class,
+				InitCodeVariables.class
+		}
+)
+public final class DynamicTypesVisitor extends AbstractVisitor {
+
+	@Override
+	public void visit(MethodNode mth) {
+		if (mth.isNoCode()) {
+			return;
+		}
+		List<SSAVar> sVars = mth.getSVars();
+		if (sVars.isEmpty()) {
+			return;
+		}
+		for (SSAVar ssaVar : sVars) {
+			ArgType immutableType = TypeInferenceVisitor.getSsaImmutableType(ssaVar);
+			if (immutableType != null) {
+				ssaVar.markAsImmutable(immutableType);
+			}
+		}
+		Map<SSAVar, SSAVar> parents = new HashMap<>();
+		for (SSAVar ssaVar : sVars) {
+			for (PhiInsn phi : ssaVar.getUsedInPhi()) {
+				union(parents, ssaVar, phi.getResult().getSVar());
+			}
+		}
+		Map<SSAVar, ArgType> groupTypes = new HashMap<>();
+		for (SSAVar ssaVar : sVars) {
+			ArgType varType = getVarType(ssaVar);
+			if (varType != null) {
+				groupTypes.merge(find(parents, ssaVar), varType, DynamicTypesVisitor::mergeTypes);
+			}
+		}
+		for (SSAVar ssaVar : sVars) {
+			ArgType type = ssaVar.getImmutableType();
+			if (type == null) {
+				type = resolveUnknown(groupTypes.get(find(parents, ssaVar)));
+			}
+			ssaVar.setType(type);
+			CodeVar codeVar = ssaVar.getCodeVar();
+			if (codeVar.getType() == null) {
+				codeVar.setType(type);
+			}
+		}
+	}
+
+	@Nullable
+	private static ArgType getVarType(SSAVar ssaVar) {
+		ArgType immutableType = ssaVar.getImmutableType();
+		if (immutableType != null) {
+			return immutableType;
+		}
+		ArgType type = ssaVar.getAssign().getInitType();
+		for (RegisterArg useArg : ssaVar.getUseList()) {
+			type = mergeTypes(type, useArg.getInitType());
+		}
+		return type;
+	}
+
+	@Nullable
+	private static ArgType mergeTypes(@Nullable ArgType first, @Nullable ArgType second) {
+		if (first == null || first.equals(second)) {
+			return second;
+		}
+		if (second == null) {
+			return first;
+		}
+		boolean firstKnown = first.isTypeKnown();
+		boolean secondKnown = second.isTypeKnown();
+		if (firstKnown && secondKnown) {
+			// different types in dynamic code: keep as any
+			return ArgType.OBJECT;
+		}
+		if (firstKnown) {
+			return first;
+		}
+		if (secondKnown) {
+			return second;
+		}
+		return first == ArgType.UNKNOWN ? second : first;
+	}
+
+	private static ArgType resolveUnknown(@Nullable ArgType type) {
+		if (type == null) {
+			return ArgType.OBJECT;
+		}
+		if (type.isTypeKnown()) {
+			return type;
+		}
+		if (type.contains(PrimitiveType.OBJECT)) {
+			return ArgType.OBJECT;
+		}
+		ArgType first = type.selectFirst();
+		return first != null ? first : ArgType.OBJECT;
+	}
+
+	private static SSAVar find(Map<SSAVar, SSAVar> parents, SSAVar var) {
+		SSAVar root = var;
+		while (true) {
+			SSAVar parent = parents.get(root);
+			if (parent == null) {
+				break;
+			}
+			root = parent;
+		}
+		// path compression
+		SSAVar current = var;
+		while (current != root) {
+			SSAVar next = parents.put(current, root);
+			current = next;
+		}
+		return root;
+	}
+
+	private static void union(Map<SSAVar, SSAVar> parents, SSAVar first, SSAVar second) {
+		SSAVar firstRoot = find(parents, first);
+		SSAVar secondRoot = find(parents, second);
+		if (firstRoot != secondRoot) {
+			parents.put(firstRoot, secondRoot);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return "DynamicTypesVisitor";
+	}
+}
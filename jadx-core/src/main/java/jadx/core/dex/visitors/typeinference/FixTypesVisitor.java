@@ -44,7 +44,9 @@
 import jadx.core.utils.InsnList;
 import jadx.core.utils.InsnUtils;
 import jadx.core.utils.ListUtils;
+import jadx.core.utils.MethodBudget;
 import jadx.core.utils.Utils;
+import jadx.core.utils.exceptions.JadxBudgetException;
 import jadx.core.utils.exceptions.JadxOverflowException;
 
 @JadxVisitor(
@@ -88,6 +90,7 @@ public void visit(MethodNode mth) {
 		}
 		try {
 			for (Function<MethodNode, Boolean> resolver : resolvers) {
+				MethodBudget.check(mth);
 				if (resolver.apply(mth) && checkTypes(mth)) {
 					break;
 				}
@@ -122,6 +125,8 @@ private boolean runMultiVariableSearch(MethodNode mth) {
 				}
 			}
 			return true;
+		} catch (JadxBudgetException e) {
+			throw e;
 		} catch (Exception e) {
 			mth.addWarnComment("Multi-variable type inference failed. Error: " + Utils.getStackTrace(e));
 			return false;
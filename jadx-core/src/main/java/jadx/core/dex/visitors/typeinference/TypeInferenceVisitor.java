@@ -346,7 +346,7 @@ private void assignImmutableTypes(MethodNode mth) {
 	}
 
 	@Nullable
-	private static ArgType getSsaImmutableType(SSAVar ssaVar) {
+	static ArgType getSsaImmutableType(SSAVar ssaVar) {
 		if (ssaVar.getAssign().contains(AFlag.IMMUTABLE_TYPE)) {
 			return ssaVar.getAssign().getInitType();
 		}
@@ -21,6 +21,7 @@
 import jadx.core.dex.instructions.args.SSAVar;
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.MethodBudget;
 
 /**
  * Slow and memory consuming multi-variable type search algorithm.
@@ -150,6 +151,9 @@ private boolean search(List<TypeSearchVarInfo> vars) {
 				}
 			}
 			n++;
+			if ((n & 0x3FF) == 0) {
+				MethodBudget.check(mth);
+			}
 			if (n > SEARCH_ITERATION_LIMIT) {
 				if (Consts.DEBUG_TYPE_INFERENCE) {
 					LOG.debug(" > iterations limit reached: {}", SEARCH_ITERATION_LIMIT);
@@ -0,0 +1,271 @@
+package jadx.core.dex.visitors.usage;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import me.yricky.oh.abcd.cfm.AbcClass;
+import me.yricky.oh.abcd.cfm.MethodItem;
+import me.yricky.oh.abcd.isa.Asm;
+import me.yricky.oh.abcd.isa.InstFmt;
+
+import jadx.api.plugins.input.insns.InsnData;
+import jadx.core.dex.instructions.InsnDecoder;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.nodes.utils.AbcLiteralsCache;
+
+/**
+ * Collect usage info from abc instructions (dex index types not available for them):
+ * <ul>
+ * <li>module imports: resolved to module classes, loaded by {@code ldexternalmodulevar}</li>
+ * <li>{@code definefunc} and {@code defineclasswithbuffer} target methods</li>
+ * </ul>
+ * Immutable after creation, can be shared between threads.
+ */
+final class AbcUsageCollector {
+
+	// opcodes, see handlers registration in InsnDecoder
+	private static final int DEFINEFUNC_IMM8 = 0x33;
+	private static final int DEFINEFUNC_IMM16 = 0x74;
+	private static final int DEFINECLASSWITHBUFFER_IMM8 = 0x35;
+	private static final int DEFINECLASSWITHBUFFER_IMM16 = 0x75;
+	private static final int LDEXTERNALMODULEVAR = 0x7e;
+	private static final int WIDE_PREFIX = 0xfd;
+	private static final int WIDE_LDEXTERNALMODULEVAR = 0x11;
+
+	/**
+	 * Methods by code id (abc method offset) for every input file
+	 */
+	private final Map<String, Map<Integer, MethodNode>> methodsByFile = new HashMap<>();
+	private final Map<String, ClassNode> modules = new HashMap<>();
+	private final Map<String, ClassNode> modulesBySuffix = new HashMap<>();
+	private final Set<String> ambiguousSuffixes = new HashSet<>();
+	private final AbcLiteralsCache literalsCache;
+
+	AbcUsageCollector(RootNode root) {
+		this.literalsCache = root.getAbcLiteralsCache();
+		for (ClassNode cls : root.getClasses()) {
+			Map<Integer, MethodNode> methods = methodsByFile.computeIfAbsent(cls.getInputFileName(), f -> new HashMap<>());
+			for (MethodNode mth : cls.getMethods()) {
+				int codeId = mth.getCodeId();
+				if (codeId != 0) {
+					methods.put(codeId, mth);
+				}
+			}
+			addModule(cls);
+		}
+	}
+
+	private void addModule(ClassNode cls) {
+		String key = moduleKey(cls.getClassInfo().getRawName());
+		if (key.isEmpty()) {
+			return;
+		}
+		modules.put(key, cls);
+		int pos = 0;
+		while (pos != -1) {
+			String suffix = key.substring(pos);
+			if (!ambiguousSuffixes.contains(suffix)) {
+				ClassNode prev = modulesBySuffix.putIfAbsent(suffix, cls);
+				if (prev != null && prev != cls) {
+					modulesBySuffix.remove(suffix);
+					ambiguousSuffixes.add(suffix);
+				}
+			}
+			pos = nextSegment(key, pos);
+		}
+	}
+
+	/**
+	 * Class level data, created by thread for processing class methods
+	 */
+	ClassImports newClassImports(ClassNode cls) {
+		return new ClassImports(cls);
+	}
+
+	final class ClassImports {
+		private final ClassNode cls;
+		private ClassNode[] imports;
+
+		private ClassImports(ClassNode cls) {
+			this.cls = cls;
+		}
+
+		private ClassNode[] getImports(InsnData insnData, UsageCollector usageInfo) {
+			ClassNode[] clsImports = imports;
+			if (clsImports == null) {
+				clsImports = resolveImports(InsnDecoder.getAbcClassByInsn(insnData));
+				for (ClassNode importCls : clsImports) {
+					if (importCls != null) {
+						usageInfo.clsUse(cls, importCls);
+					}
+				}
+				imports = clsImports;
+			}
+			return clsImports;
+		}
+
+		private ClassNode[] resolveImports(AbcClass abcClass) {
+			AbcLiteralsCache.ModuleImports moduleImports = literalsCache.getModuleImports(abcClass);
+			if (moduleImports == null) {
+				return new ClassNode[0];
+			}
+			int count = moduleImports.size();
+			ClassNode[] result = new ClassNode[count];
+			String clsKey = moduleKey(cls.getClassInfo().getRawName());
+			for (int i = 0; i < count; i++) {
+				result[i] = resolveModule(clsKey, getModuleRequest(moduleImports.getImportStr(i)));
+			}
+			return result;
+		}
+	}
+
+	void processInsn(MethodNode mth, InsnData insnData, ClassImports clsImports, UsageCollector usageInfo) {
+		Asm.AsmItem asmItem = insnData.getAsmItem();
+		List<Number> opUnits = asmItem.getOpUnits();
+		int opcode = opUnits.get(0).shortValue() & 0xff;
+		switch (opcode) {
+			case DEFINEFUNC_IMM8:
+			case DEFINEFUNC_IMM16:
+			case DEFINECLASSWITHBUFFER_IMM8:
+			case DEFINECLASSWITHBUFFER_IMM16: {
+				MethodItem target = ((InstFmt.MId) asmItem.getIns().getFormat().get(2)).getMethod(asmItem);
+				MethodNode targetMth = resolveMethod(mth, target);
+				if (targetMth != null) {
+					usageInfo.methodUse(mth, targetMth);
+				}
+				break;
+			}
+
+			case LDEXTERNALMODULEVAR:
+				importUse(mth, insnData, clsImports, InsnDecoder.getIntOpUnit(asmItem, 1), usageInfo);
+				break;
+
+			case WIDE_PREFIX:
+				if ((opUnits.get(1).intValue() & 0xff) == WIDE_LDEXTERNALMODULEVAR) {
+					importUse(mth, insnData, clsImports, InsnDecoder.getIntOpUnit(asmItem, 2), usageInfo);
+				}
+				break;
+		}
+	}
+
+	private static void importUse(MethodNode mth, InsnData insnData, ClassImports clsImports, int slot, UsageCollector usageInfo) {
+		ClassNode[] imports = clsImports.getImports(insnData, usageInfo);
+		if (slot >= 0 && slot < imports.length) {
+			ClassNode importCls = imports[slot];
+			if (importCls != null) {
+				usageInfo.clsUse(mth, importCls);
+			}
+		}
+	}
+
+	@Nullable
+	private MethodNode resolveMethod(MethodNode mth, @Nullable MethodItem target) {
+		if (target == null) {
+			return null;
+		}
+		Map<Integer, MethodNode> methods = methodsByFile.get(mth.getInputFileName());
+		return methods == null ? null : methods.get(target.getOffset());
+	}
+
+	@Nullable
+	private ClassNode resolveModule(String clsKey, String request) {
+		String key = moduleKey(request);
+		if (key.startsWith("./") || key.startsWith("../")) {
+			key = resolveRelative(clsKey, key);
+		}
+		if (key.isEmpty()) {
+			return null;
+		}
+		ClassNode cls = modules.get(key);
+		if (cls != null) {
+			return cls;
+		}
+		// request path can contain bundle or module name instead of source dirs, check longest known suffix
+		int pos = 0;
+		while (pos != -1) {
+			cls = modulesBySuffix.get(key.substring(pos));
+			if (cls != null) {
+				return cls;
+			}
+			pos = nextSegment(key, pos);
+		}
+		return null;
+	}
+
+	/**
+	 * Module request is a quoted part of import string: {@code import { a as b } from '@normalized:N&&&entry/src/Util&'}
+	 */
+	static String getModuleRequest(String importStr) {
+		for (char quote : new char[] { '\'', '"' }) {
+			int end = importStr.lastIndexOf(quote);
+			if (end > 0) {
+				int start = importStr.lastIndexOf(quote, end - 1);
+				if (start != -1) {
+					return importStr.substring(start + 1, end);
+				}
+			}
+		}
+		return importStr;
+	}
+
+	/**
+	 * Normalize module record name or module request to source path without extension:
+	 * {@code &entry/src/main/ets/Index&1.0} and {@code @normalized:N&&&entry/src/main/ets/Index&} to
+	 * {@code entry/src/main/ets/Index}
+	 */
+	static String moduleKey(String name) {
+		String path = name;
+		int colon = path.indexOf(':');
+		if (path.startsWith("@") && colon != -1) {
+			path = path.substring(colon + 1);
+		}
+		if (path.indexOf('&') != -1) {
+			// prefer part with path separator, other parts are bundle, module name or version
+			String longest = "";
+			boolean withSlash = false;
+			for (String part : path.split("&")) {
+				boolean slash = part.indexOf('/') != -1;
+				if ((slash && !withSlash) || (slash == withSlash && part.length() > longest.length())) {
+					longest = part;
+					withSlash = slash;
+				}
+			}
+			path = longest;
+		}
+		int dot = path.lastIndexOf('.');
+		if (dot > path.lastIndexOf('/') && dot > 0 && path.charAt(dot - 1) != '.') {
+			path = path.substring(0, dot);
+		}
+		return path;
+	}
+
+	private static String resolveRelative(String clsKey, String relPath) {
+		int slash = clsKey.lastIndexOf('/');
+		String dir = slash == -1 ? "" : clsKey.substring(0, slash);
+		String path = relPath;
+		while (true) {
+			if (path.startsWith("./")) {
+				path = path.substring(2);
+			} else if (path.startsWith("../")) {
+				path = path.substring(3);
+				int up = dir.lastIndexOf('/');
+				dir = up == -1 ? "" : dir.substring(0, up);
+			} else {
+				break;
+			}
+		}
+		return dir.isEmpty() ? path : dir + '/' + path;
+	}
+
+	private static int nextSegment(String key, int pos) {
+		int next = key.indexOf('/', pos);
+		return next == -1 ? -1 : next + 1;
+	}
+}
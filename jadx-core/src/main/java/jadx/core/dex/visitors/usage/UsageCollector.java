@@ -0,0 +1,106 @@
+package jadx.core.dex.visitors.usage;
+
+import java.util.Arrays;
+
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+
+/**
+ * Collect usage edges found in one class as packed pairs of node ids.
+ * Not thread safe, every class scanned with own collector.
+ */
+public final class UsageCollector {
+	private final UsageInfo usageInfo;
+	private final ClassNode cls;
+	private final long[][] edges = new long[UsageInfo.KINDS_COUNT][];
+	private final int[] sizes = new int[UsageInfo.KINDS_COUNT];
+
+	UsageCollector(UsageInfo usageInfo, ClassNode cls) {
+		this.usageInfo = usageInfo;
+		this.cls = cls;
+	}
+
+	public ClassNode getCls() {
+		return cls;
+	}
+
+	public void clsUse(ClassNode cls, ArgType useType) {
+		usageInfo.processType(useType, depCls -> clsUse(cls, depCls));
+	}
+
+	public void clsUse(MethodNode mth, ArgType useType) {
+		usageInfo.processType(useType, depCls -> clsUse(mth, depCls));
+	}
+
+	public void clsUse(MethodNode mth, ClassNode useCls) {
+		ClassNode parentClass = mth.getParentClass();
+		clsUse(parentClass, useCls);
+		if (parentClass != useCls) {
+			// exclude class usage in self methods
+			add(UsageInfo.CLS_USE_IN_MTH, usageInfo.getClsId(useCls), usageInfo.getMthId(mth));
+		}
+	}
+
+	public void clsUse(ClassNode cls, ClassNode depCls) {
+		ClassNode topParentClass = cls.getTopParentClass();
+		int depClsId = usageInfo.getClsId(depCls);
+		add(UsageInfo.CLS_DEPS, usageInfo.getClsId(topParentClass), usageInfo.getClsId(depCls.getTopParentClass()));
+		add(UsageInfo.CLS_USAGE, depClsId, usageInfo.getClsId(cls));
+		add(UsageInfo.CLS_USAGE, depClsId, usageInfo.getClsId(topParentClass));
+	}
+
+	/**
+	 * Add method usage: {@code useMth} occurrence found in {@code mth} code
+	 */
+	public void methodUse(MethodNode mth, MethodNode useMth) {
+		clsUse(mth, useMth.getParentClass());
+		add(UsageInfo.MTH_USAGE, usageInfo.getMthId(useMth), usageInfo.getMthId(mth));
+		// implicit usage
+		clsUse(mth, useMth.getReturnType());
+		useMth.getMethodInfo().getArgumentsTypes().forEach(argType -> clsUse(mth, argType));
+	}
+
+	public void fieldUse(MethodNode mth, FieldNode useFld) {
+		clsUse(mth, useFld.getParentClass());
+		add(UsageInfo.FIELD_USAGE, usageInfo.getFieldId(useFld), usageInfo.getMthId(mth));
+		// implicit usage
+		clsUse(mth, useFld.getType());
+	}
+
+	private void add(int kind, int keyId, int useId) {
+		if (keyId == -1 || useId == -1) {
+			return;
+		}
+		if (keyId == useId && UsageInfo.isSameNodesKind(kind)) {
+			// self excluded
+			return;
+		}
+		long[] arr = edges[kind];
+		int size = sizes[kind];
+		if (arr == null) {
+			arr = new long[8];
+			edges[kind] = arr;
+		} else if (size == arr.length) {
+			arr = Arrays.copyOf(arr, size * 2);
+			edges[kind] = arr;
+		}
+		arr[size] = UsageInfo.pack(keyId, useId);
+		sizes[kind] = size + 1;
+	}
+
+	/**
+	 * Collected edges trimmed to size, null for empty kinds
+	 */
+	long[][] getEdges() {
+		long[][] result = new long[UsageInfo.KINDS_COUNT][];
+		for (int kind = 0; kind < UsageInfo.KINDS_COUNT; kind++) {
+			int size = sizes[kind];
+			if (size != 0) {
+				result[kind] = Arrays.copyOf(edges[kind], size);
+			}
+		}
+		return result;
+	}
+}
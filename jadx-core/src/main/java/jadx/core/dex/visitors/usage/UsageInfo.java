@@ -1,10 +1,15 @@
 package jadx.core.dex.visitors.usage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 import jadx.api.usage.IUsageInfoData;
 import jadx.api.usage.IUsageInfoVisitor;
@@ -18,95 +23,332 @@
 
 import static jadx.core.utils.Utils.notEmpty;
 
+/**
+ * Usage data stored as node ids:
+ * edges collected per scanned class (to allow rescan of changed classes)
+ * and merged into compressed adjacency lists (CSR) for every usage kind.
+ * <br>
+ * Node ids assigned in natural nodes order, so use lists already sorted.
+ * <br>
+ * Adjacency lists published as immutable snapshot, so updates after classes reload
+ * (serialized on this instance) don't affect concurrent readers.
+ */
 public class UsageInfo implements IUsageInfoData {
+	static final int CLS_DEPS = 0;
+	static final int CLS_USAGE = 1;
+	static final int CLS_USE_IN_MTH = 2;
+	static final int FIELD_USAGE = 3;
+	static final int MTH_USAGE = 4;
+	static final int KINDS_COUNT = 5;
+
+	private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
 	private final RootNode root;
 
-	private final UseSet<ClassNode, ClassNode> clsDeps = new UseSet<>();
-	private final UseSet<ClassNode, ClassNode> clsUsage = new UseSet<>();
-	private final UseSet<ClassNode, MethodNode> clsUseInMth = new UseSet<>();
-	private final UseSet<FieldNode, MethodNode> fieldUsage = new UseSet<>();
-	private final UseSet<MethodNode, MethodNode> mthUsage = new UseSet<>();
+	private final ClassNode[] classes;
+	private final MethodNode[] methods;
+	private final FieldNode[] fields;
+	private final Map<ClassNode, Integer> clsIds;
+	private final Map<MethodNode, Integer> mthIds;
+	private final Map<FieldNode, Integer> fieldIds;
+
+	/**
+	 * Collected edges by scanned class id and usage kind
+	 */
+	private final long[][][] classEdges;
+
+	/**
+	 * Reused for rescan of changed classes
+	 */
+	private final AbcUsageCollector abcCollector;
+
+	private volatile Lists lists;
 
 	public UsageInfo(RootNode root) {
 		this.root = root;
+		List<ClassNode> clsList = new ArrayList<>(root.getClasses());
+		Collections.sort(clsList);
+		List<MethodNode> mthList = new ArrayList<>();
+		List<FieldNode> fieldList = new ArrayList<>();
+		for (ClassNode cls : clsList) {
+			mthList.addAll(cls.getMethods());
+			fieldList.addAll(cls.getFields());
+		}
+		Collections.sort(mthList);
+		this.classes = clsList.toArray(new ClassNode[0]);
+		this.methods = mthList.toArray(new MethodNode[0]);
+		this.fields = fieldList.toArray(new FieldNode[0]);
+		this.clsIds = buildIds(classes);
+		this.mthIds = buildIds(methods);
+		this.fieldIds = buildIds(fields);
+		this.classEdges = new long[classes.length][][];
+		this.abcCollector = new AbcUsageCollector(root);
 	}
 
-	@Override
-	public void apply() {
-		clsDeps.visit((cls, deps) -> cls.setDependencies(sortedList(deps)));
-		clsUsage.visit((cls, deps) -> cls.setUseIn(sortedList(deps)));
-		clsUseInMth.visit((cls, methods) -> cls.setUseInMth(sortedList(methods)));
-		fieldUsage.visit((field, methods) -> field.setUseIn(sortedList(methods)));
-		mthUsage.visit((mth, methods) -> mth.setUseIn(sortedList(methods)));
+	private static <T> Map<T, Integer> buildIds(T[] nodes) {
+		Map<T, Integer> map = new HashMap<>(nodes.length * 4 / 3 + 1);
+		for (int i = 0; i < nodes.length; i++) {
+			map.put(nodes[i], i);
+		}
+		return map;
 	}
 
-	@Override
-	public void applyForClass(ClassNode cls) {
-		cls.setDependencies(sortedList(clsDeps.get(cls)));
-		cls.setUseIn(sortedList(clsUsage.get(cls)));
-		cls.setUseInMth(sortedList(clsUseInMth.get(cls)));
-		for (FieldNode fld : cls.getFields()) {
-			fld.setUseIn(sortedList(fieldUsage.get(fld)));
+	/**
+	 * Start collecting usage for class.
+	 * Can be called concurrently for different classes.
+	 */
+	public UsageCollector startClass(ClassNode cls) {
+		return new UsageCollector(this, cls);
+	}
+
+	/**
+	 * Save class usage data
+	 */
+	public void finishClass(UsageCollector collector) {
+		int clsId = getClsId(collector.getCls());
+		if (clsId != -1) {
+			classEdges[clsId] = collector.getEdges();
 		}
-		for (MethodNode mth : cls.getMethods()) {
-			mth.setUseIn(sortedList(mthUsage.get(mth)));
+	}
+
+	AbcUsageCollector getAbcCollector() {
+		return abcCollector;
+	}
+
+	/**
+	 * Scan provided classes again (after reload) and update use lists.
+	 * Adjacency lists rebuilt only if scanned data changed,
+	 * use lists applied only for nodes of changed classes and nodes with changed edges.
+	 *
+	 * @return false if some classes unknown (classes set changed), full rebuild required
+	 */
+	public synchronized boolean update(List<ClassNode> changedClasses, Consumer<UsageCollector> scanner) {
+		for (ClassNode cls : changedClasses) {
+			if (getClsId(cls) == -1) {
+				return false;
+			}
 		}
+		BitSet[] affectedKeys = new BitSet[KINDS_COUNT];
+		for (int kind = 0; kind < KINDS_COUNT; kind++) {
+			affectedKeys[kind] = new BitSet();
+		}
+		boolean changed = false;
+		for (ClassNode cls : changedClasses) {
+			updateNodes(cls);
+			UsageCollector collector = startClass(cls);
+			scanner.accept(collector);
+			int clsId = getClsId(cls);
+			long[][] prevEdges = classEdges[clsId];
+			long[][] edges = collector.getEdges();
+			classEdges[clsId] = edges;
+			if (!Arrays.deepEquals(prevEdges, edges)) {
+				changed = true;
+			}
+			// lists with uses from class also contains replaced method nodes
+			addKeys(prevEdges, affectedKeys);
+			addKeys(edges, affectedKeys);
+		}
+		// publish again even without changes: replaced nodes should be visible for readers
+		Lists newLists = changed ? buildLists() : lists;
+		lists = newLists;
+		for (ClassNode cls : changedClasses) {
+			applyForClass(cls);
+		}
+		applyForKeys(newLists, affectedKeys);
+		return true;
 	}
 
-	@Override
-	public void visitUsageData(IUsageInfoVisitor visitor) {
-		clsDeps.visit((cls, deps) -> visitor.visitClassDeps(cls, sortedList(deps)));
-		clsUsage.visit((cls, deps) -> visitor.visitClassUsage(cls, sortedList(deps)));
-		clsUseInMth.visit((cls, methods) -> visitor.visitClassUseInMethods(cls, sortedList(methods)));
-		fieldUsage.visit((field, methods) -> visitor.visitFieldsUsage(field, sortedList(methods)));
-		mthUsage.visit((mth, methods) -> visitor.visitMethodsUsage(mth, sortedList(methods)));
-		visitor.visitComplete();
+	/**
+	 * Replace stored methods and fields of reloaded class with new instances (ids not changed)
+	 */
+	private void updateNodes(ClassNode cls) {
+		for (MethodNode mth : cls.getMethods()) {
+			int mthId = getMthId(mth);
+			if (mthId != -1) {
+				methods[mthId] = mth;
+			}
+		}
+		for (FieldNode fld : cls.getFields()) {
+			int fldId = getFieldId(fld);
+			if (fldId != -1) {
+				fields[fldId] = fld;
+			}
+		}
 	}
 
-	public void clsUse(ClassNode cls, ArgType useType) {
-		processType(useType, depCls -> clsUse(cls, depCls));
+	private static void addKeys(long[][] edges, BitSet[] keys) {
+		if (edges == null) {
+			return;
+		}
+		for (int kind = 0; kind < KINDS_COUNT; kind++) {
+			long[] kindEdges = edges[kind];
+			if (kindEdges != null) {
+				for (long edge : kindEdges) {
+					keys[kind].set(unpackKey(edge));
+				}
+			}
+		}
 	}
 
-	public void clsUse(MethodNode mth, ArgType useType) {
-		processType(useType, depCls -> clsUse(mth, depCls));
+	/**
+	 * Merge edges collected by classes into adjacency lists.
+	 * Should be called after collecting all classes.
+	 */
+	public void build() {
+		lists = buildLists();
 	}
 
-	public void clsUse(MethodNode mth, ClassNode useCls) {
-		ClassNode parentClass = mth.getParentClass();
-		clsUse(parentClass, useCls);
-		if (parentClass != useCls) {
-			// exclude class usage in self methods
-			clsUseInMth.add(useCls, mth);
+	private Lists buildLists() {
+		int[][] offsets = new int[KINDS_COUNT][];
+		int[][] uses = new int[KINDS_COUNT][];
+		for (int kind = 0; kind < KINDS_COUNT; kind++) {
+			buildKind(kind, offsets, uses);
 		}
+		return new Lists(offsets, uses);
 	}
 
-	public void clsUse(ClassNode cls, ClassNode depCls) {
-		ClassNode topParentClass = cls.getTopParentClass();
-		clsDeps.add(topParentClass, depCls.getTopParentClass());
+	private void buildKind(int kind, int[][] offsets, int[][] uses) {
+		int total = 0;
+		for (long[][] clsEdges : classEdges) {
+			if (clsEdges != null && clsEdges[kind] != null) {
+				total += clsEdges[kind].length;
+			}
+		}
+		long[] all = new long[total];
+		int pos = 0;
+		for (long[][] clsEdges : classEdges) {
+			if (clsEdges != null && clsEdges[kind] != null) {
+				long[] arr = clsEdges[kind];
+				System.arraycopy(arr, 0, all, pos, arr.length);
+				pos += arr.length;
+			}
+		}
+		if (total > PARALLEL_SORT_THRESHOLD) {
+			Arrays.parallelSort(all);
+		} else {
+			Arrays.sort(all);
+		}
+		int keysCount = getKeysCount(kind);
+		int[] kindOffsets = new int[keysCount + 1];
+		int[] kindUses = new int[total];
+		int count = 0;
+		long prev = -1;
+		for (long edge : all) {
+			if (edge == prev) {
+				continue;
+			}
+			prev = edge;
+			kindUses[count++] = unpackUse(edge);
+			kindOffsets[unpackKey(edge) + 1]++;
+		}
+		for (int i = 0; i < keysCount; i++) {
+			kindOffsets[i + 1] += kindOffsets[i];
+		}
+		offsets[kind] = kindOffsets;
+		uses[kind] = count == total ? kindUses : Arrays.copyOf(kindUses, count);
+	}
 
-		clsUsage.add(depCls, cls);
-		clsUsage.add(depCls, topParentClass);
+	private int getKeysCount(int kind) {
+		switch (kind) {
+			case CLS_DEPS:
+			case CLS_USAGE:
+			case CLS_USE_IN_MTH:
+				return classes.length;
+			case FIELD_USAGE:
+				return fields.length;
+			case MTH_USAGE:
+				return methods.length;
+			default:
+				throw new IllegalArgumentException("Unknown usage kind: " + kind);
+		}
 	}
 
 	/**
-	 * Add method usage: {@code useMth} occurrence found in {@code mth} code
+	 * Set use lists for all nodes
 	 */
-	public void methodUse(MethodNode mth, MethodNode useMth) {
-		clsUse(mth, useMth.getParentClass());
-		mthUsage.add(useMth, mth);
-		// implicit usage
-		clsUse(mth, useMth.getReturnType());
-		useMth.getMethodInfo().getArgumentsTypes().forEach(argType -> clsUse(mth, argType));
+	@Override
+	public void apply() {
+		Lists data = lists;
+		for (int i = 0; i < classes.length; i++) {
+			applyForKey(data, CLS_DEPS, i);
+			applyForKey(data, CLS_USAGE, i);
+			applyForKey(data, CLS_USE_IN_MTH, i);
+		}
+		for (int i = 0; i < fields.length; i++) {
+			applyForKey(data, FIELD_USAGE, i);
+		}
+		for (int i = 0; i < methods.length; i++) {
+			applyForKey(data, MTH_USAGE, i);
+		}
 	}
 
-	public void fieldUse(MethodNode mth, FieldNode useFld) {
-		clsUse(mth, useFld.getParentClass());
-		fieldUsage.add(useFld, mth);
-		// implicit usage
-		clsUse(mth, useFld.getType());
+	@Override
+	public void applyForClass(ClassNode cls) {
+		Lists data = lists;
+		int clsId = getClsId(cls);
+		cls.setDependencies(data.getUses(CLS_DEPS, clsId, this::getCls));
+		cls.setUseIn(data.getUses(CLS_USAGE, clsId, this::getCls));
+		cls.setUseInMth(data.getUses(CLS_USE_IN_MTH, clsId, this::getMth));
+		for (FieldNode fld : cls.getFields()) {
+			fld.setUseIn(data.getUses(FIELD_USAGE, getFieldId(fld), this::getMth));
+		}
+		for (MethodNode mth : cls.getMethods()) {
+			mth.setUseIn(data.getUses(MTH_USAGE, getMthId(mth), this::getMth));
+		}
+	}
+
+	private void applyForKeys(Lists data, BitSet[] keys) {
+		for (int kind = 0; kind < KINDS_COUNT; kind++) {
+			BitSet kindKeys = keys[kind];
+			for (int key = kindKeys.nextSetBit(0); key >= 0; key = kindKeys.nextSetBit(key + 1)) {
+				applyForKey(data, kind, key);
+			}
+		}
+	}
+
+	private void applyForKey(Lists data, int kind, int keyId) {
+		switch (kind) {
+			case CLS_DEPS:
+				classes[keyId].setDependencies(data.getUses(kind, keyId, this::getCls));
+				break;
+			case CLS_USAGE:
+				classes[keyId].setUseIn(data.getUses(kind, keyId, this::getCls));
+				break;
+			case CLS_USE_IN_MTH:
+				classes[keyId].setUseInMth(data.getUses(kind, keyId, this::getMth));
+				break;
+			case FIELD_USAGE:
+				fields[keyId].setUseIn(data.getUses(kind, keyId, this::getMth));
+				break;
+			case MTH_USAGE:
+				methods[keyId].setUseIn(data.getUses(kind, keyId, this::getMth));
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown usage kind: " + kind);
+		}
+	}
+
+	@Override
+	public void visitUsageData(IUsageInfoVisitor visitor) {
+		Lists data = lists;
+		visitKind(data, CLS_DEPS, classes, this::getCls, visitor::visitClassDeps);
+		visitKind(data, CLS_USAGE, classes, this::getCls, visitor::visitClassUsage);
+		visitKind(data, CLS_USE_IN_MTH, classes, this::getMth, visitor::visitClassUseInMethods);
+		visitKind(data, FIELD_USAGE, fields, this::getMth, visitor::visitFieldsUsage);
+		visitKind(data, MTH_USAGE, methods, this::getMth, visitor::visitMethodsUsage);
+		visitor.visitComplete();
+	}
+
+	private static <K, T> void visitKind(Lists data, int kind, K[] keys,
+			IntFunction<T> nodeById, BiConsumer<K, List<T>> visitor) {
+		for (int i = 0; i < keys.length; i++) {
+			if (data.hasUses(kind, i)) {
+				visitor.accept(keys[i], data.getUses(kind, i, nodeById));
+			}
+		}
 	}
 
-	private void processType(ArgType type, Consumer<ClassNode> consumer) {
+	void processType(ArgType type, Consumer<ClassNode> consumer) {
 		if (type == null) {
 			return;
 		}
@@ -132,12 +374,78 @@ private void processType(ArgType type, Consumer<ClassNode> consumer) {
 		}
 	}
 
-	private static <T extends Comparable<T>> List<T> sortedList(Set<T> deps) {
-		if (deps == null || deps.isEmpty()) {
-			return Collections.emptyList();
+	int getClsId(ClassNode cls) {
+		Integer id = clsIds.get(cls);
+		return id == null ? -1 : id;
+	}
+
+	int getMthId(MethodNode mth) {
+		Integer id = mthIds.get(mth);
+		return id == null ? -1 : id;
+	}
+
+	int getFieldId(FieldNode fld) {
+		Integer id = fieldIds.get(fld);
+		return id == null ? -1 : id;
+	}
+
+	private ClassNode getCls(int id) {
+		return classes[id];
+	}
+
+	private MethodNode getMth(int id) {
+		return methods[id];
+	}
+
+	/**
+	 * Adjacency lists (CSR) for every usage kind, not changed after publication
+	 */
+	private static final class Lists {
+		private final int[][] offsets;
+		private final int[][] uses;
+
+		Lists(int[][] offsets, int[][] uses) {
+			this.offsets = offsets;
+			this.uses = uses;
 		}
-		List<T> list = new ArrayList<>(deps);
-		Collections.sort(list);
-		return list;
+
+		boolean hasUses(int kind, int keyId) {
+			int[] kindOffsets = offsets[kind];
+			return kindOffsets[keyId + 1] != kindOffsets[keyId];
+		}
+
+		<T> List<T> getUses(int kind, int keyId, IntFunction<T> nodeById) {
+			if (keyId == -1) {
+				return Collections.emptyList();
+			}
+			int[] kindOffsets = offsets[kind];
+			int start = kindOffsets[keyId];
+			int end = kindOffsets[keyId + 1];
+			if (start == end) {
+				return Collections.emptyList();
+			}
+			int[] kindUses = uses[kind];
+			List<T> list = new ArrayList<>(end - start);
+			for (int i = start; i < end; i++) {
+				list.add(nodeById.apply(kindUses[i]));
+			}
+			return list;
+		}
+	}
+
+	static boolean isSameNodesKind(int kind) {
+		return kind == CLS_DEPS || kind == CLS_USAGE || kind == MTH_USAGE;
+	}
+
+	static long pack(int keyId, int useId) {
+		return ((long) keyId << 32) | (useId & 0xFFFFFFFFL);
+	}
+
+	private static int unpackKey(long edge) {
+		return (int) (edge >>> 32);
+	}
+
+	private static int unpackUse(long edge) {
+		return (int) edge;
 	}
 }
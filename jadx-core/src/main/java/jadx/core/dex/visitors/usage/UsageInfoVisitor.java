@@ -1,5 +1,6 @@
 package jadx.core.dex.visitors.usage;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -28,6 +29,7 @@
 import jadx.core.dex.visitors.rename.RenameVisitor;
 import jadx.core.utils.ListUtils;
 import jadx.core.utils.input.InsnDataUtils;
+import jadx.core.utils.tasks.ParallelIndexRunner;
 
 @JadxVisitor(
 		name = "UsageInfoVisitor",
@@ -40,6 +42,8 @@
 public class UsageInfoVisitor extends AbstractVisitor {
 	private static final Logger LOG = LoggerFactory.getLogger(UsageInfoVisitor.class);
 
+	private static final int PARALLEL_MIN_CLASSES_PER_THREAD = 200;
+
 	@Override
 	public void init(RootNode root) {
 		IUsageInfoCache usageCache = root.getArgs().getUsageInfoCache();
@@ -66,14 +70,59 @@ private static void apply(IUsageInfoData usageInfoData) {
 	}
 
 	private static IUsageInfoData buildUsageData(RootNode root) {
+		long start = System.currentTimeMillis();
+		List<ClassNode> classes = root.getClasses();
+		int count = classes.size();
+		int threads = Math.min(root.getArgs().getThreadsCount(), count / PARALLEL_MIN_CLASSES_PER_THREAD);
 		UsageInfo usageInfo = new UsageInfo(root);
-		for (ClassNode cls : root.getClasses()) {
-			processClass(cls, usageInfo);
+		AbcUsageCollector abcCollector = usageInfo.getAbcCollector();
+		// every class collected separately, merged in build
+		ParallelIndexRunner.run("Usage info collection", threads, count, i -> {
+			ClassNode cls = classes.get(i);
+			UsageCollector collector = usageInfo.startClass(cls);
+			processClass(cls, collector, abcCollector);
+			usageInfo.finishClass(collector);
+		});
+		usageInfo.build();
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Usage info collected in {}ms using {} threads", System.currentTimeMillis() - start, Math.max(1, threads));
 		}
 		return usageInfo;
 	}
 
-	private static void processClass(ClassNode cls, UsageInfo usageInfo) {
+	/**
+	 * Scan class (with inner classes) again after deep reload, see {@link ClassNode#reloadCode()}
+	 */
+	public static void updateReloadedClass(ClassNode cls) {
+		List<ClassNode> classes = new ArrayList<>();
+		addWithInners(cls, classes);
+		updateUsageData(cls.root(), classes);
+	}
+
+	private static void addWithInners(ClassNode cls, List<ClassNode> list) {
+		list.add(cls);
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			addWithInners(innerCls, list);
+		}
+	}
+
+	/**
+	 * Patch usage data after changes in provided classes: only these classes will be scanned again.
+	 * Can be called concurrently, updates serialized in {@link UsageInfo#update(List, java.util.function.Consumer)}.
+	 *
+	 * @return false if data can't be updated (not collected or classes set changed), full rebuild required
+	 */
+	public static boolean updateUsageData(RootNode root, List<ClassNode> changedClasses) {
+		IUsageInfoData usageInfoData = root.getArgs().getUsageInfoCache().get(root);
+		if (!(usageInfoData instanceof UsageInfo)) {
+			return false;
+		}
+		UsageInfo usageInfo = (UsageInfo) usageInfoData;
+		AbcUsageCollector abcCollector = usageInfo.getAbcCollector();
+		return usageInfo.update(changedClasses, collector -> processClass(collector.getCls(), collector, abcCollector));
+	}
+
+	private static void processClass(ClassNode cls, UsageCollector usageInfo, AbcUsageCollector abcCollector) {
 		usageInfo.clsUse(cls, cls.getSuperClass());
 		for (ArgType interfaceType : cls.getInterfaces()) {
 			usageInfo.clsUse(cls, interfaceType);
@@ -82,25 +131,28 @@ private static void processClass(ClassNode cls, UsageInfo usageInfo) {
 			usageInfo.clsUse(cls, fieldNode.getType());
 		}
 		// TODO: process annotations and generics
+		AbcUsageCollector.ClassImports clsImports = abcCollector.newClassImports(cls);
 		for (MethodNode methodNode : cls.getMethods()) {
-			processMethod(methodNode, usageInfo);
+			processMethod(methodNode, usageInfo, abcCollector, clsImports);
 		}
 	}
 
-	private static void processMethod(MethodNode mth, UsageInfo usageInfo) {
+	private static void processMethod(MethodNode mth, UsageCollector usageInfo,
+			AbcUsageCollector abcCollector, AbcUsageCollector.ClassImports clsImports) {
 		ClassNode cls = mth.getParentClass();
 		usageInfo.clsUse(cls, mth.getReturnType());
 		for (ArgType argType : mth.getMethodInfo().getArgumentsTypes()) {
 			usageInfo.clsUse(cls, argType);
 		}
 		try {
-			processInstructions(mth, usageInfo);
+			processInstructions(mth, usageInfo, abcCollector, clsImports);
 		} catch (Exception e) {
 			mth.addError("Dependency scan failed", e);
 		}
 	}
 
-	private static void processInstructions(MethodNode mth, UsageInfo usageInfo) {
+	private static void processInstructions(MethodNode mth, UsageCollector usageInfo,
+			AbcUsageCollector abcCollector, AbcUsageCollector.ClassImports clsImports) {
 		if (mth.isNoCode()) {
 			return;
 		}
@@ -111,14 +163,18 @@ private static void processInstructions(MethodNode mth, UsageInfo usageInfo) {
 		RootNode root = mth.root();
 		codeReader.visitInstructions(insnData -> {
 			try {
-				processInsn(root, mth, insnData, usageInfo);
+				if (insnData.getAsmItem() != null) {
+					abcCollector.processInsn(mth, insnData, clsImports, usageInfo);
+				} else {
+					processInsn(root, mth, insnData, usageInfo);
+				}
 			} catch (Exception e) {
 				mth.addError("Dependency scan failed at insn: " + insnData, e);
 			}
 		});
 	}
 
-	private static void processInsn(RootNode root, MethodNode mth, InsnData insnData, UsageInfo usageInfo) {
+	private static void processInsn(RootNode root, MethodNode mth, InsnData insnData, UsageCollector usageInfo) {
 		if (insnData.getOpcode() == Opcode.UNKNOWN) {
 			return;
 		}
@@ -3,9 +3,9 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
@@ -14,12 +14,21 @@
 
 import jadx.api.IDecompileScheduler;
 import jadx.api.JavaClass;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
+/**
+ * Order classes by estimated decompilation cost, the largest first.
+ * <br>
+ * Each class placed in own batch, so executor threads take next class as soon as previous is done
+ * and a single big class can't delay the whole run at the end.
+ * Dependencies processed inside class task under per-class lock (see {@link jadx.core.ProcessClass}),
+ * so shared dependency blocks only threads which really need it.
+ */
 public class DecompilerScheduler implements IDecompileScheduler {
 	private static final Logger LOG = LoggerFactory.getLogger(DecompilerScheduler.class);
 
-	private static final int MERGED_BATCH_SIZE = 16;
 	private static final boolean DEBUG_BATCHES = false;
 
 	@Override
@@ -40,94 +49,88 @@ public List<List<JavaClass>> buildBatches(List<JavaClass> classes) {
 		}
 	}
 
-	/**
-	 * Put classes with many dependencies at the end.
-	 * Build batches for dependencies of single class to avoid locking from another thread.
-	 */
 	public List<List<JavaClass>> internalBatches(List<JavaClass> classes) {
-		List<DepInfo> deps = sumDependencies(classes);
-		Set<JavaClass> added = new HashSet<>(classes.size());
-		Comparator<JavaClass> cmpDepSize = Comparator.comparingInt(JavaClass::getTotalDepsCount);
-		List<List<JavaClass>> result = new ArrayList<>();
-		List<JavaClass> mergedBatch = new ArrayList<>(MERGED_BATCH_SIZE);
-		for (DepInfo depInfo : deps) {
-			JavaClass cls = depInfo.getCls();
-			if (!added.add(cls)) {
-				continue;
-			}
-			int depsSize = cls.getTotalDepsCount();
-			if (depsSize == 0) {
-				// add classes without dependencies in merged batch
-				mergedBatch.add(cls);
-				if (mergedBatch.size() >= MERGED_BATCH_SIZE) {
-					result.add(mergedBatch);
-					mergedBatch = new ArrayList<>(MERGED_BATCH_SIZE);
-				}
-			} else {
-				List<JavaClass> batch = new ArrayList<>(depsSize + 1);
-				for (JavaClass dep : cls.getDependencies()) {
-					JavaClass topDep = dep.getTopParentClass();
-					if (!added.contains(topDep)) {
-						batch.add(topDep);
-						added.add(topDep);
-					}
-				}
-				batch.sort(cmpDepSize);
-				batch.add(cls);
-				result.add(batch);
-			}
+		Map<ClassNode, Long> ownCosts = new HashMap<>(classes.size());
+		List<CostInfo> costs = new ArrayList<>(classes.size());
+		for (JavaClass cls : classes) {
+			costs.add(new CostInfo(cls, estimateCost(cls.getClassNode(), ownCosts)));
 		}
-		if (mergedBatch.size() > 0) {
-			result.add(mergedBatch);
+		Collections.sort(costs);
+		List<List<JavaClass>> result = new ArrayList<>(costs.size());
+		for (CostInfo costInfo : costs) {
+			result.add(Collections.singletonList(costInfo.getCls()));
 		}
 		if (DEBUG_BATCHES) {
-			dumpBatchesStats(classes, result, deps);
+			dumpBatchesStats(classes, costs);
 		}
 		return result;
 	}
 
-	private static List<DepInfo> sumDependencies(List<JavaClass> classes) {
-		List<DepInfo> deps = new ArrayList<>(classes.size());
-		for (JavaClass cls : classes) {
-			int count = 0;
-			for (JavaClass dep : cls.getDependencies()) {
-				count += 1 + dep.getTotalDepsCount();
-			}
-			deps.add(new DepInfo(cls, count));
+	/**
+	 * Class instructions count with dependencies.
+	 * Dependency cost divided between all classes used it, because it will be processed only once.
+	 */
+	private static long estimateCost(ClassNode cls, Map<ClassNode, Long> ownCosts) {
+		long cost = getOwnCost(cls, ownCosts);
+		for (ClassNode dep : cls.getDependencies()) {
+			ClassNode topDep = dep.getTopParentClass();
+			int usersCount = Math.max(1, topDep.getUseIn().size());
+			cost += getOwnCost(topDep, ownCosts) / usersCount;
+		}
+		return cost;
+	}
+
+	private static long getOwnCost(ClassNode cls, Map<ClassNode, Long> ownCosts) {
+		Long cached = ownCosts.get(cls);
+		if (cached != null) {
+			return cached;
+		}
+		long cost = countInsns(cls);
+		ownCosts.put(cls, cost);
+		return cost;
+	}
+
+	private static long countInsns(ClassNode cls) {
+		// add one for each method to count methods without code
+		long count = cls.getMethods().size();
+		for (MethodNode mth : cls.getMethods()) {
+			count += mth.getInsnsCount();
+		}
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			count += countInsns(innerCls);
 		}
-		Collections.sort(deps);
-		return deps;
+		return count;
 	}
 
-	private static final class DepInfo implements Comparable<DepInfo> {
+	private static final class CostInfo implements Comparable<CostInfo> {
 		private final JavaClass cls;
-		private final int depsCount;
+		private final long cost;
 
-		private DepInfo(JavaClass cls, int depsCount) {
+		private CostInfo(JavaClass cls, long cost) {
 			this.cls = cls;
-			this.depsCount = depsCount;
+			this.cost = cost;
 		}
 
 		public JavaClass getCls() {
 			return cls;
 		}
 
-		public int getDepsCount() {
-			return depsCount;
+		public long getCost() {
+			return cost;
 		}
 
 		@Override
-		public int compareTo(@NotNull DecompilerScheduler.DepInfo o) {
-			int deps = Integer.compare(depsCount, o.depsCount);
-			if (deps == 0) {
+		public int compareTo(@NotNull DecompilerScheduler.CostInfo o) {
+			int cmp = Long.compare(o.cost, cost);
+			if (cmp == 0) {
 				return cls.getClassNode().compareTo(o.cls.getClassNode());
 			}
-			return deps;
+			return cmp;
 		}
 
 		@Override
 		public String toString() {
-			return cls + ":" + depsCount;
+			return cls + ":" + cost;
 		}
 	}
 
@@ -138,18 +141,14 @@ private static List<List<JavaClass>> buildFallback(List<JavaClass> classes) {
 				.collect(Collectors.toList());
 	}
 
-	private void dumpBatchesStats(List<JavaClass> classes, List<List<JavaClass>> result, List<DepInfo> deps) {
-		int clsInBatches = result.stream().mapToInt(List::size).sum();
-		double avg = result.stream().mapToInt(List::size).average().orElse(-1);
-		int maxSingleDeps = classes.stream().mapToInt(JavaClass::getTotalDepsCount).max().orElse(-1);
-		int maxSubDeps = deps.stream().mapToInt(DepInfo::getDepsCount).max().orElse(-1);
+	private void dumpBatchesStats(List<JavaClass> classes, List<CostInfo> costs) {
+		long total = costs.stream().mapToLong(CostInfo::getCost).sum();
+		long max = costs.isEmpty() ? -1 : costs.get(0).getCost();
 		LOG.info("Batches stats:"
 				+ "\n input classes: " + classes.size()
-				+ ",\n classes in batches: " + clsInBatches
-				+ ",\n batches: " + result.size()
-				+ ",\n average batch size: " + String.format("%.2f", avg)
-				+ ",\n max single deps count: " + maxSingleDeps
-				+ ",\n max sub deps count: " + maxSubDeps);
+				+ ",\n total cost: " + total
+				+ ",\n max cost: " + max
+				+ ",\n top classes: " + costs.subList(0, Math.min(10, costs.size())));
 	}
 
 	private static void check(List<List<JavaClass>> result, List<JavaClass> classes) {
@@ -16,6 +16,7 @@
 import jadx.core.dex.attributes.nodes.JadxError;
 import jadx.core.dex.nodes.IDexNode;
 import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.exceptions.JadxBudgetException;
 import jadx.core.utils.exceptions.JadxOverflowException;
 
 public class ErrorsCounter {
@@ -26,6 +27,7 @@ public class ErrorsCounter {
 	private int errorsCount;
 	private final Set<IAttributeNode> warnNodes = new HashSet<>();
 	private int warnsCount;
+	private int budgetErrorsCount;
 
 	public static <N extends IDexNode & IAttributeNode> String error(N node, String warnMsg, Throwable th) {
 		return node.root().getErrorsCounter().addError(node, warnMsg, th);
@@ -42,6 +44,9 @@ public static String formatMsg(IDexNode node, String msg) {
 	private synchronized <N extends IDexNode & IAttributeNode> String addError(N node, String error, @Nullable Throwable e) {
 		errorNodes.add(node);
 		errorsCount++;
+		if (e instanceof JadxBudgetException) {
+			budgetErrorsCount++;
+		}
 
 		String msg = formatMsg(node, error);
 		if (PRINT_MTH_SIZE && node instanceof MethodNode) {
@@ -88,6 +93,9 @@ public void printReport() {
 				LOG.error("  {}", err);
 			}
 		}
+		if (budgetErrorsCount > 0) {
+			LOG.warn("{} methods exceeded processing budget, generated in fallback mode", budgetErrorsCount);
+		}
 		if (getWarnsCount() > 0) {
 			LOG.warn("{} warnings in {} nodes", getWarnsCount(), warnNodes.size());
 		}
@@ -97,6 +105,10 @@ public int getErrorCount() {
 		return errorsCount;
 	}
 
+	public int getBudgetErrorsCount() {
+		return budgetErrorsCount;
+	}
+
 	public int getWarnsCount() {
 		return warnsCount;
 	}
@@ -0,0 +1,49 @@
+package jadx.core.utils;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Track max used heap by periodic sampling in background daemon thread.
+ * JVM-global peak usage counters of memory pools not used (and not reset),
+ * so several samplers can work at same time.
+ */
+public class HeapSampler implements Closeable {
+	private static final long INTERVAL_MS = 10;
+
+	private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+	private final ScheduledExecutorService sampler;
+	private final AtomicLong peak = new AtomicLong();
+
+	public HeapSampler() {
+		sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "jadx-heap-sampler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		sampler.scheduleAtFixedRate(this::sample, 0, INTERVAL_MS, TimeUnit.MILLISECONDS);
+	}
+
+	private void sample() {
+		long used = memoryBean.getHeapMemoryUsage().getUsed();
+		peak.accumulateAndGet(used, Math::max);
+	}
+
+	/**
+	 * Max used heap size (in bytes) since sampler start
+	 */
+	public long getPeak() {
+		sample();
+		return peak.get();
+	}
+
+	@Override
+	public void close() {
+		sampler.shutdownNow();
+	}
+}
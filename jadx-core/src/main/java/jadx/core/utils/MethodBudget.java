@@ -0,0 +1,135 @@
+package jadx.core.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.JadxArgs;
+import jadx.core.dex.nodes.InsnNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.exceptions.JadxBudgetException;
+
+/**
+ * Per method limits for processing time, decoded instructions and blocks count.
+ * <br>
+ * Time counted only inside method passes (CPU time if supported) and checked between passes
+ * and periodically in heavy passes by {@link #check(MethodNode)}.
+ * On limit {@link JadxBudgetException} thrown, method marked with error and generated in fallback mode.
+ */
+public class MethodBudget {
+	private final long timeLimit;
+	private final int insnsLimit;
+	private final int blocksLimit;
+	private final @Nullable ThreadMXBean threadBean;
+
+	private final ThreadLocal<long[]> passStart = ThreadLocal.withInitial(() -> new long[1]);
+
+	@Nullable
+	public static MethodBudget build(JadxArgs args) {
+		if (args.getMethodTimeLimit() == 0 && args.getMethodInsnsLimit() == 0 && args.getMethodBlocksLimit() == 0) {
+			return null;
+		}
+		return new MethodBudget(args);
+	}
+
+	private MethodBudget(JadxArgs args) {
+		this.timeLimit = TimeUnit.MILLISECONDS.toNanos(args.getMethodTimeLimit());
+		this.insnsLimit = args.getMethodInsnsLimit();
+		this.blocksLimit = args.getMethodBlocksLimit();
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		this.threadBean = bean.isCurrentThreadCpuTimeSupported() ? bean : null;
+	}
+
+	/**
+	 * Check time budget from long-running loops
+	 */
+	public static void check(MethodNode mth) {
+		MethodBudget budget = mth.root().getMethodBudget();
+		if (budget != null) {
+			budget.checkTimeLimit(mth);
+		}
+	}
+
+	public static void checkInsnsCount(MethodNode mth) {
+		MethodBudget budget = mth.root().getMethodBudget();
+		if (budget != null) {
+			budget.checkInsnsLimit(mth);
+		}
+	}
+
+	public static void checkBlocksCount(MethodNode mth) {
+		MethodBudget budget = mth.root().getMethodBudget();
+		if (budget != null) {
+			budget.checkBlocksLimit(mth);
+		}
+	}
+
+	/**
+	 * @return previous pass start, should be passed to {@link #endPass(MethodNode, long)}
+	 */
+	public long startPass(MethodNode mth) {
+		checkTimeLimit(mth);
+		long[] start = passStart.get();
+		long prevStart = start[0];
+		start[0] = now();
+		return prevStart;
+	}
+
+	public void endPass(MethodNode mth, long prevStart) {
+		long[] start = passStart.get();
+		if (start[0] != 0) {
+			mth.addProcessTime(now() - start[0]);
+		}
+		start[0] = prevStart;
+	}
+
+	private void checkTimeLimit(MethodNode mth) {
+		if (timeLimit == 0) {
+			return;
+		}
+		long start = passStart.get()[0];
+		long used = mth.getProcessTime() + (start == 0 ? 0 : now() - start);
+		if (used > timeLimit) {
+			throw new JadxBudgetException("Method processing time limit reached: "
+					+ TimeUnit.NANOSECONDS.toMillis(used) + "ms (limit: " + TimeUnit.NANOSECONDS.toMillis(timeLimit) + "ms)");
+		}
+	}
+
+	/**
+	 * Count decoded instructions, {@link MethodNode#getInsnsCount()} is a code size in units
+	 */
+	private void checkInsnsLimit(MethodNode mth) {
+		if (insnsLimit == 0) {
+			return;
+		}
+		InsnNode[] insns = mth.getInstructions();
+		if (insns == null) {
+			return;
+		}
+		int insnsCount = 0;
+		for (InsnNode insn : insns) {
+			if (insn != null) {
+				insnsCount++;
+			}
+		}
+		if (insnsCount > insnsLimit) {
+			throw new JadxBudgetException("Method instructions limit reached: " + insnsCount + " (limit: " + insnsLimit + ")");
+		}
+	}
+
+	private void checkBlocksLimit(MethodNode mth) {
+		int blocksCount = mth.getBasicBlocks().size();
+		if (blocksLimit != 0 && blocksCount > blocksLimit) {
+			throw new JadxBudgetException("Method blocks limit reached: " + blocksCount + " (limit: " + blocksLimit + ")");
+		}
+	}
+
+	private long now() {
+		if (threadBean != null) {
+			return threadBean.getCurrentThreadCpuTime();
+		}
+		return System.nanoTime();
+	}
+}
@@ -0,0 +1,70 @@
+package jadx.core.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Memory stats for fused method passes mode.
+ * <br>
+ * Released data is kept until class unload in default mode,
+ * so its size is an upper bound for peak heap saving.
+ */
+public class PassesFusionStats {
+	private final AtomicLong methods = new AtomicLong();
+	private final AtomicLong releasedBytes = new AtomicLong();
+
+	private @Nullable HeapSampler heapSampler;
+	private long heapPeak;
+
+	/**
+	 * Reset counters and start heap sampling, sampling thread stopped by {@link #stop()}
+	 */
+	public synchronized void start() {
+		stop();
+		methods.set(0);
+		releasedBytes.set(0);
+		heapPeak = 0;
+		heapSampler = new HeapSampler();
+	}
+
+	/**
+	 * Stop heap sampling, collected stats still available
+	 */
+	public synchronized void stop() {
+		HeapSampler sampler = heapSampler;
+		if (sampler != null) {
+			heapPeak = sampler.getPeak();
+			sampler.close();
+			heapSampler = null;
+		}
+	}
+
+	public void addReleased(long bytes) {
+		methods.incrementAndGet();
+		releasedBytes.addAndGet(bytes);
+	}
+
+	public long getMethods() {
+		return methods.get();
+	}
+
+	public long getReleasedBytes() {
+		return releasedBytes.get();
+	}
+
+	/**
+	 * Max used heap since start
+	 */
+	public synchronized long getHeapPeak() {
+		HeapSampler sampler = heapSampler;
+		return sampler != null ? sampler.getPeak() : heapPeak;
+	}
+
+	@Override
+	public String toString() {
+		return "methods: " + methods.get()
+				+ ", released early: " + releasedBytes.get() / 1024 + " KB"
+				+ ", heap peak: " + getHeapPeak() / (1024 * 1024) + " MB";
+	}
+}
@@ -0,0 +1,100 @@
+package jadx.core.utils.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes between base and current input, saved as json
+ */
+public class ChangesManifest {
+	private String baseInput;
+	private final List<String> added = new ArrayList<>();
+	private final List<String> removed = new ArrayList<>();
+	private final List<ModifiedClass> modified = new ArrayList<>();
+	private final List<String> dependent = new ArrayList<>();
+	private int unchanged;
+	private int reused;
+
+	public static class ModifiedClass {
+		private final String name;
+		private final List<String> addedMethods = new ArrayList<>();
+		private final List<String> removedMethods = new ArrayList<>();
+		private final List<String> modifiedMethods = new ArrayList<>();
+
+		public ModifiedClass(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<String> getAddedMethods() {
+			return addedMethods;
+		}
+
+		public List<String> getRemovedMethods() {
+			return removedMethods;
+		}
+
+		public List<String> getModifiedMethods() {
+			return modifiedMethods;
+		}
+	}
+
+	public String getBaseInput() {
+		return baseInput;
+	}
+
+	public void setBaseInput(String baseInput) {
+		this.baseInput = baseInput;
+	}
+
+	public List<String> getAdded() {
+		return added;
+	}
+
+	public List<String> getRemoved() {
+		return removed;
+	}
+
+	public List<ModifiedClass> getModified() {
+		return modified;
+	}
+
+	/**
+	 * Unchanged classes decompiled again because used classes changed
+	 */
+	public List<String> getDependent() {
+		return dependent;
+	}
+
+	public int getUnchanged() {
+		return unchanged;
+	}
+
+	public void setUnchanged(int unchanged) {
+		this.unchanged = unchanged;
+	}
+
+	/**
+	 * Unchanged classes with code copied from base output
+	 */
+	public int getReused() {
+		return reused;
+	}
+
+	public void setReused(int reused) {
+		this.reused = reused;
+	}
+
+	@Override
+	public String toString() {
+		return "added: " + added.size()
+				+ ", removed: " + removed.size()
+				+ ", modified: " + modified.size()
+				+ ", dependent: " + dependent.size()
+				+ ", unchanged: " + unchanged
+				+ ", reused: " + reused;
+	}
+}
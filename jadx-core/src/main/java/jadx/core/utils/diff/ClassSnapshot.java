@@ -0,0 +1,93 @@
+package jadx.core.utils.diff;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.plugins.input.data.ICodeReader;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+
+/**
+ * Top level class state used to compare two versions of input
+ */
+public class ClassSnapshot {
+	private final String rawName;
+	private final String fullName;
+	private final String aliasPath;
+	private final @Nullable String hash;
+	private final Map<String, String> methods;
+
+	public static Map<String, ClassSnapshot> collect(RootNode root) {
+		Map<String, ClassSnapshot> map = new HashMap<>();
+		for (ClassNode cls : root.getClasses()) {
+			if (!cls.isInner()) {
+				map.put(cls.getRawName(), new ClassSnapshot(cls));
+			}
+		}
+		return map;
+	}
+
+	private ClassSnapshot(ClassNode cls) {
+		this.rawName = cls.getRawName();
+		this.fullName = cls.getClassInfo().getFullName();
+		this.aliasPath = cls.getClassInfo().getAliasFullPath();
+		this.hash = cls.getContentHash();
+		this.methods = new LinkedHashMap<>();
+		addMethods(cls, "");
+	}
+
+	private void addMethods(ClassNode cls, String prefix) {
+		for (MethodNode mth : cls.getMethods()) {
+			ICodeReader codeReader = mth.getCodeReader();
+			String mthHash;
+			if (codeReader == null) {
+				mthHash = "";
+			} else {
+				mthHash = codeReader.getContentHash();
+			}
+			methods.put(prefix + mth.getMethodInfo().getShortId(), mthHash);
+		}
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			addMethods(innerCls, prefix + innerCls.getClassInfo().getShortName() + '.');
+		}
+	}
+
+	/**
+	 * Content equality, unknown hashes treated as changed
+	 */
+	public boolean isSameContent(ClassSnapshot other) {
+		return hash != null && hash.equals(other.hash);
+	}
+
+	public String getRawName() {
+		return rawName;
+	}
+
+	public String getFullName() {
+		return fullName;
+	}
+
+	public String getAliasPath() {
+		return aliasPath;
+	}
+
+	public @Nullable String getHash() {
+		return hash;
+	}
+
+	/**
+	 * Method short id to code hash (empty for methods without code, null if hash not available)
+	 */
+	public Map<String, String> getMethods() {
+		return methods;
+	}
+
+	@Override
+	public String toString() {
+		return rawName;
+	}
+}
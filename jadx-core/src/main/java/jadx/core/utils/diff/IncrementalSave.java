@@ -0,0 +1,273 @@
+package jadx.core.utils.diff;
+
+import java.io.File;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.visitors.SaveCode;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Save only classes changed relative to base version of same input.
+ * <br>
+ * Classes matched by raw name and compared by content hash.
+ * Unchanged classes which use added, modified or removed classes decompiled again,
+ * code for other unchanged classes copied from base output.
+ * Base must be saved with same options: hash of code options ({@link #CODE_ARGS_FILE}) compared
+ * and all classes decompiled on mismatch.
+ * Changes manifest written into output dir.
+ */
+public class IncrementalSave {
+	private static final Logger LOG = LoggerFactory.getLogger(IncrementalSave.class);
+
+	public static final String MANIFEST_FILE = "changes.json";
+
+	/**
+	 * Hash of options used for code generation ({@link JadxArgs#makeCodeArgsHash(JadxDecompiler)}),
+	 * saved in output dir (parent of sources dir)
+	 */
+	public static final String CODE_ARGS_FILE = ".jadx-code-args";
+
+	private static final Gson GSON = new GsonBuilder()
+			.setPrettyPrinting()
+			.setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_DASHES)
+			.disableHtmlEscaping()
+			.create();
+
+	private final JadxDecompiler jadx;
+	private final File baseSrcDir;
+
+	/**
+	 * @param jadx       loaded decompiler for current version
+	 * @param baseSrcDir sources dir with base version output
+	 */
+	public IncrementalSave(JadxDecompiler jadx, File baseSrcDir) {
+		this.jadx = jadx;
+		this.baseSrcDir = baseSrcDir;
+	}
+
+	/**
+	 * @param base       loaded decompiler for base version
+	 * @param saveAction save sources using current class filter, usually {@link JadxDecompiler#save()}
+	 */
+	public ChangesManifest process(JadxDecompiler base, Runnable saveAction) {
+		long start = System.currentTimeMillis();
+		Map<String, ClassSnapshot> baseClasses = ClassSnapshot.collect(base.getRoot());
+		Map<String, ClassSnapshot> curClasses = ClassSnapshot.collect(jadx.getRoot());
+
+		ChangesManifest manifest = new ChangesManifest();
+		manifest.setBaseInput(base.getArgs().getInputFiles().stream()
+				.map(File::getPath)
+				.collect(Collectors.joining(", ")));
+		String fileExt = SaveCode.getFileExtension(jadx.getRoot());
+		File srcDir = jadx.getArgs().getOutDirSrc();
+		Set<String> processSet = new HashSet<>();
+		List<ClassSnapshot> unchangedList = new ArrayList<>();
+		for (ClassSnapshot cls : curClasses.values()) {
+			ClassSnapshot baseCls = baseClasses.get(cls.getRawName());
+			if (baseCls == null) {
+				manifest.getAdded().add(cls.getRawName());
+				processSet.add(cls.getFullName());
+			} else if (!cls.isSameContent(baseCls)) {
+				manifest.getModified().add(compareMethods(baseCls, cls));
+				processSet.add(cls.getFullName());
+			} else {
+				unchangedList.add(cls);
+			}
+		}
+		for (String baseClsName : baseClasses.keySet()) {
+			if (!curClasses.containsKey(baseClsName)) {
+				manifest.getRemoved().add(baseClsName);
+			}
+		}
+		manifest.setUnchanged(unchangedList.size());
+		Collections.sort(manifest.getAdded());
+		Collections.sort(manifest.getRemoved());
+		manifest.getModified().sort(Comparator.comparing(ChangesManifest.ModifiedClass::getName));
+
+		Set<String> dependents = collectDependents(base, manifest);
+		boolean sameArgs = checkCodeArgs();
+		List<Path[]> copyList = new ArrayList<>();
+		for (ClassSnapshot cls : unchangedList) {
+			if (dependents.contains(cls.getRawName())) {
+				manifest.getDependent().add(cls.getRawName());
+				processSet.add(cls.getFullName());
+				continue;
+			}
+			Path baseFile = new File(baseSrcDir, baseClasses.get(cls.getRawName()).getAliasPath() + fileExt).toPath();
+			if (sameArgs && Files.isRegularFile(baseFile)) {
+				copyList.add(new Path[] { baseFile, new File(srcDir, cls.getAliasPath() + fileExt).toPath() });
+			} else {
+				// not saved in base output (filtered or failed) or saved with other options, decompile again
+				processSet.add(cls.getFullName());
+			}
+		}
+		Collections.sort(manifest.getDependent());
+		LOG.info("Changes from base: {}, classes to decompile: {}", manifest, processSet.size());
+
+		JadxArgs args = jadx.getArgs();
+		Predicate<String> prevFilter = args.getClassFilter();
+		args.setClassFilter(name -> processSet.contains(name) && (prevFilter == null || prevFilter.test(name)));
+		try {
+			saveAction.run();
+		} finally {
+			args.setClassFilter(prevFilter);
+		}
+		manifest.setReused(copyFiles(copyList));
+		saveManifest(manifest);
+		saveCodeArgs(jadx);
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Incremental save done in {}ms", System.currentTimeMillis() - start);
+		}
+		return manifest;
+	}
+
+	/**
+	 * Raw names of top level classes which use added, modified or removed classes (in current or base version)
+	 */
+	private Set<String> collectDependents(JadxDecompiler base, ChangesManifest manifest) {
+		Set<String> changed = new HashSet<>(manifest.getAdded());
+		changed.addAll(manifest.getRemoved());
+		for (ChangesManifest.ModifiedClass modifiedCls : manifest.getModified()) {
+			changed.add(modifiedCls.getName());
+		}
+		Set<String> dependents = new HashSet<>();
+		addUsages(jadx.getRoot(), changed, dependents);
+		addUsages(base.getRoot(), changed, dependents);
+		dependents.removeAll(changed);
+		return dependents;
+	}
+
+	private static void addUsages(RootNode root, Set<String> changed, Set<String> dependents) {
+		for (ClassNode cls : root.getClasses()) {
+			if (!cls.isInner() && changed.contains(cls.getRawName())) {
+				addUsages(cls, dependents);
+			}
+		}
+	}
+
+	private static void addUsages(ClassNode cls, Set<String> dependents) {
+		for (ClassNode useCls : cls.getUseIn()) {
+			dependents.add(useCls.getTopParentClass().getRawName());
+		}
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			addUsages(innerCls, dependents);
+		}
+	}
+
+	/**
+	 * Compare code options hash with one saved for base output
+	 */
+	private boolean checkCodeArgs() {
+		String argsHash = jadx.getArgs().makeCodeArgsHash(jadx);
+		File parentDir = baseSrcDir.getAbsoluteFile().getParentFile();
+		for (File dir : new File[] { baseSrcDir, parentDir }) {
+			if (dir == null) {
+				continue;
+			}
+			Path argsFile = new File(dir, CODE_ARGS_FILE).toPath();
+			if (Files.isRegularFile(argsFile)) {
+				try {
+					if (argsHash.equals(FileUtils.readFile(argsFile).trim())) {
+						return true;
+					}
+					LOG.warn("Base output saved with different code options, all classes will be decompiled");
+					return false;
+				} catch (Exception e) {
+					LOG.warn("Failed to read code options hash: {}", argsFile, e);
+					return false;
+				}
+			}
+		}
+		LOG.warn("Code options hash not found for base output, all classes will be decompiled");
+		return false;
+	}
+
+	/**
+	 * Save code options hash into output dir, to allow later use of output as incremental base
+	 */
+	public static void saveCodeArgs(JadxDecompiler jadx) {
+		JadxArgs args = jadx.getArgs();
+		Path argsFile = new File(args.getOutDir(), CODE_ARGS_FILE).toPath();
+		try {
+			FileUtils.writeFile(argsFile, args.makeCodeArgsHash(jadx));
+		} catch (Exception e) {
+			LOG.warn("Failed to save code options hash: {}", argsFile, e);
+		}
+	}
+
+	private static ChangesManifest.ModifiedClass compareMethods(ClassSnapshot baseCls, ClassSnapshot cls) {
+		ChangesManifest.ModifiedClass modifiedCls = new ChangesManifest.ModifiedClass(cls.getRawName());
+		Map<String, String> baseMethods = baseCls.getMethods();
+		Map<String, String> methods = cls.getMethods();
+		for (Map.Entry<String, String> entry : methods.entrySet()) {
+			String mthId = entry.getKey();
+			if (!baseMethods.containsKey(mthId)) {
+				modifiedCls.getAddedMethods().add(mthId);
+			} else {
+				String mthHash = entry.getValue();
+				if (mthHash == null || !Objects.equals(mthHash, baseMethods.get(mthId))) {
+					modifiedCls.getModifiedMethods().add(mthId);
+				}
+			}
+		}
+		for (String baseMthId : baseMethods.keySet()) {
+			if (!methods.containsKey(baseMthId)) {
+				modifiedCls.getRemovedMethods().add(baseMthId);
+			}
+		}
+		return modifiedCls;
+	}
+
+	private static int copyFiles(List<Path[]> copyList) {
+		int count = 0;
+		for (Path[] pair : copyList) {
+			Path target = pair[1];
+			try {
+				FileUtils.makeDirsForFile(target);
+				Files.copy(pair[0], target, StandardCopyOption.REPLACE_EXISTING);
+				count++;
+			} catch (Exception e) {
+				LOG.error("Failed to copy unchanged class code from: {}", pair[0], e);
+			}
+		}
+		return count;
+	}
+
+	private void saveManifest(ChangesManifest manifest) {
+		File outDir = jadx.getArgs().getOutDir();
+		Path manifestFile = new File(outDir, MANIFEST_FILE).toPath();
+		FileUtils.makeDirsForFile(manifestFile);
+		try (Writer writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+			GSON.toJson(manifest, writer);
+			LOG.info("Changes manifest saved to {}", manifestFile.toAbsolutePath());
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to save changes manifest", e);
+		}
+	}
+}
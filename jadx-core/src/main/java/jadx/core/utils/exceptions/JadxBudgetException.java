@@ -0,0 +1,13 @@
+package jadx.core.utils.exceptions;
+
+/**
+ * Method processing stopped because of exceeded budget (time or size limit)
+ */
+public class JadxBudgetException extends JadxOverflowException {
+
+	private static final long serialVersionUID = -4185367325097842175L;
+
+	public JadxBudgetException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,199 @@
+package jadx.core.utils.files;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.ICodeInfo;
+import jadx.api.JadxArgs;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.visitors.SaveCode;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.tasks.TaskExecutor;
+import jadx.core.utils.tasks.VirtualThreads;
+
+/**
+ * Write generated code in separate I/O threads.
+ * <br>
+ * Decompilation threads put code into bounded queue and blocked if too much code waiting for write,
+ * so memory usage not depends on file system speed.
+ * Sources can be saved into directory or into single zip archive (written by one thread).
+ * Directory writes use virtual threads if enabled by {@link JadxArgs#isUseVirtualThreads()}.
+ * Archive opened on first write and closed by {@link #close()},
+ * which should be called even if decompilation terminated or failed.
+ */
+public class SourcesWriter implements Closeable {
+	private static final Logger LOG = LoggerFactory.getLogger(SourcesWriter.class);
+
+	/**
+	 * Max total length of code strings waiting for write
+	 */
+	private static final int IN_FLIGHT_CHARS_LIMIT = 32 * 1024 * 1024;
+
+	private static final byte[] NEW_LINE = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+	private final File outDir;
+	private final @Nullable File archive;
+	private @Nullable ZipOutputStream zipOut;
+	private boolean archiveFailed;
+	private final ExecutorService ioExecutor;
+	private final @Nullable Semaphore runningWrites;
+	private final Semaphore inFlight = new Semaphore(IN_FLIGHT_CHARS_LIMIT);
+	private final AtomicInteger savedCount = new AtomicInteger();
+
+	public SourcesWriter(JadxArgs args, File outDir) {
+		this.outDir = outDir;
+		this.archive = args.getOutSrcArchive();
+		ExecutorService vtExecutor = archive == null && args.isUseVirtualThreads() ? VirtualThreads.newExecutor() : null;
+		if (vtExecutor != null) {
+			this.ioExecutor = vtExecutor;
+			this.runningWrites = new Semaphore(VirtualThreads.MAX_IO_TASKS);
+			return;
+		}
+		this.runningWrites = null;
+		int ioThreads = archive == null ? args.getIoThreadsCount() : 1;
+		AtomicInteger threadNum = new AtomicInteger();
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(ioThreads, ioThreads,
+				10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+					Thread thread = new Thread(r, "jadx-io-" + threadNum.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		// release threads if close not called (decompilation terminated)
+		pool.allowCoreThreadTimeOut(true);
+		this.ioExecutor = pool;
+	}
+
+	/**
+	 * Schedule class code write.
+	 * Blocks current thread if too much code waiting in queue.
+	 */
+	public void save(ClassNode cls, ICodeInfo code) {
+		String fileName = SaveCode.getSaveFileName(cls, code);
+		if (fileName == null) {
+			return;
+		}
+		String codeStr = code.getCodeStr();
+		int permits = Math.min(codeStr.length(), IN_FLIGHT_CHARS_LIMIT);
+		try {
+			inFlight.acquire(permits);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JadxRuntimeException("Interrupted while waiting for sources write", e);
+		}
+		try {
+			ioExecutor.execute(() -> {
+				try {
+					write(fileName, codeStr);
+				} finally {
+					inFlight.release(permits);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			inFlight.release(permits);
+			throw new JadxRuntimeException("Sources writer already closed", e);
+		}
+	}
+
+	private void write(String fileName, String code) {
+		if (archive == null) {
+			saveFile(fileName, code);
+		} else {
+			ZipOutputStream zip = getArchive();
+			if (zip == null) {
+				return;
+			}
+			// file name built with system separator, zip entries always use '/'
+			String entryName = fileName.replace(File.separatorChar, '/');
+			try {
+				zip.putNextEntry(new ZipEntry(entryName));
+				zip.write(code.getBytes(StandardCharsets.UTF_8));
+				zip.write(NEW_LINE);
+				zip.closeEntry();
+			} catch (Exception e) {
+				LOG.error("Failed to write archive entry: {}", entryName, e);
+				return;
+			}
+		}
+		savedCount.incrementAndGet();
+	}
+
+	private void saveFile(String fileName, String code) {
+		Semaphore running = runningWrites;
+		if (running == null) {
+			SaveCode.save(code, new File(outDir, fileName));
+			return;
+		}
+		running.acquireUninterruptibly();
+		try {
+			SaveCode.save(code, new File(outDir, fileName));
+		} finally {
+			running.release();
+		}
+	}
+
+	/**
+	 * Archive written only by one I/O thread, so no synchronization needed
+	 */
+	private @Nullable ZipOutputStream getArchive() {
+		ZipOutputStream zip = zipOut;
+		if (zip == null && !archiveFailed && archive != null) {
+			try {
+				zip = openArchive(archive);
+				zipOut = zip;
+			} catch (Exception e) {
+				archiveFailed = true;
+				LOG.error("Failed to create sources archive: {}", archive, e);
+			}
+		}
+		return zip;
+	}
+
+	public int getSavedCount() {
+		return savedCount.get();
+	}
+
+	/**
+	 * Wait for all scheduled writes and close archive
+	 */
+	@Override
+	public void close() {
+		try {
+			ioExecutor.shutdown();
+			TaskExecutor.awaitExecutorTermination(ioExecutor);
+		} finally {
+			ZipOutputStream zip = zipOut;
+			if (zip != null) {
+				zipOut = null;
+				try {
+					zip.close();
+				} catch (IOException e) {
+					LOG.error("Failed to close sources archive: {}", archive, e);
+				}
+			}
+		}
+	}
+
+	private static ZipOutputStream openArchive(File archive) throws IOException {
+		FileUtils.makeDirsForFile(archive.toPath());
+		OutputStream out = new BufferedOutputStream(Files.newOutputStream(archive.toPath()), 64 * 1024);
+		return new ZipOutputStream(out);
+	}
+}
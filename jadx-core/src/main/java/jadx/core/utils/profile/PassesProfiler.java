@@ -0,0 +1,216 @@
+package jadx.core.utils.profile;
+
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.visitors.IDexTreeVisitor;
+import jadx.core.utils.exceptions.JadxException;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Collect time and allocations of decompilation passes per pass, top level class and method.
+ * <br>
+ * Created only if profiling enabled in args, see {@link jadx.core.dex.visitors.DepthTraversal}.
+ */
+public class PassesProfiler {
+	private static final Logger LOG = LoggerFactory.getLogger(PassesProfiler.class);
+
+	private static final Gson GSON = new GsonBuilder()
+			.setPrettyPrinting()
+			.setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+			.disableHtmlEscaping()
+			.create();
+
+	private final Map<String, ProfileStats> passes = new ConcurrentHashMap<>();
+	private final Map<String, ProfileStats> classes = new ConcurrentHashMap<>();
+	private final Map<String, ProfileStats> methods = new ConcurrentHashMap<>();
+
+	private final @Nullable com.sun.management.ThreadMXBean threadBean;
+
+	public PassesProfiler() {
+		this.threadBean = initThreadBean();
+	}
+
+	public boolean visit(IDexTreeVisitor visitor, ClassNode cls) throws JadxException {
+		long allocStart = getAllocatedBytes();
+		long start = System.nanoTime();
+		try {
+			return visitor.visit(cls);
+		} finally {
+			long time = System.nanoTime() - start;
+			long alloc = getAllocatedBytes() - allocStart;
+			getStats(passes, visitor.getName()).add(time, alloc);
+			getStats(classes, cls.getTopParentClass().getRawName()).add(time, alloc);
+		}
+	}
+
+	public void visit(IDexTreeVisitor visitor, MethodNode mth) throws JadxException {
+		long allocStart = getAllocatedBytes();
+		long start = System.nanoTime();
+		try {
+			visitor.visit(mth);
+		} finally {
+			long time = System.nanoTime() - start;
+			long alloc = getAllocatedBytes() - allocStart;
+			getStats(passes, visitor.getName()).add(time, alloc);
+			getStats(classes, mth.getParentClass().getTopParentClass().getRawName()).add(time, alloc);
+			getStats(methods, mth.getMethodInfo().getRawFullId()).add(time, alloc);
+		}
+	}
+
+	private static ProfileStats getStats(Map<String, ProfileStats> map, String name) {
+		ProfileStats stats = map.get(name);
+		if (stats != null) {
+			return stats;
+		}
+		return map.computeIfAbsent(name, ProfileStats::new);
+	}
+
+	private long getAllocatedBytes() {
+		if (threadBean == null) {
+			return 0;
+		}
+		return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	public List<ProfileStats> getPasses() {
+		return sortByTime(passes.values(), Integer.MAX_VALUE);
+	}
+
+	public List<ProfileStats> getTopClasses(int count) {
+		return sortByTime(classes.values(), count);
+	}
+
+	public List<ProfileStats> getTopMethods(int count) {
+		return sortByTime(methods.values(), count);
+	}
+
+	private static List<ProfileStats> sortByTime(Collection<ProfileStats> stats, int limit) {
+		return stats.stream()
+				.sorted(Comparator.comparingLong(ProfileStats::getTimeNanos).reversed())
+				.limit(limit)
+				.collect(Collectors.toList());
+	}
+
+	public void reset() {
+		passes.clear();
+		classes.clear();
+		methods.clear();
+	}
+
+	/**
+	 * Save collected data, format selected by file extension: 'csv' or 'json' (default)
+	 *
+	 * @param topCount max classes and methods count to save in json, csv contains everything
+	 */
+	public void save(Path file, int topCount) {
+		FileUtils.makeDirsForFile(file);
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			if (file.getFileName().toString().toLowerCase().endsWith(".csv")) {
+				writeCsv(writer);
+			} else {
+				GSON.toJson(new Report(this, topCount), writer);
+			}
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to save passes profile to " + file, e);
+		}
+		LOG.info("Passes profile saved to {}", file.toAbsolutePath());
+	}
+
+	private void writeCsv(Writer writer) throws Exception {
+		writer.write("kind,name,count,time_ms,alloc_bytes\n");
+		writeCsvRows(writer, "pass", getPasses());
+		writeCsvRows(writer, "class", getTopClasses(Integer.MAX_VALUE));
+		writeCsvRows(writer, "method", getTopMethods(Integer.MAX_VALUE));
+	}
+
+	private static void writeCsvRows(Writer writer, String kind, List<ProfileStats> list) throws Exception {
+		for (ProfileStats stats : list) {
+			writer.write(kind);
+			writer.write(',');
+			writer.write('"' + stats.getName().replace("\"", "\"\"") + '"');
+			writer.write(',');
+			writer.write(Long.toString(stats.getCount()));
+			writer.write(',');
+			writer.write(Double.toString(stats.getTimeNanos() / 1_000_000.0));
+			writer.write(',');
+			writer.write(Long.toString(stats.getAllocBytes()));
+			writer.write('\n');
+		}
+	}
+
+	@Nullable
+	private static com.sun.management.ThreadMXBean initThreadBean() {
+		try {
+			java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			if (bean instanceof com.sun.management.ThreadMXBean) {
+				com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+				if (sunBean.isThreadAllocatedMemorySupported()) {
+					sunBean.setThreadAllocatedMemoryEnabled(true);
+					return sunBean;
+				}
+			}
+		} catch (Throwable e) {
+			LOG.debug("Thread allocated memory not available", e);
+		}
+		LOG.warn("Allocated memory tracking not supported, only time will be collected");
+		return null;
+	}
+
+	@SuppressWarnings({ "unused", "FieldCanBeLocal" })
+	private static final class Report {
+		private final List<Entry> passes;
+		private final List<Entry> topClasses;
+		private final List<Entry> topMethods;
+
+		private Report(PassesProfiler profiler, int topCount) {
+			this.passes = toEntries(profiler.getPasses());
+			this.topClasses = toEntries(profiler.getTopClasses(topCount));
+			this.topMethods = toEntries(profiler.getTopMethods(topCount));
+		}
+
+		private static List<Entry> toEntries(List<ProfileStats> list) {
+			List<Entry> entries = new ArrayList<>(list.size());
+			for (ProfileStats stats : list) {
+				entries.add(new Entry(stats));
+			}
+			return entries;
+		}
+	}
+
+	@SuppressWarnings({ "unused", "FieldCanBeLocal" })
+	private static final class Entry {
+		private final String name;
+		private final long count;
+		private final double timeMs;
+		private final long allocBytes;
+
+		private Entry(ProfileStats stats) {
+			this.name = stats.getName();
+			this.count = stats.getCount();
+			this.timeMs = stats.getTimeNanos() / 1_000_000.0;
+			this.allocBytes = stats.getAllocBytes();
+		}
+	}
+}
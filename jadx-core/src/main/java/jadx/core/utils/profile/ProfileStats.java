@@ -0,0 +1,48 @@
+package jadx.core.utils.profile;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulated invocations count, time and allocations for one profiled item
+ */
+public final class ProfileStats {
+	private final String name;
+	private final LongAdder count = new LongAdder();
+	private final LongAdder time = new LongAdder();
+	private final LongAdder alloc = new LongAdder();
+
+	public ProfileStats(String name) {
+		this.name = name;
+	}
+
+	void add(long timeNanos, long allocBytes) {
+		count.increment();
+		time.add(timeNanos);
+		if (allocBytes > 0) {
+			alloc.add(allocBytes);
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getTimeNanos() {
+		return time.sum();
+	}
+
+	public long getAllocBytes() {
+		return alloc.sum();
+	}
+
+	@Override
+	public String toString() {
+		return name + ": count=" + getCount()
+				+ ", time=" + getTimeNanos() / 1_000_000 + "ms"
+				+ ", alloc=" + getAllocBytes() / 1024 + "KB";
+	}
+}
@@ -0,0 +1,67 @@
+package jadx.core.utils.tasks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+import jadx.core.utils.Utils;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Run action for every index in [0, count) using temporary fixed threads pool.
+ * Workers take next index from shared counter, so uneven items are balanced between threads.
+ */
+public class ParallelIndexRunner {
+
+	private ParallelIndexRunner() {
+	}
+
+	/**
+	 * @param name   used in error messages
+	 * @param action should handle own errors, first unhandled error stops processing and rethrown
+	 */
+	public static void run(String name, int threads, int count, IntConsumer action) {
+		if (threads <= 1) {
+			for (int i = 0; i < count; i++) {
+				action.accept(i);
+				Utils.checkThreadInterrupt();
+			}
+			return;
+		}
+		AtomicInteger next = new AtomicInteger();
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		for (int t = 0; t < threads; t++) {
+			executor.execute(() -> {
+				try {
+					int i;
+					while ((i = next.getAndIncrement()) < count) {
+						if (Thread.currentThread().isInterrupted() || error.get() != null) {
+							return;
+						}
+						action.accept(i);
+					}
+				} catch (Throwable e) {
+					error.compareAndSet(null, e);
+				}
+			});
+		}
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(1, TimeUnit.DAYS)) {
+				throw new JadxRuntimeException(name + " timeout");
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+			throw new JadxRuntimeException(name + " interrupted", e);
+		}
+		Throwable e = error.get();
+		if (e != null) {
+			throw new JadxRuntimeException(name + " failed", e);
+		}
+	}
+}
@@ -5,20 +5,25 @@
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jadx.api.JadxArgs;
 import jadx.api.utils.tasks.ITaskExecutor;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
 public class TaskExecutor implements ITaskExecutor {
+	private static final Logger LOG = LoggerFactory.getLogger(TaskExecutor.class);
 
 	private enum ExecType {
 		PARALLEL,
+		PARALLEL_IO,
 		SEQUENTIAL,
 	}
 
@@ -41,11 +46,15 @@ public List<? extends Runnable> getTasks() {
 	}
 
 	private final List<ExecStage> stages = new ArrayList<>();
+	private final List<Runnable> finalTasks = new ArrayList<>();
 	private final AtomicInteger threadsCount = new AtomicInteger(JadxArgs.DEFAULT_THREADS_COUNT);
 	private final AtomicInteger progress = new AtomicInteger(0);
 	private final AtomicBoolean running = new AtomicBoolean(false);
 	private final AtomicBoolean terminating = new AtomicBoolean(false);
 	private int tasksCount = 0;
+	private boolean useVirtualThreads = false;
+	private boolean collectTimeStats = false;
+	private final List<TasksTimeStats> timeStats = new ArrayList<>();
 	private @Nullable ExecutorService executor;
 
 	@Override
@@ -57,6 +66,15 @@ public void addParallelTasks(List<? extends Runnable> parallelTasks) {
 		stages.add(new ExecStage(ExecType.PARALLEL, parallelTasks));
 	}
 
+	@Override
+	public void addParallelIoTasks(List<? extends Runnable> parallelTasks) {
+		if (parallelTasks.isEmpty()) {
+			return;
+		}
+		tasksCount += parallelTasks.size();
+		stages.add(new ExecStage(ExecType.PARALLEL_IO, parallelTasks));
+	}
+
 	@Override
 	public void addSequentialTasks(List<? extends Runnable> seqTasks) {
 		if (seqTasks.isEmpty()) {
@@ -71,6 +89,11 @@ public void addSequentialTask(Runnable seqTask) {
 		addSequentialTasks(Collections.singletonList(seqTask));
 	}
 
+	@Override
+	public void addFinalTask(Runnable task) {
+		finalTasks.add(task);
+	}
+
 	@Override
 	public int getThreadsCount() {
 		return threadsCount.get();
@@ -81,6 +104,31 @@ public void setThreadsCount(int count) {
 		threadsCount.set(count);
 	}
 
+	/**
+	 * Run I/O stages on virtual threads (JDK 21+), ignored if not supported
+	 */
+	public void setUseVirtualThreads(boolean useVirtualThreads) {
+		if (useVirtualThreads && !VirtualThreads.isSupported()) {
+			LOG.warn("Virtual threads not supported by current JVM (require Java 21+), option ignored");
+		}
+		this.useVirtualThreads = useVirtualThreads;
+	}
+
+	/**
+	 * Collect tasks time stats for parallel stages and print them at info level
+	 * (without this option stats collected only if debug log enabled)
+	 */
+	public void setCollectTimeStats(boolean collectTimeStats) {
+		this.collectTimeStats = collectTimeStats;
+	}
+
+	/**
+	 * Time stats of executed parallel stages (in execution order), available after termination
+	 */
+	public List<TasksTimeStats> getTimeStats() {
+		return timeStats;
+	}
+
 	@Override
 	public int getTasksCount() {
 		return tasksCount;
@@ -99,6 +147,7 @@ public void execute() {
 		running.set(true);
 		progress.set(0);
 		terminating.set(false);
+		timeStats.clear();
 		executor = Executors.newFixedThreadPool(1);
 		executor.execute(this::runStages);
 		executor.shutdown();
@@ -137,28 +186,99 @@ private void runStages() {
 		try {
 			for (ExecStage stage : stages) {
 				int threads = Math.min(stage.getTasks().size(), threadsCount.get());
-				if (stage.getType() == ExecType.SEQUENTIAL || threads == 1) {
+				if (stage.getType() == ExecType.PARALLEL_IO && useVirtualThreads && VirtualThreads.isSupported()) {
+					runOnVirtualThreads(stage.getTasks());
+				} else if (stage.getType() == ExecType.SEQUENTIAL || threads == 1) {
 					for (Runnable task : stage.getTasks()) {
 						wrapTask(task);
 					}
 				} else {
-					ExecutorService parallelExecutor = Executors.newFixedThreadPool(threads);
-					for (Runnable task : stage.getTasks()) {
-						parallelExecutor.execute(() -> wrapTask(task));
-					}
-					parallelExecutor.shutdown();
-					awaitExecutorTermination(parallelExecutor);
+					runParallel(stage.getTasks(), threads);
 				}
 				if (terminating.get()) {
 					break;
 				}
 			}
 		} finally {
+			runFinalTasks();
 			running.set(false);
 			executor = null;
 		}
 	}
 
+	/**
+	 * Use work stealing pool: tasks taken in submit order,
+	 * so scheduler can put the most expensive tasks first to shorten stage tail.
+	 * Big classes processing fork methods tasks into same pool (see {@link jadx.core.ProcessClass}).
+	 */
+	private void runParallel(List<? extends Runnable> tasks, int threads) {
+		TasksTimeStats stats = collectTimeStats || LOG.isDebugEnabled() ? new TasksTimeStats(tasks.size()) : null;
+		ExecutorService parallelExecutor = Executors.newWorkStealingPool(threads);
+		for (Runnable task : tasks) {
+			if (stats == null) {
+				parallelExecutor.execute(() -> wrapTask(task));
+			} else {
+				parallelExecutor.execute(() -> {
+					long start = System.nanoTime();
+					wrapTask(task);
+					stats.add(start, System.nanoTime());
+				});
+			}
+		}
+		parallelExecutor.shutdown();
+		awaitExecutorTermination(parallelExecutor);
+		if (stats != null) {
+			timeStats.add(stats);
+			if (collectTimeStats) {
+				LOG.info("Parallel stage time stats: {}", stats);
+			} else {
+				LOG.debug("Parallel stage time stats: {}", stats);
+			}
+		}
+	}
+
+	/**
+	 * Start virtual thread for each task, concurrency limited to not open too many files at once
+	 */
+	private void runOnVirtualThreads(List<? extends Runnable> tasks) {
+		ExecutorService vtExecutor = VirtualThreads.newExecutor();
+		if (vtExecutor == null) {
+			runParallel(tasks, Math.min(tasks.size(), threadsCount.get()));
+			return;
+		}
+		Semaphore running = new Semaphore(VirtualThreads.MAX_IO_TASKS);
+		try {
+			for (Runnable task : tasks) {
+				if (terminating.get()) {
+					break;
+				}
+				running.acquire();
+				vtExecutor.execute(() -> {
+					try {
+						wrapTask(task);
+					} finally {
+						running.release();
+					}
+				});
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			vtExecutor.shutdown();
+			awaitExecutorTermination(vtExecutor);
+		}
+	}
+
+	private void runFinalTasks() {
+		for (Runnable task : finalTasks) {
+			try {
+				task.run();
+			} catch (Throwable e) {
+				LOG.error("Final task failed", e);
+			}
+		}
+	}
+
 	private void wrapTask(Runnable task) {
 		if (terminating.get()) {
 			return;
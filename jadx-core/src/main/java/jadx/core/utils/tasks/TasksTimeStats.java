@@ -0,0 +1,102 @@
+package jadx.core.utils.tasks;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Execution time stats for tasks of one parallel stage.
+ * <br>
+ * Tail is a time between first worker thread become idle (no more tasks to take) and stage finish,
+ * long tail means bad tasks distribution between threads.
+ */
+public class TasksTimeStats {
+	private final long startTime = System.nanoTime();
+	private final long[] durations;
+	private final AtomicInteger count = new AtomicInteger();
+	private final Map<Long, Long> lastEndByThread = new ConcurrentHashMap<>();
+
+	public TasksTimeStats(int tasksCount) {
+		this.durations = new long[tasksCount];
+	}
+
+	public void add(long taskStart, long taskEnd) {
+		int idx = count.getAndIncrement();
+		if (idx < durations.length) {
+			durations[idx] = taskEnd - taskStart;
+		}
+		lastEndByThread.put(Thread.currentThread().getId(), taskEnd);
+	}
+
+	public int getTasksCount() {
+		return Math.min(count.get(), durations.length);
+	}
+
+	/**
+	 * Task duration percentile in nanoseconds (zero if no tasks)
+	 */
+	public long getPercentile(int percent) {
+		long[] sorted = sortedDurations();
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int idx = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, idx)];
+	}
+
+	public long getMax() {
+		return getPercentile(100);
+	}
+
+	/**
+	 * Time in nanoseconds from first worker thread become idle to stage finish
+	 */
+	public long getTail() {
+		long firstIdle = Long.MAX_VALUE;
+		long lastEnd = Long.MIN_VALUE;
+		for (long end : lastEndByThread.values()) {
+			firstIdle = Math.min(firstIdle, end);
+			lastEnd = Math.max(lastEnd, end);
+		}
+		return lastEndByThread.isEmpty() ? 0 : lastEnd - firstIdle;
+	}
+
+	/**
+	 * Time in nanoseconds from stage start to last task finish
+	 */
+	public long getWall() {
+		long lastEnd = startTime;
+		for (long end : lastEndByThread.values()) {
+			lastEnd = Math.max(lastEnd, end);
+		}
+		return lastEnd - startTime;
+	}
+
+	private long[] sortedDurations() {
+		long[] sorted = Arrays.copyOf(durations, getTasksCount());
+		Arrays.sort(sorted);
+		return sorted;
+	}
+
+	@Override
+	public String toString() {
+		int size = getTasksCount();
+		if (size == 0) {
+			return "no tasks";
+		}
+		return "tasks: " + size
+				+ ", threads: " + lastEndByThread.size()
+				+ ", wall: " + ms(getWall())
+				+ ", p50: " + ms(getPercentile(50))
+				+ ", p90: " + ms(getPercentile(90))
+				+ ", p99: " + ms(getPercentile(99))
+				+ ", max: " + ms(getMax())
+				+ ", tail: " + ms(getTail());
+	}
+
+	private static String ms(long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos) + "ms";
+	}
+}
@@ -0,0 +1,71 @@
+package jadx.core.utils.tasks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access to virtual threads executor (available since JDK 21) without compile time dependency.
+ */
+public class VirtualThreads {
+	private static final Logger LOG = LoggerFactory.getLogger(VirtualThreads.class);
+
+	/**
+	 * Max count of concurrently running I/O tasks on virtual threads (to not open too many files at once)
+	 */
+	public static final int MAX_IO_TASKS = 64;
+
+	private static final @Nullable Method NEW_EXECUTOR_METHOD = resolveExecutorMethod();
+
+	public static boolean isSupported() {
+		return NEW_EXECUTOR_METHOD != null;
+	}
+
+	/**
+	 * @return new executor which start virtual thread for each task or null if not supported
+	 */
+	@Nullable
+	public static ExecutorService newExecutor() {
+		if (NEW_EXECUTOR_METHOD == null) {
+			return null;
+		}
+		try {
+			return (ExecutorService) NEW_EXECUTOR_METHOD.invoke(null);
+		} catch (Exception e) {
+			LOG.warn("Failed to create virtual threads executor", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Executor for I/O bound tasks: virtual threads if requested and supported, or fixed pool
+	 */
+	public static ExecutorService newIoExecutor(boolean useVirtualThreads, int threadsCount) {
+		if (useVirtualThreads) {
+			ExecutorService executor = newExecutor();
+			if (executor != null) {
+				return executor;
+			}
+		}
+		return Executors.newFixedThreadPool(threadsCount);
+	}
+
+	@Nullable
+	private static Method resolveExecutorMethod() {
+		try {
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch (NoSuchMethodException e) {
+			return null;
+		} catch (Exception e) {
+			LOG.debug("Virtual threads lookup failed", e);
+			return null;
+		}
+	}
+
+	private VirtualThreads() {
+	}
+}
@@ -0,0 +1,76 @@
+package jadx.core;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.plugins.input.dex.gen.AbcCorpusGenerator;
+import jadx.plugins.input.dex.gen.AbcGenOptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Methods of big classes processed in parallel (see {@link ProcessClass}), result should be same as sequential
+ */
+class ParallelMethodsTest {
+
+	@TempDir
+	Path tmpDir;
+
+	@Test
+	public void sameOutput() throws Exception {
+		AbcGenOptions opts = new AbcGenOptions();
+		opts.setClassesCount(8);
+		opts.setMethodsPerClass(40);
+		opts.setInsnsPerMethod(30);
+		opts.setTryCatchRate(0.5);
+		Path abcFile = tmpDir.resolve("big-classes.abc");
+		new AbcCorpusGenerator(opts).writeTo(abcFile);
+
+		Path parallelOut = save(abcFile, "parallel", true);
+		Path sequentialOut = save(abcFile, "sequential", false);
+
+		List<Path> files = listFiles(parallelOut);
+		assertThat(files).hasSize(8);
+		assertThat(listFiles(sequentialOut)).isEqualTo(files);
+		for (Path file : files) {
+			assertThat(Files.readString(parallelOut.resolve(file)))
+					.as("Code of %s", file)
+					.isEqualTo(Files.readString(sequentialOut.resolve(file)));
+		}
+	}
+
+	private Path save(Path input, String name, boolean parallelMethods) {
+		Path outDir = tmpDir.resolve(name);
+		JadxArgs args = new JadxArgs();
+		args.setInputFile(input.toFile());
+		args.setOutDir(outDir.toFile());
+		args.setSkipResources(true);
+		args.setThreadsCount(4);
+		args.setParallelMethods(parallelMethods);
+		try (JadxDecompiler jadx = new JadxDecompiler(args)) {
+			jadx.load();
+			jadx.save();
+		}
+		return outDir.resolve("sources");
+	}
+
+	/**
+	 * Relative paths of all files in dir, sorted
+	 */
+	private static List<Path> listFiles(Path dir) throws Exception {
+		try (Stream<Path> files = Files.walk(dir)) {
+			return files.filter(Files::isRegularFile)
+					.map(dir::relativize)
+					.sorted()
+					.collect(Collectors.toList());
+		}
+	}
+}
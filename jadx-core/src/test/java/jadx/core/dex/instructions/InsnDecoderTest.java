@@ -0,0 +1,65 @@
+package jadx.core.dex.instructions;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.api.plugins.input.data.ICodeReader;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.InsnNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.plugins.input.dex.gen.AbcCorpusGenerator;
+import jadx.plugins.input.dex.gen.AbcGenOptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InsnDecoderTest {
+
+	@TempDir
+	Path tmpDir;
+
+	@Test
+	public void throwNotExistsWithoutOperands() throws Exception {
+		AbcGenOptions opts = new AbcGenOptions();
+		opts.setClassesCount(5);
+		opts.setMethodsPerClass(6);
+		opts.setClosureDepth(2);
+		opts.setThrowNotExists(true);
+		Path abcFile = tmpDir.resolve("throw.abc");
+		new AbcCorpusGenerator(opts).writeTo(abcFile);
+
+		JadxArgs args = new JadxArgs();
+		args.setInputFile(abcFile.toFile());
+		args.setThreadsCount(1);
+		args.setSkipResources(true);
+		Map<String, Integer> helpers = new TreeMap<>();
+		try (JadxDecompiler jadx = new JadxDecompiler(args)) {
+			jadx.load();
+			for (ClassNode cls : jadx.getRoot().getClasses()) {
+				for (MethodNode mth : cls.getMethods()) {
+					ICodeReader codeReader = mth.getCodeReader();
+					if (codeReader == null) {
+						continue;
+					}
+					for (InsnNode insn : new InsnDecoder(mth).process(codeReader)) {
+						if (insn instanceof InvokeNode) {
+							InvokeNode invoke = (InvokeNode) insn;
+							String name = invoke.getCallMth().getName();
+							if (name.startsWith("throw.")) {
+								assertThat(invoke.getArgsCount()).as("Args of %s", name).isZero();
+								helpers.merge(name, 1, Integer::sum);
+							}
+						}
+					}
+				}
+			}
+		}
+		// two top level functions (with closures chain) in every class
+		assertThat(helpers).isEqualTo(Map.of("throw.notexists", 5 * 2));
+	}
+}
@@ -0,0 +1,163 @@
+package jadx.core.dex.visitors.usage;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.api.usage.IUsageInfoVisitor;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.plugins.input.dex.gen.AbcCorpusGenerator;
+import jadx.plugins.input.dex.gen.AbcGenOptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UsageInfoUpdateTest {
+
+	@TempDir
+	Path tmpDir;
+
+	@Test
+	public void rescanChangedClass() throws Exception {
+		try (JadxDecompiler jadx = load()) {
+			RootNode root = jadx.getRoot();
+			UsageInfo usageInfo = getUsageInfo(root);
+			Map<String, String> fullData = collect(usageInfo);
+
+			// replace scanned data of one class as if it was collected from previous version without any usage
+			ClassNode changedCls = findClass(root, "module0000008");
+			ClassNode usedCls = findClass(root, "module0000007");
+			assertThat(usedCls.getUseIn()).contains(changedCls);
+			usageInfo.finishClass(usageInfo.startClass(changedCls));
+			usageInfo.build();
+			usageInfo.apply();
+			assertThat(collect(usageInfo)).isNotEqualTo(fullData);
+			assertThat(usedCls.getUseIn()).doesNotContain(changedCls);
+
+			assertThat(UsageInfoVisitor.updateUsageData(root, List.of(changedCls))).isTrue();
+			assertThat(collect(getUsageInfo(root))).isEqualTo(fullData);
+			// use lists of other class nodes also updated
+			assertThat(usedCls.getUseIn()).contains(changedCls);
+			for (MethodNode mth : usedCls.getMethods()) {
+				assertThat(mth.getUseIn().toString()).isEqualTo(fullData.getOrDefault("mth usage: " + mth, "[]"));
+			}
+		}
+	}
+
+	@Test
+	public void reloadClass() throws Exception {
+		try (JadxDecompiler jadx = load()) {
+			RootNode root = jadx.getRoot();
+			Map<String, String> fullData = collect(getUsageInfo(root));
+
+			ClassNode cls = root.getClasses().get(0);
+			cls.reloadCode();
+			assertThat(collect(getUsageInfo(root))).isEqualTo(fullData);
+			for (MethodNode mth : cls.getMethods()) {
+				// usage applied to new method nodes
+				assertThat(mth.getUseIn().toString()).isEqualTo(fullData.getOrDefault("mth usage: " + mth, "[]"));
+			}
+		}
+	}
+
+	@Test
+	public void concurrentUpdates() throws Exception {
+		try (JadxDecompiler jadx = load()) {
+			RootNode root = jadx.getRoot();
+			Map<String, String> fullData = collect(getUsageInfo(root));
+
+			List<ClassNode> classes = root.getClasses();
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<Boolean>> results = new ArrayList<>();
+				for (ClassNode cls : classes) {
+					results.add(executor.submit(() -> UsageInfoVisitor.updateUsageData(root, List.of(cls))));
+				}
+				for (Future<Boolean> result : results) {
+					assertThat(result.get()).isTrue();
+				}
+			} finally {
+				executor.shutdown();
+			}
+			assertThat(collect(getUsageInfo(root))).isEqualTo(fullData);
+		}
+	}
+
+	private JadxDecompiler load() throws Exception {
+		AbcGenOptions opts = new AbcGenOptions();
+		opts.setClassesCount(20);
+		opts.setMethodsPerClass(6);
+		opts.setInsnsPerMethod(20);
+		opts.setLinkedClasses(true);
+		Path abcFile = tmpDir.resolve("usage.abc");
+		new AbcCorpusGenerator(opts).writeTo(abcFile);
+
+		JadxArgs args = new JadxArgs();
+		args.setInputFile(abcFile.toFile());
+		args.setThreadsCount(1);
+		args.setSkipResources(true);
+		JadxDecompiler jadx = new JadxDecompiler(args);
+		jadx.load();
+		return jadx;
+	}
+
+	private static ClassNode findClass(RootNode root, String name) {
+		for (ClassNode cls : root.getClasses()) {
+			if (cls.getRawName().contains(name)) {
+				return cls;
+			}
+		}
+		throw new AssertionError("Class not found: " + name);
+	}
+
+	private static UsageInfo getUsageInfo(RootNode root) {
+		return (UsageInfo) root.getArgs().getUsageInfoCache().get(root);
+	}
+
+	private static Map<String, String> collect(UsageInfo usageInfo) {
+		Map<String, String> map = new TreeMap<>();
+		usageInfo.visitUsageData(new IUsageInfoVisitor() {
+			@Override
+			public void visitClassDeps(ClassNode cls, List<ClassNode> deps) {
+				map.put("deps: " + cls, deps.toString());
+			}
+
+			@Override
+			public void visitClassUsage(ClassNode cls, List<ClassNode> usage) {
+				map.put("cls usage: " + cls, usage.toString());
+			}
+
+			@Override
+			public void visitClassUseInMethods(ClassNode cls, List<MethodNode> methods) {
+				map.put("cls use in mth: " + cls, methods.toString());
+			}
+
+			@Override
+			public void visitFieldsUsage(FieldNode fld, List<MethodNode> methods) {
+				map.put("fld usage: " + fld, methods.toString());
+			}
+
+			@Override
+			public void visitMethodsUsage(MethodNode mth, List<MethodNode> methods) {
+				map.put("mth usage: " + mth, methods.toString());
+			}
+
+			@Override
+			public void visitComplete() {
+			}
+		});
+		return map;
+	}
+}
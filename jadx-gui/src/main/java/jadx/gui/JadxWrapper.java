@@ -49,6 +49,11 @@ public class JadxWrapper {
 
 	private static final Object DECOMPILER_UPDATE_SYNC = new Object();
 
+	/**
+	 * Methods reloaded often in GUI, so keep decoded instructions in memory
+	 */
+	private static final long DECODE_CACHE_MEM_LIMIT = 64 * 1024 * 1024;
+
 	private final MainWindow mainWindow;
 	private volatile @Nullable JadxDecompiler decompiler;
 	private CommonGuiPluginsContext guiPluginsContext;
@@ -64,6 +69,7 @@ public void open() {
 				JadxProject project = getProject();
 				JadxArgs jadxArgs = getSettings().toJadxArgs();
 				jadxArgs.setPluginLoader(new JadxExternalPluginsLoader());
+				jadxArgs.setDecodeCacheMemLimit(DECODE_CACHE_MEM_LIMIT);
 				project.fillJadxArgs(jadxArgs);
 
 				decompiler = new JadxDecompiler(jadxArgs);
@@ -91,6 +97,8 @@ public void close() {
 		try {
 			synchronized (DECOMPILER_UPDATE_SYNC) {
 				if (decompiler != null) {
+					LOG.debug("Decoded instructions cache stats: {}", decompiler.getRoot().getDecodedInsnsCache());
+					LOG.debug("Literals cache stats: {}", decompiler.getRoot().getAbcLiteralsCache());
 					decompiler.close();
 					decompiler = null;
 				}
@@ -11,7 +11,6 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
@@ -31,6 +30,7 @@
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 import jadx.core.utils.files.FileUtils;
+import jadx.core.utils.tasks.VirtualThreads;
 
 public class DiskCodeCache implements ICodeCache {
 	private static final Logger LOG = LoggerFactory.getLogger(DiskCodeCache.class);
@@ -53,7 +53,7 @@ public DiskCodeCache(RootNode root, Path projectCacheDir) {
 		codeVersionFile = baseDir.resolve("code-version");
 		JadxArgs args = root.getArgs();
 		codeVersion = buildCodeVersion(args, root.getDecompiler());
-		writePool = Executors.newFixedThreadPool(args.getThreadsCount());
+		writePool = VirtualThreads.newIoExecutor(args.isUseVirtualThreads(), args.getThreadsCount());
 		codeMetadataAdapter = new CodeMetadataAdapter(root);
 		clsDataMap = buildClassDataMap(root.getClasses());
 		if (checkCodeVersion()) {
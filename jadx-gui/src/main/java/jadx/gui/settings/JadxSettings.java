@@ -58,10 +58,11 @@ public class JadxSettings extends JadxCLIArgs {
 	private static final Font DEFAULT_FONT = new RSyntaxTextArea().getFont();
 
 	static final Set<String> SKIP_FIELDS = new HashSet<>(Arrays.asList(
-			"files", "input", "outDir", "outDirSrc", "outDirRes", "outputFormat",
+			"files", "input", "outDir", "outDirSrc", "outDirRes", "outSrcArchive", "outputFormat",
 			"deobfuscationMapFile",
 			"verbose", "quiet", "logLevel",
-			"printVersion", "printHelp"));
+			"printVersion", "printHelp",
+			"profilePasses", "profileTopCount"));
 
 	private Path lastSaveProjectPath = USER_HOME;
 	private Path lastOpenFilePath = USER_HOME;
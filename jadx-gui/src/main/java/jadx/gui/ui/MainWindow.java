@@ -128,6 +128,7 @@
 import jadx.gui.ui.dialog.ADBDialog;
 import jadx.gui.ui.dialog.AboutDialog;
 import jadx.gui.ui.dialog.LogViewerDialog;
+import jadx.gui.ui.dialog.PassesProfileDialog;
 import jadx.gui.ui.dialog.SearchDialog;
 import jadx.gui.ui.filedialog.FileDialogWrapper;
 import jadx.gui.ui.filedialog.FileOpenMode;
@@ -1084,6 +1085,8 @@ private void initMenuAndToolbar() {
 
 		JadxGuiAction showLogAction = new JadxGuiAction(ActionModel.SHOW_LOG,
 				() -> showLogViewer(LogOptions.current()));
+		JadxGuiAction passesProfileAction = new JadxGuiAction(ActionModel.PASSES_PROFILE,
+				() -> new PassesProfileDialog(MainWindow.this).setVisible(true));
 		JadxGuiAction aboutAction = new JadxGuiAction(ActionModel.ABOUT, () -> new AboutDialog().setVisible(true));
 		JadxGuiAction backAction = new JadxGuiAction(ActionModel.BACK, tabbedPane::navBack);
 		JadxGuiAction backVariantAction = new JadxGuiAction(ActionModel.BACK_V, tabbedPane::navBack);
@@ -1148,6 +1151,7 @@ private void initMenuAndToolbar() {
 		tools.add(deobfMenuItem);
 		tools.add(quarkAction);
 		tools.add(openDeviceAction);
+		tools.add(passesProfileAction);
 
 		JMenu help = new JadxMenu(NLS.str("menu.help"), shortcutsController);
 		help.setMnemonic(KeyEvent.VK_H);
@@ -1241,6 +1245,7 @@ public void actionPerformed(ActionEvent e) {
 			deobfAction.setEnabled(loaded);
 			quarkAction.setEnabled(loaded);
 			resetCacheAction.setEnabled(loaded);
+			passesProfileAction.setEnabled(loaded);
 			return false;
 		});
 	}
@@ -63,6 +63,8 @@ public enum ActionModel {
 			Shortcut.keyboard(KeyEvent.VK_D, UiUtils.ctrlButton() | KeyEvent.ALT_DOWN_MASK)),
 	SHOW_LOG(MENU_TOOLBAR, "menu.log", "menu.log", "ui/logVerbose",
 			Shortcut.keyboard(KeyEvent.VK_L, UiUtils.ctrlButton() | KeyEvent.SHIFT_DOWN_MASK)),
+	PASSES_PROFILE(MENU_TOOLBAR, "menu.passes_profile", "menu.passes_profile", null,
+			Shortcut.none()),
 	BACK(MENU_TOOLBAR, "nav.back", "nav.back", "ui/left",
 			Shortcut.keyboard(KeyEvent.VK_ESCAPE)),
 	BACK_V(MENU_TOOLBAR, "nav.back", "nav.back", "ui/left",
@@ -0,0 +1,132 @@
+package jadx.gui.ui.dialog;
+
+import java.awt.BorderLayout;
+import java.awt.Container;
+import java.awt.FlowLayout;
+import java.util.List;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTabbedPane;
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.core.utils.profile.PassesProfiler;
+import jadx.core.utils.profile.ProfileStats;
+import jadx.gui.ui.MainWindow;
+import jadx.gui.utils.NLS;
+import jadx.gui.utils.UiUtils;
+
+public class PassesProfileDialog extends JDialog {
+	private static final long serialVersionUID = 2931482215796340951L;
+
+	private static final int TOP_COUNT = 200;
+
+	private final transient MainWindow mainWindow;
+	private final DefaultTableModel passesModel = makeModel();
+	private final DefaultTableModel classesModel = makeModel();
+	private final DefaultTableModel methodsModel = makeModel();
+
+	public PassesProfileDialog(MainWindow mainWindow) {
+		super(mainWindow);
+		this.mainWindow = mainWindow;
+		initUI();
+		refresh();
+	}
+
+	private void initUI() {
+		Container contentPane = getContentPane();
+		if (getProfiler() == null) {
+			JLabel label = new JLabel(NLS.str("passes_profile.disabled"));
+			label.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+			contentPane.add(label, BorderLayout.CENTER);
+		} else {
+			JTabbedPane tabs = new JTabbedPane();
+			tabs.addTab(NLS.str("passes_profile.passes"), makeTable(passesModel));
+			tabs.addTab(NLS.str("passes_profile.methods"), makeTable(methodsModel));
+			tabs.addTab(NLS.str("passes_profile.classes"), makeTable(classesModel));
+			contentPane.add(tabs, BorderLayout.CENTER);
+		}
+
+		JButton refreshBtn = new JButton(NLS.str("passes_profile.refresh"));
+		refreshBtn.addActionListener(ev -> refresh());
+		refreshBtn.setEnabled(getProfiler() != null);
+		JButton closeBtn = new JButton(NLS.str("tabs.close"));
+		closeBtn.addActionListener(ev -> dispose());
+		JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+		buttons.add(refreshBtn);
+		buttons.add(closeBtn);
+		contentPane.add(buttons, BorderLayout.PAGE_END);
+
+		UiUtils.setWindowIcons(this);
+		setTitle(NLS.str("passes_profile.title"));
+		pack();
+		if (getProfiler() != null) {
+			setSize(900, 600);
+		}
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		setLocationRelativeTo(null);
+	}
+
+	private void refresh() {
+		PassesProfiler profiler = getProfiler();
+		if (profiler == null) {
+			return;
+		}
+		fillModel(passesModel, profiler.getPasses());
+		fillModel(classesModel, profiler.getTopClasses(TOP_COUNT));
+		fillModel(methodsModel, profiler.getTopMethods(TOP_COUNT));
+	}
+
+	private @Nullable PassesProfiler getProfiler() {
+		return mainWindow.getWrapper().getRootNode().getPassesProfiler();
+	}
+
+	private static DefaultTableModel makeModel() {
+		DefaultTableModel model = new DefaultTableModel() {
+			private static final long serialVersionUID = -6357206741836226593L;
+
+			@Override
+			public boolean isCellEditable(int row, int column) {
+				return false;
+			}
+
+			@Override
+			public Class<?> getColumnClass(int column) {
+				return column == 0 ? String.class : Long.class;
+			}
+		};
+		model.setColumnIdentifiers(new Object[] {
+				NLS.str("passes_profile.column.name"),
+				NLS.str("passes_profile.column.count"),
+				NLS.str("passes_profile.column.time"),
+				NLS.str("passes_profile.column.alloc")
+		});
+		return model;
+	}
+
+	private static void fillModel(DefaultTableModel model, List<ProfileStats> list) {
+		model.setRowCount(0);
+		for (ProfileStats stats : list) {
+			model.addRow(new Object[] {
+					stats.getName(),
+					stats.getCount(),
+					stats.getTimeNanos() / 1_000_000,
+					stats.getAllocBytes() / 1024
+			});
+		}
+	}
+
+	private static JScrollPane makeTable(DefaultTableModel model) {
+		JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		table.getColumnModel().getColumn(0).setPreferredWidth(500);
+		return new JScrollPane(table);
+	}
+}
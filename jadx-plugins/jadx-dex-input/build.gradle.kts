@@ -1,5 +1,6 @@
 plugins {
 	id("jadx-library")
+	id("java-test-fixtures")
 }
 
 dependencies {
@@ -16,4 +17,12 @@
 	testImplementation("com.android.tools.smali:smali:3.0.7") {
 		exclude(group = "com.beust", module = "jcommander") // exclude old jcommander namespace
 	}
+
+	// synthetic abc generator, shared with other modules tests and benchmarks
+	testFixturesImplementation("org.slf4j:slf4j-api:2.0.16")
 }
+
+// don't publish test fixtures
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
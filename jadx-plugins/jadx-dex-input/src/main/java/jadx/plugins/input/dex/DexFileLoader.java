@@ -1,15 +1,12 @@
 package jadx.plugins.input.dex;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
-import java.nio.channels.FileChannel;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -21,8 +18,8 @@
 
 import me.yricky.oh.abcd.AbcBuf;
 
-import jadx.api.plugins.utils.ZipSecurity;
 import jadx.plugins.input.dex.sections.DexConsts;
+import jadx.plugins.input.dex.utils.MappedBufferUtils;
 
 import static me.yricky.oh.common.MiscKt.wrapAsLEByteBuf;
 
@@ -33,9 +30,11 @@ public class DexFileLoader {
 	private static int dexUniqId = 1;
 
 	private final DexInputOptions options;
+	private final HapFileLoader hapFileLoader;
 
 	public DexFileLoader(DexInputOptions options) {
 		this.options = options;
+		this.hapFileLoader = new HapFileLoader(this);
 	}
 
 	public List<DexReader> collectDexFiles(List<Path> pathsList) {
@@ -49,56 +48,48 @@ public List<DexReader> collectDexFiles(List<Path> pathsList) {
 	}
 
 	private List<DexReader> loadDexFromFile(File file) {
-		try (InputStream inputStream = new FileInputStream(file)) {
-			return load(file, inputStream, file.getAbsolutePath());
+		try {
+			byte[] magic = readMagic(file);
+			if (magic == null) {
+				return Collections.emptyList();
+			}
+			if (isStartWithBytes(magic, DexConsts.ABC_FILE_MAGIC) || file.getName().endsWith(".abc")) {
+				return Collections.singletonList(loadAbcFile(file));
+			}
+			if (isStartWithBytes(magic, DexConsts.ZIP_FILE_MAGIC)) {
+				return hapFileLoader.load(file);
+			}
+			return Collections.emptyList();
 		} catch (Exception e) {
 			LOG.error("File open error: {}", file.getAbsolutePath(), e);
 			return Collections.emptyList();
 		}
 	}
 
-	private AbcBuf loadAbcFile(String fname) throws IOException {
-		File file = new File(fname);
-		MappedByteBuffer mmap = FileChannel.open(file.toPath()).map(FileChannel.MapMode.READ_ONLY, 0, file.length());
-		return new AbcBuf(file.getPath(), wrapAsLEByteBuf(mmap));
-	}
-
-	private List<DexReader> load(@Nullable File file, InputStream inputStream, String fileName) throws IOException {
-		try (InputStream in = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream)) {
-			byte[] magic = new byte[DexConsts.MAX_MAGIC_SIZE];
-			in.mark(magic.length);
-			if (in.read(magic) != magic.length) {
-				return Collections.emptyList();
-			}
-			if (isStartWithBytes(magic, DexConsts.ABC_FILE_MAGIC) || fileName.endsWith(".abc")) {
-				in.reset();
-				byte[] content = readAllBytes(in);
-				DexReader dexReader = loadDexReader(fileName, content);
-				dexReader.setAbc(loadAbcFile(fileName));
-				return Collections.singletonList(dexReader);
-			}
-			return Collections.emptyList();
+	/**
+	 * Map abc file into memory without copying it to heap.
+	 * Mapping released by GC after reader and loaded classes data become unreachable.
+	 */
+	private DexReader loadAbcFile(File file) throws IOException {
+		long start = System.currentTimeMillis();
+		MappedByteBuffer mmap = MappedBufferUtils.mapFile(file);
+		AbcBuf abcBuf = new AbcBuf(file.getPath(), wrapAsLEByteBuf(mmap));
+		DexReader dexReader = new DexReader(getNextUniqId(), file.getAbsolutePath(), mmap, abcBuf, null);
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Abc file mapped: {}, size: {} KB, heap used: {} KB, time: {} ms",
+					file.getName(), file.length() / 1024, usedHeapKb(), System.currentTimeMillis() - start);
 		}
+		return dexReader;
 	}
 
 	public DexReader loadDexReader(String fileName, byte[] content) {
-		return new DexReader(getNextUniqId(), fileName, content);
-	}
-
-	private List<DexReader> collectDexFromZip(File file) {
-		List<DexReader> result = new ArrayList<>();
-		try {
-			ZipSecurity.readZipEntries(file, (entry, in) -> {
-				try {
-					result.addAll(load(null, in, entry.getName()));
-				} catch (Exception e) {
-					LOG.error("Failed to read zip entry: {}", entry, e);
-				}
-			});
-		} catch (Exception e) {
-			LOG.error("Failed to process zip file: {}", file.getAbsolutePath(), e);
+		if (isStartWithBytes(content, DexConsts.ABC_FILE_MAGIC)) {
+			// no file to map, use content buffer directly without additional copy
+			ByteBuffer buf = ByteBuffer.wrap(content);
+			AbcBuf abcBuf = new AbcBuf(fileName, wrapAsLEByteBuf(buf));
+			return new DexReader(getNextUniqId(), fileName, buf, abcBuf, null);
 		}
-		return result;
+		return new DexReader(getNextUniqId(), fileName, content);
 	}
 
 	private static boolean isStartWithBytes(byte[] fileMagic, byte[] expectedBytes) {
@@ -114,17 +105,24 @@ private static boolean isStartWithBytes(byte[] fileMagic, byte[] expectedBytes)
 		return true;
 	}
 
-	private static byte[] readAllBytes(InputStream in) throws IOException {
-		ByteArrayOutputStream buf = new ByteArrayOutputStream();
-		byte[] data = new byte[8192];
-		while (true) {
-			int read = in.read(data);
-			if (read == -1) {
-				break;
+	@Nullable
+	private static byte[] readMagic(File file) throws IOException {
+		byte[] magic = new byte[DexConsts.MAX_MAGIC_SIZE];
+		try (InputStream in = new FileInputStream(file)) {
+			if (in.read(magic) != magic.length) {
+				return null;
 			}
-			buf.write(data, 0, read);
 		}
-		return buf.toByteArray();
+		return magic;
+	}
+
+	private static long usedHeapKb() {
+		Runtime runtime = Runtime.getRuntime();
+		return (runtime.totalMemory() - runtime.freeMemory()) / 1024;
+	}
+
+	int nextUniqId() {
+		return getNextUniqId();
 	}
 
 	private static synchronized int getNextUniqId() {
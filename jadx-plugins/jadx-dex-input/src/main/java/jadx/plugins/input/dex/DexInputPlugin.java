@@ -25,7 +25,7 @@ public class DexInputPlugin implements JadxPlugin {
 
 	@Override
 	public JadxPluginInfo getPluginInfo() {
-		return new JadxPluginInfo(PLUGIN_ID, "Dex Input", "Load .dex and .apk files");
+		return new JadxPluginInfo(PLUGIN_ID, "Dex Input", "Load .abc files and .hap/.hsp/.app bundles");
 	}
 
 	@Override
@@ -29,6 +29,9 @@ public void visitClasses(Consumer<IClassData> consumer) {
 
 	@Override
 	public void close() throws IOException {
+		for (DexReader dexReader : dexReaders) {
+			dexReader.close();
+		}
 		if (closeable != null) {
 			closeable.close();
 		}
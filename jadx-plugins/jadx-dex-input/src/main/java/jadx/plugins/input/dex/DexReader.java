@@ -1,8 +1,12 @@
 package jadx.plugins.input.dex;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.function.Consumer;
 
+import org.jetbrains.annotations.Nullable;
+
 import me.yricky.oh.abcd.AbcBuf;
 import me.yricky.oh.abcd.cfm.AbcClass;
 
@@ -11,11 +15,14 @@
 import jadx.plugins.input.dex.sections.DexHeader;
 import jadx.plugins.input.dex.sections.SectionReader;
 
-public class DexReader {
+public class DexReader implements Closeable {
 	private final int uniqId;
 	private final String inputFileName;
 	private final ByteBuffer buf;
+	@Nullable
 	private final DexHeader header;
+	@Nullable
+	private final Closeable resource;
 
 	public AbcBuf getAbc() {
 		return abc;
@@ -32,6 +39,22 @@ public DexReader(int uniqId, String inputFileName, byte[] content) {
 		this.inputFileName = inputFileName;
 		this.buf = ByteBuffer.wrap(content);
 		this.header = new DexHeader(new SectionReader(this, 0));
+		this.resource = null;
+	}
+
+	/**
+	 * Abc only reader: class data read directly from provided buffer (usually memory-mapped file),
+	 * dex header not parsed.
+	 *
+	 * @param resource additional resource to release on close (like temp file), can be null
+	 */
+	public DexReader(int uniqId, String inputFileName, ByteBuffer buf, AbcBuf abc, @Nullable Closeable resource) {
+		this.uniqId = uniqId;
+		this.inputFileName = inputFileName;
+		this.buf = buf;
+		this.header = null;
+		this.abc = abc;
+		this.resource = resource;
 	}
 
 	public void visitClasses(Consumer<IClassData> consumer) {
@@ -55,6 +78,9 @@ public ByteBuffer getBuf() {
 	}
 
 	public DexHeader getHeader() {
+		if (header == null) {
+			throw new DexException("Dex header not available for abc input: " + inputFileName);
+		}
 		return header;
 	}
 
@@ -66,6 +92,17 @@ public int getUniqId() {
 		return uniqId;
 	}
 
+	/**
+	 * Release additional resource only, buffer stays valid for already loaded class data
+	 * (memory mapping released by GC, see {@link jadx.plugins.input.dex.utils.MappedBufferUtils})
+	 */
+	@Override
+	public void close() throws IOException {
+		if (resource != null) {
+			resource.close();
+		}
+	}
+
 	@Override
 	public String toString() {
 		return inputFileName;
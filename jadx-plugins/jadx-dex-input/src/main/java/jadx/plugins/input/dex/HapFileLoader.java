@@ -0,0 +1,218 @@
+package jadx.plugins.input.dex;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import me.yricky.oh.abcd.AbcBuf;
+
+import jadx.api.plugins.utils.ZipSecurity;
+import jadx.core.utils.files.FileUtils;
+import jadx.plugins.input.dex.utils.MappedBufferUtils;
+import jadx.plugins.input.dex.utils.ZipDirectoryReader;
+
+import static me.yricky.oh.common.MiscKt.wrapAsLEByteBuf;
+
+/**
+ * Load abc files from HarmonyOS bundles (.hap, .hsp, .app) without full extraction.
+ * <br>
+ * Stored abc entries mapped in place using entry data offset,
+ * compressed entries inflated into temp file and mapped from there.
+ * Nested modules (.hap and .hsp inside .app) processed same way.
+ */
+class HapFileLoader {
+	private static final Logger LOG = LoggerFactory.getLogger(HapFileLoader.class);
+
+	/**
+	 * .app -> .hap/.hsp -> .abc
+	 */
+	private static final int MAX_NESTING_DEPTH = 2;
+
+	private final DexFileLoader dexFileLoader;
+
+	HapFileLoader(DexFileLoader dexFileLoader) {
+		this.dexFileLoader = dexFileLoader;
+	}
+
+	public List<DexReader> load(File file) {
+		List<DexReader> result = new ArrayList<>();
+		try {
+			collect(file, file.length(), 0, file.getAbsolutePath(), null, 0, result);
+		} catch (Exception e) {
+			LOG.error("Failed to process archive: {}", file.getAbsolutePath(), e);
+			closeAll(result);
+			return Collections.emptyList();
+		}
+		return result;
+	}
+
+	/**
+	 * @param base    archive start offset in file (non-zero for stored nested archive)
+	 * @param tmpFile shared temp file if archive was unpacked from parent archive
+	 */
+	private void collect(File file, long length, long base, String label, @Nullable SharedTempFile tmpFile,
+			int depth, List<DexReader> result) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			for (ZipDirectoryReader.Entry entry : ZipDirectoryReader.read(channel, base, length)) {
+				if (entry.isDirectory()) {
+					continue;
+				}
+				String name = entry.getName();
+				String lowerName = name.toLowerCase(Locale.ROOT);
+				boolean abcEntry = lowerName.endsWith(".abc");
+				boolean moduleEntry = lowerName.endsWith(".hap") || lowerName.endsWith(".hsp");
+				if (!abcEntry && !moduleEntry) {
+					continue;
+				}
+				if (!ZipSecurity.isValidZipEntry(entry.toZipEntry())) {
+					continue;
+				}
+				if (!entry.isStored() && !entry.isDeflated()) {
+					LOG.warn("Unsupported compression method for entry: {} in {}", name, label);
+					continue;
+				}
+				String entryLabel = label + ':' + name;
+				try {
+					if (abcEntry) {
+						result.add(loadAbcEntry(file, channel, entry, entryLabel, tmpFile));
+					} else if (depth < MAX_NESTING_DEPTH) {
+						loadModuleEntry(file, channel, entry, entryLabel, tmpFile, depth, result);
+					} else {
+						LOG.warn("Skip module, nesting depth limit reached: {}", entryLabel);
+					}
+				} catch (Exception e) {
+					LOG.error("Failed to load archive entry: {}", entryLabel, e);
+				}
+			}
+		}
+	}
+
+	private DexReader loadAbcEntry(File file, FileChannel channel, ZipDirectoryReader.Entry entry,
+			String label, @Nullable SharedTempFile tmpFile) throws IOException {
+		long dataOffset = ZipDirectoryReader.resolveDataOffset(channel, entry);
+		if (entry.isStored()) {
+			MappedByteBuffer mmap = MappedBufferUtils.mapFileRegion(file, dataOffset, entry.getSize());
+			Closeable resource = tmpFile != null ? tmpFile.acquire() : null;
+			return buildReader(label, mmap, resource);
+		}
+		Path abcFile = inflateToTempFile(channel, entry, dataOffset, ".abc");
+		try {
+			MappedByteBuffer mmap = MappedBufferUtils.mapFile(abcFile.toFile());
+			return buildReader(label, mmap, new SharedTempFile(abcFile).acquire());
+		} catch (Exception e) {
+			Files.deleteIfExists(abcFile);
+			throw e;
+		}
+	}
+
+	private void loadModuleEntry(File file, FileChannel channel, ZipDirectoryReader.Entry entry, String label,
+			@Nullable SharedTempFile tmpFile, int depth, List<DexReader> result) throws IOException {
+		long dataOffset = ZipDirectoryReader.resolveDataOffset(channel, entry);
+		if (entry.isStored()) {
+			collect(file, entry.getSize(), dataOffset, label, tmpFile, depth + 1, result);
+			return;
+		}
+		Path moduleFile = inflateToTempFile(channel, entry, dataOffset, ".hap");
+		SharedTempFile moduleTmpFile = new SharedTempFile(moduleFile);
+		try (Closeable ignored = moduleTmpFile.acquire()) {
+			collect(moduleFile.toFile(), entry.getSize(), 0, label, moduleTmpFile, depth + 1, result);
+		}
+	}
+
+	private DexReader buildReader(String label, MappedByteBuffer mmap, @Nullable Closeable resource) {
+		AbcBuf abcBuf = new AbcBuf(label, wrapAsLEByteBuf(mmap));
+		LOG.debug("Abc entry mapped: {}, size: {} KB", label, mmap.capacity() / 1024);
+		return new DexReader(dexFileLoader.nextUniqId(), label, mmap, abcBuf, resource);
+	}
+
+	/**
+	 * Inflate entry data directly from mapped compressed bytes into temp file.
+	 */
+	private static Path inflateToTempFile(FileChannel channel, ZipDirectoryReader.Entry entry,
+			long dataOffset, String suffix) throws IOException {
+		Path tmpPath = FileUtils.createTempFile(suffix);
+		MappedByteBuffer compressed = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset, entry.getCompressedSize());
+		Inflater inflater = new Inflater(true);
+		try (OutputStream out = Files.newOutputStream(tmpPath)) {
+			inflater.setInput(compressed);
+			byte[] buf = new byte[FileUtils.READ_BUFFER_SIZE];
+			long total = 0;
+			while (!inflater.finished()) {
+				int count = inflater.inflate(buf);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new DexException("Truncated compressed data for entry: " + entry.getName());
+				}
+				total += count;
+				if (total > entry.getSize()) {
+					throw new DexException("Entry data bigger than declared size: " + entry.getName());
+				}
+				out.write(buf, 0, count);
+			}
+		} catch (DataFormatException e) {
+			Files.deleteIfExists(tmpPath);
+			throw new IOException("Failed to inflate entry: " + entry.getName(), e);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(tmpPath);
+			throw e;
+		} finally {
+			inflater.end();
+		}
+		return tmpPath;
+	}
+
+	private static void closeAll(List<DexReader> readers) {
+		for (DexReader reader : readers) {
+			try {
+				reader.close();
+			} catch (Exception e) {
+				LOG.warn("Failed to close reader: {}", reader, e);
+			}
+		}
+	}
+
+	/**
+	 * Temp file used by several readers, deleted after last one closed
+	 */
+	private static final class SharedTempFile {
+		private final Path path;
+		private final AtomicInteger refs = new AtomicInteger();
+
+		SharedTempFile(Path path) {
+			this.path = path;
+		}
+
+		Closeable acquire() {
+			refs.incrementAndGet();
+			return this::release;
+		}
+
+		private void release() {
+			if (refs.decrementAndGet() == 0) {
+				try {
+					Files.deleteIfExists(path);
+				} catch (IOException e) {
+					// file can be still mapped (released only by GC), some systems don't allow to delete it
+					LOG.debug("Failed to delete temp file, postpone to exit: {}", path, e);
+					path.toFile().deleteOnExit();
+				}
+			}
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package jadx.plugins.input.dex.sections;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +25,7 @@
 import jadx.api.plugins.input.data.attributes.IJadxAttribute;
 import jadx.api.plugins.input.data.attributes.types.SourceFileAttr;
 import jadx.plugins.input.dex.sections.annotations.AnnotationsParser;
+import jadx.plugins.input.dex.utils.AbcClassHasher;
 import jadx.plugins.input.dex.utils.SmaliUtils;
 
 public class DexClassData implements IClassData {
@@ -263,8 +265,23 @@ public int getClassDefOffset() {
 
 	@Override
 	public String getDisassembledCode() {
-		byte[] dexBuf = in.getDexReader().getBuf().array();
-		return SmaliUtils.getSmaliCode(dexBuf, getClassDefOffset());
+		ByteBuffer buf = in.getDexReader().getBuf();
+		if (!buf.hasArray()) {
+			// abc input mapped from file, no dex bytes to disassemble
+			return "";
+		}
+		return SmaliUtils.getSmaliCode(buf.array(), getClassDefOffset());
+	}
+
+	@Nullable
+	@Override
+	public String getContentHash() {
+		try {
+			return AbcClassHasher.hash(abcClass, in.getDexReader().getBuf());
+		} catch (Exception e) {
+			LOG.warn("Failed to calculate content hash for class: {}", getType(), e);
+			return null;
+		}
 	}
 
 	@Override
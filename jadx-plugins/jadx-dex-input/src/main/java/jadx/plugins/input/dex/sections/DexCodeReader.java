@@ -25,6 +25,8 @@
 import jadx.plugins.input.dex.insns.DexInsnFormat;
 import jadx.plugins.input.dex.insns.DexInsnInfo;
 import jadx.plugins.input.dex.sections.debuginfo.DebugInfoParser;
+import jadx.plugins.input.dex.utils.AbcCatchTypes;
+import jadx.plugins.input.dex.utils.AbcClassHasher;
 
 public class DexCodeReader implements ICodeReader {
 
@@ -32,6 +34,10 @@ public class DexCodeReader implements ICodeReader {
 	private int mthId;
 	public AbcMethod abcMethod;
 
+	private int vRegsCount;
+	private int argsCount;
+	private int unitsCount = -1;
+
 	public DexCodeReader(SectionReader in) {
 		this.in = in;
 	}
@@ -45,6 +51,9 @@ public DexCodeReader(SectionReader in, AbcMethod abcMethod) {
 	public DexCodeReader copy() {
 		DexCodeReader copy = new DexCodeReader(in.copy(), abcMethod);
 		copy.setMthId(this.getMthId());
+		copy.vRegsCount = vRegsCount;
+		copy.argsCount = argsCount;
+		copy.unitsCount = unitsCount;
 		return copy;
 	}
 
@@ -52,23 +61,34 @@ public void setOffset(int offset) {
 		this.in.setOffset(offset);
 	}
 
+	/**
+	 * Read code item counters once, these getters called many times during method processing
+	 */
+	private void loadCounts() {
+		if (unitsCount == -1) {
+			Code codeItem = abcMethod.getCodeItem();
+			vRegsCount = codeItem.getNumVRegs();
+			argsCount = codeItem.getNumArgs();
+			unitsCount = codeItem.getCodeSize();
+		}
+	}
+
 	@Override
 	public int getRegistersCount() {
-		Code codeItem = abcMethod.getCodeItem();
-		int numVRegs = codeItem.getNumVRegs();
-		int numArgs = codeItem.getNumArgs();
-		return numVRegs + numArgs + 1; // for acc
+		loadCounts();
+		return vRegsCount + argsCount + 1; // for acc
 	}
 
 	@Override
 	public int getArgsStartReg() {
-		return abcMethod.getCodeItem().getNumVRegs();
+		loadCounts();
+		return vRegsCount;
 	}
 
 	@Override
 	public int getUnitsCount() {
-		Code code = abcMethod.getCodeItem();
-		return code.getCodeSize();
+		loadCounts();
+		return unitsCount;
 	}
 
 	@Override
@@ -147,7 +167,7 @@ public List<ITry> getTries() {
 			for (int j = 0; j < catchBlocks.size(); j++) {
 				TryBlock.CatchBlock catchBlock = catchBlocks.get(j);
 				addrs[j] = catchBlock.getHandlerPc();
-				types[j] = String.format("ExceptionI%d", catchBlock.getTypeIdx());
+				types[j] = AbcCatchTypes.getTypeName(in.getDexReader().getBuf(), abcMethod, catchBlock.getTypeIdx());
 			}
 			CatchData catchHandler = new CatchData(addrs, types, -1);
 			triesList.add(new TryData(startAddr, startAddr + insnsCount - 1, catchHandler));
@@ -186,6 +206,14 @@ public int getCodeOffset() {
 		return in.getOffset();
 	}
 
+	@Override
+	public @Nullable String getContentHash() {
+		if (abcMethod == null) {
+			return null;
+		}
+		return AbcClassHasher.hashMethod(abcMethod, in.getDexReader().getBuf());
+	}
+
 	public void setMthId(int mthId) {
 		this.mthId = mthId;
 	}
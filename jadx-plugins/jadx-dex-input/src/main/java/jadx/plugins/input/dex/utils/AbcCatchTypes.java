@@ -0,0 +1,67 @@
+package jadx.plugins.input.dex.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.jetbrains.annotations.Nullable;
+
+import me.yricky.oh.abcd.cfm.AbcMethod;
+import me.yricky.oh.abcd.cfm.ClassItem;
+
+/**
+ * Resolve catch block type index into class name.
+ * <br>
+ * Type index points into class index table of region containing method (index 0 is catch all),
+ * so raw value changes after classes added or removed in same region.
+ */
+public class AbcCatchTypes {
+	private static final int HEADER_REGIONS_COUNT_OFF = 52;
+	private static final int HEADER_REGIONS_OFF = 56;
+	private static final int REGION_HEADER_SIZE = 10 * 4;
+
+	private AbcCatchTypes() {
+	}
+
+	/**
+	 * @param buf whole abc file content
+	 * @return class name or null for catch all or unknown type
+	 */
+	@Nullable
+	public static String resolve(ByteBuffer buf, AbcMethod mth, int typeIdx) {
+		if (typeIdx <= 0) {
+			return null;
+		}
+		ByteBuffer data = buf.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		int mthOffset = mth.getOffset();
+		int regionsCount = data.getInt(HEADER_REGIONS_COUNT_OFF);
+		int regionsOff = data.getInt(HEADER_REGIONS_OFF);
+		for (int i = 0; i < regionsCount; i++) {
+			int regionOff = regionsOff + i * REGION_HEADER_SIZE;
+			int start = data.getInt(regionOff);
+			int end = data.getInt(regionOff + 4);
+			if (mthOffset < start || mthOffset >= end) {
+				continue;
+			}
+			int clsIdxSize = data.getInt(regionOff + 8);
+			if (typeIdx > clsIdxSize) {
+				return null;
+			}
+			int clsIdxOff = data.getInt(regionOff + 12);
+			int clsOffset = data.getInt(clsIdxOff + (typeIdx - 1) * 4);
+			ClassItem cls = mth.getAbc().getClasses().get(clsOffset);
+			return cls == null ? null : cls.getName();
+		}
+		return null;
+	}
+
+	/**
+	 * Catch type name used in code reader output, keep in sync with hashing
+	 */
+	public static String getTypeName(ByteBuffer buf, AbcMethod mth, int typeIdx) {
+		String name = resolve(buf, mth, typeIdx);
+		if (name != null) {
+			return name;
+		}
+		return String.format("ExceptionI%d", typeIdx);
+	}
+}
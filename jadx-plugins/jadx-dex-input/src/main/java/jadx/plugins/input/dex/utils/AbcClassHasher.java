@@ -0,0 +1,155 @@
+package jadx.plugins.input.dex.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import me.yricky.oh.abcd.cfm.AbcClass;
+import me.yricky.oh.abcd.cfm.AbcField;
+import me.yricky.oh.abcd.cfm.AbcMethod;
+import me.yricky.oh.abcd.cfm.ClassItem;
+import me.yricky.oh.abcd.cfm.MethodItem;
+import me.yricky.oh.abcd.code.Code;
+import me.yricky.oh.abcd.code.TryBlock;
+import me.yricky.oh.abcd.isa.Asm;
+import me.yricky.oh.abcd.isa.InstFmt;
+import me.yricky.oh.abcd.literal.ModuleLiteralArray;
+
+import jadx.core.utils.files.FileUtils;
+import jadx.plugins.input.dex.DexException;
+
+/**
+ * Build stable hash of abc class content.
+ * <br>
+ * Raw code bytes can't be used directly: string, method and literal array operands
+ * are offsets and indexes, which changes after any modification in other parts of abc file.
+ * So instructions hashed with opcodes, registers and immediates, but id operands replaced by resolved values
+ * (same data used by instructions decoder). Catch types hashed by class name instead of region index.
+ */
+public class AbcClassHasher {
+
+	private AbcClassHasher() {
+	}
+
+	/**
+	 * @param buf whole abc file content, used to resolve catch types
+	 */
+	public static String hash(AbcClass cls, ByteBuffer buf) {
+		MessageDigest md = newDigest();
+		update(md, cls.getName());
+		update(md, cls.getAccessFlag());
+		ClassItem superClass = cls.getSuperClass();
+		update(md, superClass == null ? "" : superClass.getName());
+		for (AbcField field : cls.getFields()) {
+			update(md, field.getName());
+			update(md, field.getType().getName());
+		}
+		ModuleLiteralArray moduleInfo = cls.getModuleInfo();
+		if (moduleInfo != null) {
+			for (ModuleLiteralArray.RegularImport imp : moduleInfo.getRegularImports()) {
+				update(md, imp.toString());
+				update(md, imp.getImportName());
+				update(md, imp.getLocalName());
+			}
+		}
+		for (AbcMethod mth : cls.getMethods()) {
+			updateMethod(md, mth, buf);
+		}
+		return FileUtils.bytesToHex(md.digest());
+	}
+
+	public static String hashMethod(AbcMethod mth, ByteBuffer buf) {
+		MessageDigest md = newDigest();
+		updateMethod(md, mth, buf);
+		return FileUtils.bytesToHex(md.digest());
+	}
+
+	private static void updateMethod(MessageDigest md, AbcMethod mth, ByteBuffer buf) {
+		update(md, mth.getName());
+		Code code = mth.getCodeItem();
+		if (code == null) {
+			update(md, -1);
+		} else {
+			updateCode(md, mth, code, buf);
+		}
+	}
+
+	private static void updateCode(MessageDigest md, AbcMethod mth, Code code, ByteBuffer buf) {
+		update(md, code.getNumVRegs());
+		update(md, code.getNumArgs());
+		for (Asm.AsmItem asmItem : code.getAsm().getList()) {
+			update(md, asmItem.getCodeOffset());
+			List<Number> opUnits = asmItem.getOpUnits();
+			List<InstFmt> formats = asmItem.getIns().getFormat();
+			int count = opUnits.size();
+			update(md, count);
+			for (int i = 0; i < count; i++) {
+				InstFmt fmt = i < formats.size() ? formats.get(i) : null;
+				if (!updateIdOperand(md, fmt, asmItem)) {
+					update(md, opUnits.get(i).intValue());
+				}
+			}
+		}
+		for (TryBlock tryBlock : code.getTryBlocks()) {
+			update(md, tryBlock.getStartPc());
+			update(md, tryBlock.getLength());
+			List<TryBlock.CatchBlock> catchBlocks = tryBlock.getCatchBlocks();
+			for (TryBlock.CatchBlock catchBlock : catchBlocks) {
+				update(md, catchBlock.getHandlerPc());
+				update(md, AbcCatchTypes.getTypeName(buf, mth, catchBlock.getTypeIdx()));
+			}
+		}
+	}
+
+	/**
+	 * Hash resolved value instead of raw index for string, method and literal array operands
+	 *
+	 * @return false if operand not an id
+	 */
+	private static boolean updateIdOperand(MessageDigest md, @Nullable InstFmt fmt, Asm.AsmItem asmItem) {
+		if (fmt instanceof InstFmt.SId) {
+			update(md, ((InstFmt.SId) fmt).getString(asmItem));
+			return true;
+		}
+		if (fmt instanceof InstFmt.MId) {
+			MethodItem mth = ((InstFmt.MId) fmt).getMethod(asmItem);
+			update(md, mth.getClazz().getName());
+			update(md, mth.getName());
+			return true;
+		}
+		if (fmt instanceof InstFmt.LId) {
+			update(md, String.valueOf(((InstFmt.LId) fmt).getLA(asmItem)));
+			return true;
+		}
+		return false;
+	}
+
+	private static void update(MessageDigest md, @Nullable String str) {
+		if (str == null) {
+			update(md, -1);
+		} else {
+			byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+			update(md, bytes.length);
+			md.update(bytes);
+		}
+	}
+
+	private static void update(MessageDigest md, int value) {
+		md.update((byte) (value >>> 24));
+		md.update((byte) (value >>> 16));
+		md.update((byte) (value >>> 8));
+		md.update((byte) value);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new DexException("SHA-256 digest not available", e);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package jadx.plugins.input.dex.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read only file mappings.
+ * <br>
+ * Mapping is not released explicitly: buffer views (duplicates, slices, wrappers from abc parser)
+ * can still be referenced after input close, and access to unmapped memory crashes JVM.
+ * So mapping released by GC after all buffers using it become unreachable.
+ */
+public class MappedBufferUtils {
+
+	private MappedBufferUtils() {
+	}
+
+	/**
+	 * Map whole file in read only mode.
+	 * File channel closed right after mapping, mapping stays valid while buffer is reachable.
+	 */
+	public static MappedByteBuffer mapFile(File file) throws IOException {
+		return mapFileRegion(file, 0, file.length());
+	}
+
+	public static MappedByteBuffer mapFileRegion(File file, long offset, long size) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package jadx.plugins.input.dex.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+
+import jadx.plugins.input.dex.DexException;
+
+/**
+ * Minimal zip central directory reader.
+ * Allows to get entry data offset to access stored entries in place without extraction.
+ * Archive can be located inside other file (stored nested archive), so all offsets are absolute.
+ */
+public class ZipDirectoryReader {
+	private static final int LOCAL_HEADER_SIG = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+	private static final int END_OF_CENTRAL_DIR_SIG = 0x06054b50;
+
+	private static final int LOCAL_HEADER_SIZE = 30;
+	private static final int CENTRAL_HEADER_SIZE = 46;
+	private static final int END_OF_CENTRAL_DIR_SIZE = 22;
+	private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+	public static final class Entry {
+		private final String name;
+		private final int method;
+		private final long compressedSize;
+		private final long size;
+		private final long localHeaderOffset;
+		private long dataOffset = -1;
+
+		private Entry(String name, int method, long compressedSize, long size, long localHeaderOffset) {
+			this.name = name;
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.size = size;
+			this.localHeaderOffset = localHeaderOffset;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public boolean isDirectory() {
+			return name.endsWith("/");
+		}
+
+		public boolean isStored() {
+			return method == ZipEntry.STORED;
+		}
+
+		public boolean isDeflated() {
+			return method == ZipEntry.DEFLATED;
+		}
+
+		public long getCompressedSize() {
+			return compressedSize;
+		}
+
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * Absolute offset of entry data in file
+		 */
+		public long getDataOffset() {
+			return dataOffset;
+		}
+
+		public ZipEntry toZipEntry() {
+			ZipEntry zipEntry = new ZipEntry(name);
+			zipEntry.setCompressedSize(compressedSize);
+			zipEntry.setSize(size);
+			return zipEntry;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private ZipDirectoryReader() {
+	}
+
+	/**
+	 * Read entries of archive placed in file region [base, base + length)
+	 */
+	public static List<Entry> read(FileChannel channel, long base, long length) throws IOException {
+		ByteBuffer eocd = findEndOfCentralDir(channel, base, length);
+		int entriesCount = eocd.getShort(10) & 0xFFFF;
+		long dirSize = eocd.getInt(12) & 0xFFFFFFFFL;
+		long dirOffset = eocd.getInt(16) & 0xFFFFFFFFL;
+		if (dirSize == ZIP64_MAGIC || dirOffset == ZIP64_MAGIC || dirOffset + dirSize > length) {
+			throw new DexException("Unsupported or corrupted zip central directory");
+		}
+		ByteBuffer dir = readAt(channel, base + dirOffset, (int) dirSize);
+		List<Entry> entries = new ArrayList<>(entriesCount);
+		int pos = 0;
+		for (int i = 0; i < entriesCount; i++) {
+			if (dir.getInt(pos) != CENTRAL_HEADER_SIG) {
+				throw new DexException("Invalid zip central directory header at: " + pos);
+			}
+			int method = dir.getShort(pos + 10) & 0xFFFF;
+			long compressedSize = dir.getInt(pos + 20) & 0xFFFFFFFFL;
+			long size = dir.getInt(pos + 24) & 0xFFFFFFFFL;
+			int nameLen = dir.getShort(pos + 28) & 0xFFFF;
+			int extraLen = dir.getShort(pos + 30) & 0xFFFF;
+			int commentLen = dir.getShort(pos + 32) & 0xFFFF;
+			long localOffset = dir.getInt(pos + 42) & 0xFFFFFFFFL;
+			byte[] nameBytes = new byte[nameLen];
+			dir.position(pos + CENTRAL_HEADER_SIZE);
+			dir.get(nameBytes);
+			String name = new String(nameBytes, StandardCharsets.UTF_8);
+			if (compressedSize == ZIP64_MAGIC || size == ZIP64_MAGIC || localOffset == ZIP64_MAGIC) {
+				throw new DexException("Zip64 entries not supported: " + name);
+			}
+			entries.add(new Entry(name, method, compressedSize, size, base + localOffset));
+			pos += CENTRAL_HEADER_SIZE + nameLen + extraLen + commentLen;
+		}
+		return entries;
+	}
+
+	/**
+	 * Resolve data offset using local header (extra field can differ from central directory)
+	 */
+	public static long resolveDataOffset(FileChannel channel, Entry entry) throws IOException {
+		if (entry.dataOffset == -1) {
+			ByteBuffer header = readAt(channel, entry.localHeaderOffset, LOCAL_HEADER_SIZE);
+			if (header.getInt(0) != LOCAL_HEADER_SIG) {
+				throw new DexException("Invalid zip local header for entry: " + entry.name);
+			}
+			int nameLen = header.getShort(26) & 0xFFFF;
+			int extraLen = header.getShort(28) & 0xFFFF;
+			entry.dataOffset = entry.localHeaderOffset + LOCAL_HEADER_SIZE + nameLen + extraLen;
+		}
+		return entry.dataOffset;
+	}
+
+	private static ByteBuffer findEndOfCentralDir(FileChannel channel, long base, long length) throws IOException {
+		int tailSize = (int) Math.min(length, END_OF_CENTRAL_DIR_SIZE + MAX_COMMENT_SIZE);
+		if (tailSize < END_OF_CENTRAL_DIR_SIZE) {
+			throw new DexException("File too small to be a zip archive");
+		}
+		long tailStart = base + length - tailSize;
+		ByteBuffer tail = readAt(channel, tailStart, tailSize);
+		for (int pos = tailSize - END_OF_CENTRAL_DIR_SIZE; pos >= 0; pos--) {
+			if (tail.getInt(pos) == END_OF_CENTRAL_DIR_SIG) {
+				tail.position(pos);
+				return tail.slice().order(ByteOrder.LITTLE_ENDIAN);
+			}
+		}
+		throw new DexException("Zip end of central directory not found");
+	}
+
+	private static ByteBuffer readAt(FileChannel channel, long offset, int size) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+		while (buf.hasRemaining()) {
+			int read = channel.read(buf, offset + buf.position());
+			if (read == -1) {
+				throw new DexException("Unexpected end of file at: " + (offset + buf.position()));
+			}
+		}
+		buf.flip();
+		return buf;
+	}
+}
@@ -0,0 +1,79 @@
+package jadx.plugins.input.dex.utils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.api.plugins.input.ICodeLoader;
+import jadx.api.plugins.input.data.ICodeReader;
+import jadx.api.plugins.input.data.ITry;
+import jadx.plugins.input.dex.DexInputPlugin;
+import jadx.plugins.input.dex.gen.AbcCorpusGenerator;
+import jadx.plugins.input.dex.gen.AbcGenOptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbcCatchTypesTest {
+
+	@TempDir
+	Path tmpDir;
+
+	@Test
+	public void resolveClassTypes() throws Exception {
+		List<String[]> catches = loadCatches(generate("typed.abc", true));
+		assertThat(catches).isNotEmpty();
+		for (String[] clsCatch : catches) {
+			// generator use current class as catch type
+			assertThat(clsCatch[1]).isEqualTo(clsCatch[0]);
+		}
+	}
+
+	@Test
+	public void catchAll() throws Exception {
+		List<String[]> catches = loadCatches(generate("catch-all.abc", false));
+		assertThat(catches).isNotEmpty();
+		for (String[] clsCatch : catches) {
+			assertThat(clsCatch[1]).isEqualTo("ExceptionI0");
+		}
+	}
+
+	private Path generate(String fileName, boolean typedCatches) throws Exception {
+		AbcGenOptions opts = new AbcGenOptions();
+		opts.setClassesCount(10);
+		opts.setMethodsPerClass(3);
+		opts.setTryCatchRate(1);
+		opts.setTypedCatches(typedCatches);
+		Path file = tmpDir.resolve(fileName);
+		new AbcCorpusGenerator(opts).writeTo(file);
+		return file;
+	}
+
+	/**
+	 * @return pairs of class type and catch type
+	 */
+	private static List<String[]> loadCatches(Path abcFile) throws Exception {
+		List<String[]> catches = new ArrayList<>();
+		try (ICodeLoader loader = new DexInputPlugin().loadFiles(Collections.singletonList(abcFile))) {
+			loader.visitClasses(cls -> {
+				String clsType = cls.getType();
+				cls.visitFieldsAndMethods(fld -> {
+				}, mth -> {
+					ICodeReader codeReader = mth.getCodeReader();
+					if (codeReader == null) {
+						return;
+					}
+					for (ITry tryData : codeReader.getTries()) {
+						for (String type : tryData.getCatch().getTypes()) {
+							catches.add(new String[] { clsType, type });
+						}
+					}
+				});
+			});
+		}
+		return catches;
+	}
+}
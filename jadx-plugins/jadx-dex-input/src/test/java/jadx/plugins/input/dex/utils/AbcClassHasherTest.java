@@ -0,0 +1,72 @@
+package jadx.plugins.input.dex.utils;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.api.plugins.input.ICodeLoader;
+import jadx.plugins.input.dex.DexInputPlugin;
+import jadx.plugins.input.dex.gen.AbcCorpusGenerator;
+import jadx.plugins.input.dex.gen.AbcGenOptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbcClassHasherTest {
+
+	@TempDir
+	Path tmpDir;
+
+	@Test
+	public void sameHashAfterClassAdded() throws Exception {
+		Map<String, String> hashes = loadHashes(generate("base.abc", 20, -1));
+		Map<String, String> added = loadHashes(generate("added.abc", 21, -1));
+
+		assertThat(hashes).hasSize(20);
+		assertThat(added).hasSize(21);
+		for (Map.Entry<String, String> entry : hashes.entrySet()) {
+			assertThat(added.get(entry.getKey()))
+					.as("Hash of class %s", entry.getKey())
+					.isEqualTo(entry.getValue());
+		}
+	}
+
+	@Test
+	public void hashChangedOnlyForAlteredClass() throws Exception {
+		Map<String, String> hashes = loadHashes(generate("base.abc", 20, -1));
+		Map<String, String> altered = loadHashes(generate("altered.abc", 20, 5));
+
+		assertThat(altered.keySet()).isEqualTo(hashes.keySet());
+		for (Map.Entry<String, String> entry : hashes.entrySet()) {
+			String cls = entry.getKey();
+			if (cls.contains("module0000005")) {
+				assertThat(altered.get(cls)).isNotEqualTo(entry.getValue());
+			} else {
+				assertThat(altered.get(cls)).as("Hash of class %s", cls).isEqualTo(entry.getValue());
+			}
+		}
+	}
+
+	private Path generate(String fileName, int classes, int alteredClass) throws Exception {
+		AbcGenOptions opts = new AbcGenOptions();
+		opts.setClassesCount(classes);
+		opts.setMethodsPerClass(4);
+		opts.setInsnsPerMethod(30);
+		opts.setTryCatchRate(0.5);
+		opts.setAlteredClass(alteredClass);
+		Path file = tmpDir.resolve(fileName);
+		new AbcCorpusGenerator(opts).writeTo(file);
+		return file;
+	}
+
+	private static Map<String, String> loadHashes(Path abcFile) throws Exception {
+		Map<String, String> hashes = new HashMap<>();
+		try (ICodeLoader loader = new DexInputPlugin().loadFiles(Collections.singletonList(abcFile))) {
+			loader.visitClasses(cls -> hashes.put(cls.getType(), cls.getContentHash()));
+		}
+		return hashes;
+	}
+}
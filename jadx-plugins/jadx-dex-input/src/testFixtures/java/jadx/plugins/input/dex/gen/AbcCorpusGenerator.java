@@ -0,0 +1,594 @@
+package jadx.plugins.input.dex.gen;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generate synthetic abc file with controlled size and shape.
+ * <br>
+ * Every class is a module record with top level functions and chains of nested closures,
+ * functions code use only instructions supported by {@code InsnDecoder}:
+ * constants and registers moves, arithmetic, property access, globals calls,
+ * array/object literals, conditional jumps, lexical environments and try/catch blocks.
+ * <br>
+ * Output is fully determined by options (including seed).
+ * Content of each class depends only on seed and class number, so corpora with different classes count
+ * share same classes (offsets and region ids still change).
+ * Classes split into index regions, so string, method and literal array ids (16-bit) fit into region tables.
+ */
+public class AbcCorpusGenerator {
+	private static final Logger LOG = LoggerFactory.getLogger(AbcCorpusGenerator.class);
+
+	private static final byte[] MAGIC = { 'P', 'A', 'N', 'D', 'A', 0, 0, 0 };
+	private static final byte[] VERSION = { 12, 0, 6, 0 };
+	private static final int HEADER_SIZE = 60;
+	private static final int CHECKSUM_OFF = 8;
+	private static final int MAX_REGION_INDEX_SIZE = 0xFFFF;
+
+	private static final int ACC_PUBLIC = 0x0001;
+	private static final int ACC_STATIC = 0x0008;
+	private static final int SOURCE_LANG_ECMASCRIPT = 0;
+
+	private static final int TAG_NOTHING = 0x00;
+	private static final int CLASS_TAG_SOURCE_LANG = 0x02;
+	private static final int METHOD_TAG_CODE = 0x01;
+	private static final int METHOD_TAG_SOURCE_LANG = 0x02;
+
+	private static final int LITERAL_TAG_INTEGER = 0x02;
+	private static final int LITERAL_TAG_STRING = 0x05;
+
+	// opcodes
+	private static final int LDAI = 0x62;
+	private static final int LDA = 0x60;
+	private static final int STA = 0x61;
+	private static final int MOV = 0x45;
+	private static final int LDA_STR = 0x3e;
+	private static final int ADD2 = 0x0a;
+	private static final int SUB2 = 0x0b;
+	private static final int MUL2 = 0x0c;
+	private static final int LESS = 0x11;
+	private static final int JMP = 0x4d;
+	private static final int JEQZ = 0x4f;
+	private static final int TRYLDGLOBALBYNAME = 0x3f;
+	private static final int LDOBJBYNAME = 0x42;
+	private static final int STOBJBYNAME = 0x43;
+	private static final int CALLARG0 = 0x29;
+	private static final int CALLARG1 = 0x2a;
+	private static final int CREATEARRAYWITHBUFFER = 0x06;
+	private static final int CREATEOBJECTWITHBUFFER = 0x07;
+	private static final int DEFINEFUNC = 0x33;
+	private static final int NEWLEXENV = 0x09;
+	private static final int LDLEXVAR = 0x3c;
+	private static final int STLEXVAR = 0x3d;
+	private static final int POPLEXENV = 0x69;
+	private static final int RETURN = 0x64;
+	private static final int THROW_PREFIX = 0xfe;
+	private static final int THROW_NOTEXISTS = 0x01;
+
+	/**
+	 * Virtual registers in each function, last two used for calls and caught exceptions.
+	 * Functions have only implicit arguments (function object, new target, this).
+	 */
+	private static final int REGS_COUNT = 8;
+	private static final int CALL_REG = 6;
+	private static final int EXC_REG = 7;
+	private static final int ARGS_COUNT = 3;
+
+	private static final String[] PROPERTY_NAMES = {
+			"length", "push", "pop", "map", "filter", "value", "name", "id", "data", "text",
+			"width", "height", "color", "onClick", "build", "state", "items", "count", "index", "key"
+	};
+	private static final String[] GLOBAL_NAMES = {
+			"console", "Math", "JSON", "Object", "Array", "String", "Number", "Promise"
+	};
+
+	private final AbcGenOptions opts;
+	/**
+	 * Random generator of currently written class
+	 */
+	private SplittableRandom rnd;
+	private final AbcDataWriter out;
+
+	/**
+	 * Strings shared by all regions: placed at start of every region index table
+	 */
+	private final List<String> sharedStrings = new ArrayList<>();
+	private int[] sharedStringsOffsets;
+	private int propsStart;
+	private int globalsStart;
+	private int mthNamesStart;
+
+	private final List<Integer> classOffsets = new ArrayList<>();
+	private final List<Integer> literalArrayOffsets = new ArrayList<>();
+	private final List<int[]> regionHeaders = new ArrayList<>();
+
+	private long insnsCount;
+	private long tryBlocksCount;
+
+	public AbcCorpusGenerator(AbcGenOptions opts) {
+		opts.validate();
+		this.opts = opts;
+		long estimatedSize = HEADER_SIZE + opts.getTotalMethodsCount() * (opts.getInsnsPerMethod() * 3L + 32);
+		this.out = new AbcDataWriter((int) Math.min(estimatedSize, 256 * 1024 * 1024));
+	}
+
+	public static void main(String[] args) throws IOException {
+		AbcGenOptions opts = new AbcGenOptions();
+		Path output = null;
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (i + 1 >= args.length) {
+				throw new IllegalArgumentException("Missing value for argument: " + arg);
+			}
+			String value = args[++i];
+			switch (arg) {
+				case "-o":
+				case "--output":
+					output = Paths.get(value);
+					break;
+				case "--seed":
+					opts.setSeed(Long.parseLong(value));
+					break;
+				case "--classes":
+					opts.setClassesCount(Integer.parseInt(value));
+					break;
+				case "--methods":
+					opts.setMethodsPerClass(Integer.parseInt(value));
+					break;
+				case "--insns":
+					opts.setInsnsPerMethod(Integer.parseInt(value));
+					break;
+				case "--try-rate":
+					opts.setTryCatchRate(Double.parseDouble(value));
+					break;
+				case "--closure-depth":
+					opts.setClosureDepth(Integer.parseInt(value));
+					break;
+				case "--literal-size":
+					opts.setLiteralArraySize(Integer.parseInt(value));
+					break;
+				case "--altered-class":
+					opts.setAlteredClass(Integer.parseInt(value));
+					break;
+				case "--typed-catches":
+					opts.setTypedCatches(Boolean.parseBoolean(value));
+					break;
+				case "--throw-notexists":
+					opts.setThrowNotExists(Boolean.parseBoolean(value));
+					break;
+				case "--linked-classes":
+					opts.setLinkedClasses(Boolean.parseBoolean(value));
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown argument: " + arg);
+			}
+		}
+		if (output == null) {
+			throw new IllegalArgumentException("Output file not set, usage: "
+					+ "-o <file> [--seed N] [--classes N] [--methods N] [--insns N]"
+					+ " [--try-rate F] [--closure-depth N] [--literal-size N] [--altered-class N]"
+					+ " [--typed-catches true|false] [--throw-notexists true|false] [--linked-classes true|false]");
+		}
+		AbcCorpusGenerator generator = new AbcCorpusGenerator(opts);
+		generator.writeTo(output);
+		LOG.info("Generated {}: {}, instructions: {}, try blocks: {}, size: {} KB",
+				output, opts, generator.getInsnsCount(), generator.getTryBlocksCount(), Files.size(output) / 1024);
+	}
+
+	public void writeTo(Path output) throws IOException {
+		generate();
+		Path parent = output.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		try (OutputStream os = Files.newOutputStream(output)) {
+			os.write(out.getData(), 0, out.position());
+		}
+	}
+
+	public long getInsnsCount() {
+		return insnsCount;
+	}
+
+	public long getTryBlocksCount() {
+		return tryBlocksCount;
+	}
+
+	private void generate() {
+		if (out.position() != 0) {
+			throw new IllegalStateException("Already generated");
+		}
+		out.bytes(new byte[HEADER_SIZE]);
+		writeSharedStrings();
+
+		int methodsPerClass = opts.getMethodsPerClass();
+		int perClassIndexSize = methodsPerClass + 2; // methods, array and object literals
+		int classesPerRegion = (MAX_REGION_INDEX_SIZE - sharedStrings.size()) / perClassIndexSize;
+		if (classesPerRegion < 1) {
+			throw new IllegalArgumentException("Too many methods per class: " + methodsPerClass);
+		}
+		int classesCount = opts.getClassesCount();
+		for (int start = 0; start < classesCount; start += classesPerRegion) {
+			writeRegion(start, Math.min(classesCount, start + classesPerRegion));
+		}
+
+		out.align(4);
+		int classIdxOff = out.position();
+		classOffsets.forEach(out::u32);
+		int literalArrayIdxOff = out.position();
+		literalArrayOffsets.forEach(out::u32);
+		int indexSectionOff = out.position();
+		for (int[] regionHeader : regionHeaders) {
+			for (int value : regionHeader) {
+				out.u32(value);
+			}
+		}
+		writeHeader(classIdxOff, literalArrayIdxOff, indexSectionOff);
+	}
+
+	private void writeSharedStrings() {
+		propsStart = sharedStrings.size();
+		for (String prop : PROPERTY_NAMES) {
+			sharedStrings.add(prop);
+		}
+		globalsStart = sharedStrings.size();
+		for (String global : GLOBAL_NAMES) {
+			sharedStrings.add(global);
+		}
+		mthNamesStart = sharedStrings.size();
+		for (int i = 0; i < opts.getMethodsPerClass(); i++) {
+			sharedStrings.add(getMethodName(i));
+		}
+		int count = sharedStrings.size();
+		sharedStringsOffsets = new int[count];
+		for (int i = 0; i < count; i++) {
+			sharedStringsOffsets[i] = out.position();
+			out.string(sharedStrings.get(i));
+		}
+	}
+
+	/**
+	 * Function index in class: chains of top level function and nested closures
+	 */
+	private String getMethodName(int mthIdx) {
+		int chainPos = mthIdx % (opts.getClosureDepth() + 1);
+		if (chainPos == 0) {
+			return "func" + mthIdx;
+		}
+		return "func" + (mthIdx - chainPos) + "_closure" + chainPos;
+	}
+
+	private void writeRegion(int startCls, int endCls) {
+		int clsCount = endCls - startCls;
+		int methodsPerClass = opts.getMethodsPerClass();
+		int regionStart = out.position();
+		// region index table: shared strings, then methods, then literal arrays
+		int mthIdStart = sharedStrings.size();
+		int literalIdStart = mthIdStart + clsCount * methodsPerClass;
+		SplittableRandom[] clsRandoms = new SplittableRandom[clsCount];
+		int[] literalOffsets = new int[clsCount * 2];
+		for (int i = 0; i < clsCount; i++) {
+			clsRandoms[i] = classRandom(startCls + i);
+			rnd = clsRandoms[i];
+			literalOffsets[i * 2] = writeArrayLiteral();
+			literalOffsets[i * 2 + 1] = writeObjectLiteral();
+		}
+		int[] codeOffsets = new int[clsCount * methodsPerClass];
+		for (int i = 0; i < clsCount; i++) {
+			rnd = clsRandoms[i];
+			for (int m = 0; m < methodsPerClass; m++) {
+				int clsMthIdStart = mthIdStart + i * methodsPerClass;
+				codeOffsets[i * methodsPerClass + m] = writeCode(m, i, clsMthIdStart, literalIdStart + i * 2);
+			}
+		}
+		int[] clsOffsets = new int[clsCount];
+		int[] mthOffsets = new int[clsCount * methodsPerClass];
+		for (int i = 0; i < clsCount; i++) {
+			clsOffsets[i] = writeClass(startCls + i, i, codeOffsets, i * methodsPerClass, mthOffsets);
+		}
+		int regionEnd = out.position();
+
+		out.align(4);
+		int clsIdxOff = out.position();
+		for (int clsOff : clsOffsets) {
+			out.u32(clsOff);
+			classOffsets.add(clsOff);
+		}
+		int mslIdxOff = out.position();
+		for (int strOff : sharedStringsOffsets) {
+			out.u32(strOff);
+		}
+		for (int mthOff : mthOffsets) {
+			out.u32(mthOff);
+		}
+		for (int laOff : literalOffsets) {
+			out.u32(laOff);
+			literalArrayOffsets.add(laOff);
+		}
+		int mslIdxSize = (out.position() - mslIdxOff) / 4;
+		regionHeaders.add(new int[] {
+				regionStart, regionEnd,
+				clsCount, clsIdxOff,
+				mslIdxSize, mslIdxOff,
+				0, mslIdxOff, // no fields
+				0, mslIdxOff // no protos
+		});
+	}
+
+	private SplittableRandom classRandom(int clsNum) {
+		long seed = opts.getSeed() * 0x9E3779B97F4A7C15L + clsNum;
+		if (clsNum == opts.getAlteredClass()) {
+			seed = ~seed;
+		}
+		return new SplittableRandom(seed);
+	}
+
+	private int writeArrayLiteral() {
+		int size = opts.getLiteralArraySize();
+		int off = out.position();
+		out.u32(size * 2);
+		for (int i = 0; i < size; i++) {
+			if (rnd.nextBoolean()) {
+				out.u8(LITERAL_TAG_INTEGER);
+				out.u32(rnd.nextInt(1000));
+			} else {
+				out.u8(LITERAL_TAG_STRING);
+				out.u32(sharedStringsOffsets[propsStart + rnd.nextInt(PROPERTY_NAMES.length)]);
+			}
+		}
+		return off;
+	}
+
+	private int writeObjectLiteral() {
+		int size = opts.getLiteralArraySize();
+		int off = out.position();
+		out.u32(size * 4);
+		for (int i = 0; i < size; i++) {
+			out.u8(LITERAL_TAG_STRING);
+			out.u32(sharedStringsOffsets[propsStart + i % PROPERTY_NAMES.length]);
+			out.u8(LITERAL_TAG_INTEGER);
+			out.u32(rnd.nextInt(1000));
+		}
+		return off;
+	}
+
+	private int writeClass(int clsNum, int regionClsIdx, int[] codeOffsets, int firstMth, int[] mthOffsets) {
+		int methodsPerClass = opts.getMethodsPerClass();
+		int off = out.position();
+		out.string(String.format("Lgen/module%07d;", clsNum));
+		out.u32(0); // no super class
+		out.uleb128(ACC_PUBLIC);
+		out.uleb128(0); // fields
+		out.uleb128(methodsPerClass);
+		out.u8(CLASS_TAG_SOURCE_LANG);
+		out.u8(SOURCE_LANG_ECMASCRIPT);
+		out.u8(TAG_NOTHING);
+		for (int m = 0; m < methodsPerClass; m++) {
+			mthOffsets[firstMth + m] = out.position();
+			out.u16(regionClsIdx);
+			out.u16(0); // proto not used for ecmascript
+			out.u32(sharedStringsOffsets[mthNamesStart + m]);
+			out.uleb128(ACC_PUBLIC | ACC_STATIC);
+			out.u8(METHOD_TAG_CODE);
+			out.u32(codeOffsets[firstMth + m]);
+			out.u8(METHOD_TAG_SOURCE_LANG);
+			out.u8(SOURCE_LANG_ECMASCRIPT);
+			out.u8(TAG_NOTHING);
+		}
+		return off;
+	}
+
+	private int writeCode(int mthIdx, int regionClsIdx, int clsMthIdStart, int literalIdStart) {
+		MethodCode code = new MethodCode(literalIdStart);
+		int depth = opts.getClosureDepth();
+		int chainPos = mthIdx % (depth + 1);
+		boolean hasChild = chainPos < depth && mthIdx + 1 < opts.getMethodsPerClass();
+
+		for (int r = 0; r < REGS_COUNT; r++) {
+			code.op(LDAI).u32(rnd.nextInt(100));
+			code.op(STA).u8(r);
+		}
+		if (chainPos > 0) {
+			// read variable from parent function environment
+			code.op(LDLEXVAR).u8(0);
+			code.op(STA).u8(1);
+			if (!hasChild && chainPos > 1) {
+				// and from top level function environment
+				code.op(LDLEXVAR).u8(chainPos - 1);
+				code.op(STA).u8(2);
+			}
+		}
+		int target = opts.getInsnsPerMethod();
+		int tryAt = rnd.nextDouble() < opts.getTryCatchRate() ? rnd.nextInt(Math.max(1, target)) : -1;
+		while (code.insns < target) {
+			if (tryAt != -1 && code.insns >= tryAt) {
+				code.tryBlock();
+				tryAt = -1;
+			} else {
+				code.snippet();
+			}
+		}
+		if (opts.isLinkedClasses() && mthIdx == 0 && regionClsIdx > 0) {
+			code.op(DEFINEFUNC).u8(code.nextIc()).u16(clsMthIdStart - opts.getMethodsPerClass()).u8(0);
+			code.op(STA).u8(5);
+		}
+		if (hasChild) {
+			code.op(NEWLEXENV).u8(1);
+			code.op(LDA).u8(0);
+			code.op(STLEXVAR).u8(0);
+			code.op(DEFINEFUNC).u8(code.nextIc()).u16(clsMthIdStart + mthIdx + 1).u8(0);
+			code.op(STA).u8(CALL_REG);
+			code.op(LDA).u8(CALL_REG);
+			code.op(CALLARG0).u8(code.nextIc());
+			code.op(STA).u8(5);
+			code.op(POPLEXENV);
+		}
+		if (opts.isThrowNotExists() && chainPos == 0) {
+			code.op(THROW_PREFIX).u8(THROW_NOTEXISTS);
+		}
+		code.op(LDA).u8(0);
+		code.op(RETURN);
+
+		int off = out.position();
+		AbcDataWriter insnsData = code.data;
+		out.uleb128(REGS_COUNT);
+		out.uleb128(ARGS_COUNT);
+		out.uleb128(insnsData.position());
+		out.uleb128(code.tries.size());
+		out.bytes(insnsData.getData(), 0, insnsData.position());
+		// catch type is index in region class table plus one, zero for catch all
+		int catchType = opts.isTypedCatches() ? regionClsIdx + 1 : 0;
+		for (int[] tryBlock : code.tries) {
+			out.uleb128(tryBlock[0]); // start pc
+			out.uleb128(tryBlock[1]); // length
+			out.uleb128(1); // catches count
+			out.uleb128(catchType);
+			out.uleb128(tryBlock[2]); // handler pc
+			out.uleb128(tryBlock[3]); // handler code size
+		}
+		insnsCount += code.insns;
+		tryBlocksCount += code.tries.size();
+		return off;
+	}
+
+	private final class MethodCode {
+		private final AbcDataWriter data = new AbcDataWriter(256);
+		private final List<int[]> tries = new ArrayList<>(1);
+		private final int literalIdStart;
+		private int insns;
+		private int ic;
+
+		MethodCode(int literalIdStart) {
+			this.literalIdStart = literalIdStart;
+		}
+
+		MethodCode op(int opcode) {
+			data.u8(opcode);
+			insns++;
+			return this;
+		}
+
+		MethodCode u8(int value) {
+			data.u8(value);
+			return this;
+		}
+
+		MethodCode u16(int value) {
+			data.u16(value);
+			return this;
+		}
+
+		MethodCode u32(int value) {
+			data.u32(value);
+			return this;
+		}
+
+		int nextIc() {
+			return ic++ & 0xFF;
+		}
+
+		int reg() {
+			return rnd.nextInt(CALL_REG);
+		}
+
+		int propId() {
+			return propsStart + rnd.nextInt(PROPERTY_NAMES.length);
+		}
+
+		void snippet() {
+			switch (rnd.nextInt(9)) {
+				case 0:
+					op(LDAI).u32(rnd.nextInt());
+					op(STA).u8(reg());
+					break;
+				case 1:
+					op(LDA_STR).u16(propId());
+					op(STA).u8(reg());
+					break;
+				case 2: {
+					int[] ops = { ADD2, SUB2, MUL2 };
+					op(LDA).u8(reg());
+					op(ops[rnd.nextInt(ops.length)]).u8(nextIc()).u8(reg());
+					op(STA).u8(reg());
+					break;
+				}
+				case 3:
+					op(LDA).u8(reg());
+					op(LDOBJBYNAME).u8(nextIc()).u16(propId());
+					op(STA).u8(reg());
+					break;
+				case 4:
+					op(LDA).u8(reg());
+					op(STOBJBYNAME).u8(nextIc()).u16(propId()).u8(reg());
+					break;
+				case 5:
+					op(TRYLDGLOBALBYNAME).u8(nextIc()).u16(globalsStart + rnd.nextInt(GLOBAL_NAMES.length));
+					op(CALLARG1).u8(nextIc()).u8(reg());
+					op(STA).u8(reg());
+					break;
+				case 6:
+					if (rnd.nextBoolean()) {
+						op(CREATEARRAYWITHBUFFER).u8(nextIc()).u16(literalIdStart);
+					} else {
+						op(CREATEOBJECTWITHBUFFER).u8(nextIc()).u16(literalIdStart + 1);
+					}
+					op(STA).u8(reg());
+					break;
+				case 7:
+					// if (a < b) { c = k }
+					op(LDA).u8(reg());
+					op(LESS).u8(nextIc()).u8(reg());
+					op(JEQZ).u8(2 + 5 + 2); // jeqz, ldai, sta
+					op(LDAI).u32(rnd.nextInt(100));
+					op(STA).u8(reg());
+					break;
+				default:
+					op(MOV).u8(reg()).u8(reg());
+					break;
+			}
+		}
+
+		void tryBlock() {
+			int start = data.position();
+			int count = 1 + rnd.nextInt(3);
+			for (int i = 0; i < count; i++) {
+				snippet();
+			}
+			op(JMP).u8(2 + 6); // jmp, handler
+			int handler = data.position();
+			op(STA).u8(EXC_REG);
+			op(LDA).u8(EXC_REG);
+			op(STA).u8(reg());
+			int handlerSize = data.position() - handler;
+			tries.add(new int[] { start, handler - start, handler, handlerSize });
+		}
+	}
+
+	private void writeHeader(int classIdxOff, int literalArrayIdxOff, int indexSectionOff) {
+		int fileSize = out.position();
+		byte[] data = out.getData();
+		System.arraycopy(MAGIC, 0, data, 0, MAGIC.length);
+		System.arraycopy(VERSION, 0, data, 12, VERSION.length);
+		out.putU32(16, fileSize);
+		out.putU32(20, HEADER_SIZE); // foreign_off
+		out.putU32(24, 0); // foreign_size
+		out.putU32(28, classOffsets.size());
+		out.putU32(32, classIdxOff);
+		out.putU32(36, 0); // line number programs
+		out.putU32(40, classIdxOff);
+		out.putU32(44, literalArrayOffsets.size());
+		out.putU32(48, literalArrayIdxOff);
+		out.putU32(52, regionHeaders.size());
+		out.putU32(56, indexSectionOff);
+		out.putU32(CHECKSUM_OFF, out.checksum(CHECKSUM_OFF + 4));
+	}
+}
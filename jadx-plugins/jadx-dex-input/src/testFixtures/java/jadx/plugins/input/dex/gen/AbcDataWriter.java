@@ -0,0 +1,110 @@
+package jadx.plugins.input.dex.gen;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Adler32;
+
+/**
+ * Growable little-endian byte buffer with support for values patching
+ */
+final class AbcDataWriter {
+	private byte[] data;
+	private int pos;
+
+	AbcDataWriter(int initialSize) {
+		this.data = new byte[Math.max(initialSize, 1024)];
+	}
+
+	int position() {
+		return pos;
+	}
+
+	void u8(int value) {
+		ensure(1);
+		data[pos++] = (byte) value;
+	}
+
+	void u16(int value) {
+		ensure(2);
+		data[pos++] = (byte) value;
+		data[pos++] = (byte) (value >>> 8);
+	}
+
+	void u32(int value) {
+		ensure(4);
+		putU32(pos, value);
+		pos += 4;
+	}
+
+	void u64(long value) {
+		u32((int) value);
+		u32((int) (value >>> 32));
+	}
+
+	void uleb128(int value) {
+		int v = value;
+		while ((v & ~0x7F) != 0) {
+			u8((v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		u8(v);
+	}
+
+	void bytes(byte[] bytes) {
+		bytes(bytes, 0, bytes.length);
+	}
+
+	void bytes(byte[] bytes, int off, int len) {
+		ensure(len);
+		System.arraycopy(bytes, off, data, pos, len);
+		pos += len;
+	}
+
+	/**
+	 * Write string data item: utf16 length with 'is ascii' flag, MUTF-8 bytes and zero terminator.
+	 * Only ascii strings supported.
+	 */
+	void string(String str) {
+		byte[] bytes = str.getBytes(StandardCharsets.US_ASCII);
+		uleb128(bytes.length << 1 | 1);
+		bytes(bytes);
+		u8(0);
+	}
+
+	void align(int alignment) {
+		while (pos % alignment != 0) {
+			u8(0);
+		}
+	}
+
+	void putU32(int offset, int value) {
+		data[offset] = (byte) value;
+		data[offset + 1] = (byte) (value >>> 8);
+		data[offset + 2] = (byte) (value >>> 16);
+		data[offset + 3] = (byte) (value >>> 24);
+	}
+
+	/**
+	 * Adler32 checksum of data starting from offset
+	 */
+	int checksum(int offset) {
+		Adler32 adler32 = new Adler32();
+		adler32.update(data, offset, pos - offset);
+		return (int) adler32.getValue();
+	}
+
+	byte[] getData() {
+		return data;
+	}
+
+	private void ensure(int size) {
+		int required = pos + size;
+		if (required < 0) {
+			throw new IllegalStateException("Abc file size limit exceeded");
+		}
+		if (required > data.length) {
+			long newSize = Math.max((long) data.length * 3 / 2, required);
+			data = Arrays.copyOf(data, (int) Math.min(newSize, Integer.MAX_VALUE - 8));
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package jadx.plugins.input.dex.gen;
+
+/**
+ * Shape of generated abc file
+ */
+public class AbcGenOptions {
+	private long seed = 1;
+	private int classesCount = 100;
+	private int methodsPerClass = 10;
+	private int insnsPerMethod = 40;
+	/**
+	 * Probability of try/catch block in method (0 - 1)
+	 */
+	private double tryCatchRate = 0.2;
+	/**
+	 * Nesting depth of closures (functions defined inside functions with own lexical environment),
+	 * zero to generate only top level functions
+	 */
+	private int closureDepth = 2;
+	/**
+	 * Count of elements in array and object literals
+	 */
+	private int literalArraySize = 8;
+	/**
+	 * Number of class generated with different content, -1 for none.
+	 * Used to produce two versions of corpus which differ only in one class.
+	 */
+	private int alteredClass = -1;
+	/**
+	 * Use class types (current class) in catch blocks instead of catch all
+	 */
+	private boolean typedCatches;
+	/**
+	 * Add 'throw.notexists' instruction (no operands, prefixed opcode) at end of top level functions
+	 */
+	private boolean throwNotExists;
+	/**
+	 * Top level function of class defines function of previous class in same region (usage between classes)
+	 */
+	private boolean linkedClasses;
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	public int getClassesCount() {
+		return classesCount;
+	}
+
+	public void setClassesCount(int classesCount) {
+		this.classesCount = classesCount;
+	}
+
+	public int getMethodsPerClass() {
+		return methodsPerClass;
+	}
+
+	public void setMethodsPerClass(int methodsPerClass) {
+		this.methodsPerClass = methodsPerClass;
+	}
+
+	public int getInsnsPerMethod() {
+		return insnsPerMethod;
+	}
+
+	public void setInsnsPerMethod(int insnsPerMethod) {
+		this.insnsPerMethod = insnsPerMethod;
+	}
+
+	public double getTryCatchRate() {
+		return tryCatchRate;
+	}
+
+	public void setTryCatchRate(double tryCatchRate) {
+		this.tryCatchRate = tryCatchRate;
+	}
+
+	public int getClosureDepth() {
+		return closureDepth;
+	}
+
+	public void setClosureDepth(int closureDepth) {
+		this.closureDepth = closureDepth;
+	}
+
+	public int getLiteralArraySize() {
+		return literalArraySize;
+	}
+
+	public void setLiteralArraySize(int literalArraySize) {
+		this.literalArraySize = literalArraySize;
+	}
+
+	public int getAlteredClass() {
+		return alteredClass;
+	}
+
+	public void setAlteredClass(int alteredClass) {
+		this.alteredClass = alteredClass;
+	}
+
+	public boolean isTypedCatches() {
+		return typedCatches;
+	}
+
+	public void setTypedCatches(boolean typedCatches) {
+		this.typedCatches = typedCatches;
+	}
+
+	public boolean isThrowNotExists() {
+		return throwNotExists;
+	}
+
+	public void setThrowNotExists(boolean throwNotExists) {
+		this.throwNotExists = throwNotExists;
+	}
+
+	public boolean isLinkedClasses() {
+		return linkedClasses;
+	}
+
+	public void setLinkedClasses(boolean linkedClasses) {
+		this.linkedClasses = linkedClasses;
+	}
+
+	public long getTotalMethodsCount() {
+		return (long) classesCount * methodsPerClass;
+	}
+
+	public void validate() {
+		check(classesCount > 0, "classes count should be positive");
+		check(methodsPerClass > 0, "methods per class should be positive");
+		check(insnsPerMethod > 0, "instructions per method should be positive");
+		check(tryCatchRate >= 0 && tryCatchRate <= 1, "try/catch rate should be in range [0, 1]");
+		check(closureDepth >= 0 && closureDepth <= 15, "closure depth should be in range [0, 15]");
+		check(literalArraySize >= 0 && literalArraySize <= 0xFFFF, "literal array size should be in range [0, 65535]");
+	}
+
+	private static void check(boolean condition, String msg) {
+		if (!condition) {
+			throw new IllegalArgumentException("Invalid options: " + msg);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "AbcGenOptions{seed=" + seed
+				+ ", classes=" + classesCount
+				+ ", methodsPerClass=" + methodsPerClass
+				+ ", insnsPerMethod=" + insnsPerMethod
+				+ ", tryCatchRate=" + tryCatchRate
+				+ ", closureDepth=" + closureDepth
+				+ ", literalArraySize=" + literalArraySize
+				+ (alteredClass != -1 ? ", alteredClass=" + alteredClass : "")
+				+ (linkedClasses ? ", linkedClasses" : "")
+				+ (throwNotExists ? ", throwNotExists" : "")
+				+ (typedCatches ? ", typedCatches" : "")
+				+ '}';
+	}
+}
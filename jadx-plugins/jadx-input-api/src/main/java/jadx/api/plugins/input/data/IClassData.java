@@ -25,4 +25,13 @@ public interface IClassData {
 	List<IJadxAttribute> getAttributes();
 
 	String getDisassembledCode();
+
+	/**
+	 * Hash of class content, should change on any modification which can affect decompiled code.
+	 * Used for caching, return null if not supported.
+	 */
+	@Nullable
+	default String getContentHash() {
+		return null;
+	}
 }
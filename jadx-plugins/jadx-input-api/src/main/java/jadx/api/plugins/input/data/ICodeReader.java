@@ -24,4 +24,12 @@ public interface ICodeReader {
 	int getCodeOffset();
 
 	List<ITry> getTries();
+
+	/**
+	 * Hash of method code, see {@link IClassData#getContentHash()}
+	 */
+	@Nullable
+	default String getContentHash() {
+		return null;
+	}
 }
@@ -9,6 +9,7 @@
 include("jadx-gui")
 
 include("jadx-plugins-tools")
+include("jadx-benchmarks")
 
 include("jadx-commons:jadx-app-commons")
 